@@ -90,6 +90,18 @@ public class FxKeyboardRobot implements FxRobotKeyboardInterface {
         return this;
     }
 
+    @Override
+    public FxKeyboardRobot writeBulk(String text) {
+        context.getWriteRobot().writeBulk(text);
+        return this;
+    }
+
+    @Override
+    public FxKeyboardRobot insertText(String text) {
+        context.getWriteRobot().insertText(text);
+        return this;
+    }
+
     @Override
     public FxKeyboardRobot eraseText(int amount) {
         return type(KeyCode.BACK_SPACE, amount);
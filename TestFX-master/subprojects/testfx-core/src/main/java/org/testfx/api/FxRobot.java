@@ -42,7 +42,10 @@ import javafx.scene.input.MouseButton;
 import javafx.stage.Window;
 
 import org.hamcrest.Matcher;
+import org.testfx.robot.InputMacro;
+import org.testfx.robot.KeySequence;
 import org.testfx.robot.Motion;
+import org.testfx.robot.ScrollUnit;
 import org.testfx.service.locator.PointLocator;
 import org.testfx.service.query.BoundsQuery;
 import org.testfx.service.query.NodeQuery;
@@ -66,6 +69,13 @@ public class FxRobot implements FxRobotInterface {
         context = new FxRobotContext();
     }
 
+    /**
+     * Creates a robot that uses the given context, e.g. one from {@link FxRobotContext#isolatedTo(Window)}.
+     */
+    public FxRobot(FxRobotContext context) {
+        this.context = context;
+    }
+
     /**
      * Returns the internal context.
      */
@@ -459,6 +469,12 @@ public class FxRobot implements FxRobotInterface {
         return this;
     }
 
+    @Override
+    public FxRobot type(KeySequence sequence) {
+        context.getTypeRobot().type(sequence);
+        return this;
+    }
+
     /**
      * @deprecated The implementation of this method simply pushes the keys ALT+F4 which
      * does not close the current window on all platforms.
@@ -480,6 +496,12 @@ public class FxRobot implements FxRobotInterface {
         return this;
     }
 
+    @Override
+    public FxRobot play(InputMacro macro) {
+        context.getInputMacroRobot().play(macro);
+        return this;
+    }
+
     @Override
     @Deprecated
     public FxRobot scroll(int amount) {
@@ -511,6 +533,24 @@ public class FxRobot implements FxRobotInterface {
         return this;
     }
 
+    @Override
+    public FxRobot scroll(double deltaX, double deltaY, ScrollUnit unit) {
+        context.getScrollRobot().scrollBy(deltaX, deltaY, unit);
+        return this;
+    }
+
+    @Override
+    public FxRobot scrollUntilVisible(Node node) {
+        context.getScrollRobot().scrollUntilVisible(node);
+        return this;
+    }
+
+    @Override
+    public FxRobot scrollUntilVisible(String query, VerticalDirection direction) {
+        context.getScrollRobot().scrollUntilVisible(() -> lookup(query).match(isVisible()).tryQuery(), direction);
+        return this;
+    }
+
     @Override
     public FxRobot press(KeyCode... keys) {
         context.getKeyboardRobot().press(keys);
@@ -16,11 +16,14 @@
  */
 package org.testfx.api;
 
+import java.util.function.Predicate;
 import javafx.geometry.Pos;
+import javafx.stage.Window;
 
 import org.testfx.robot.BaseRobot;
 import org.testfx.robot.ClickRobot;
 import org.testfx.robot.DragRobot;
+import org.testfx.robot.InputMacroRobot;
 import org.testfx.robot.KeyboardRobot;
 import org.testfx.robot.MouseRobot;
 import org.testfx.robot.MoveRobot;
@@ -31,25 +34,31 @@ import org.testfx.robot.WriteRobot;
 import org.testfx.robot.impl.BaseRobotImpl;
 import org.testfx.robot.impl.ClickRobotImpl;
 import org.testfx.robot.impl.DragRobotImpl;
+import org.testfx.robot.impl.InputMacroRobotImpl;
 import org.testfx.robot.impl.KeyboardRobotImpl;
 import org.testfx.robot.impl.MouseRobotImpl;
 import org.testfx.robot.impl.MoveRobotImpl;
 import org.testfx.robot.impl.ScrollRobotImpl;
-import org.testfx.robot.impl.SleepRobotImpl;
 import org.testfx.robot.impl.TypeRobotImpl;
 import org.testfx.robot.impl.WriteRobotImpl;
+import org.testfx.service.adapter.impl.InjectingRobotAdapter;
 import org.testfx.service.finder.NodeFinder;
 import org.testfx.service.finder.WindowFinder;
+import org.testfx.service.finder.impl.NodeFinderImpl;
+import org.testfx.service.finder.impl.WindowFinderImpl;
 import org.testfx.service.locator.BoundsLocator;
 import org.testfx.service.locator.PointLocator;
-import org.testfx.service.locator.impl.BoundsLocatorImpl;
-import org.testfx.service.locator.impl.PointLocatorImpl;
 import org.testfx.service.support.CaptureSupport;
 import org.testfx.service.support.impl.CaptureSupportImpl;
+import org.testfx.util.WindowQueryUtils;
 
 /**
  * Stores the robot implementations, the window and node finders, position calculators, and capture support for
  * {@link FxRobot}.
+ * <p>
+ * The stateless services (the base robot with its robot adapter, the sleep robot, the locators, capture support and
+ * the finders) are taken from {@link FxService#serviceContext()} and shared by all contexts, whereas the robots
+ * that keep state, such as the pressed keys and mouse buttons, are created for each context.
  */
 public class FxRobotContext {
 
@@ -67,28 +76,56 @@ public class FxRobotContext {
     private final ScrollRobot scrollRobot;
     private final TypeRobot typeRobot;
     private final WriteRobot writeRobot;
+    private final InputMacroRobot inputMacroRobot;
     private final CaptureSupport captureSupport;
     private Pos pointPosition;
 
     public FxRobotContext() {
-        windowFinder = FxService.serviceContext().getWindowFinder();
-        nodeFinder = FxService.serviceContext().getNodeFinder();
-        boundsLocator = new BoundsLocatorImpl();
-        pointLocator = new PointLocatorImpl(boundsLocator);
-        baseRobot = new BaseRobotImpl();
+        this(FxService.serviceContext());
+    }
+
+    private FxRobotContext(FxServiceContext serviceContext) {
+        this(serviceContext.getWindowFinder(), serviceContext.getNodeFinder(), serviceContext.getBaseRobot(),
+                serviceContext.getCaptureSupport(), serviceContext);
+    }
+
+    private FxRobotContext(WindowFinder windowFinder, NodeFinder nodeFinder, BaseRobot baseRobot,
+                           CaptureSupport captureSupport, FxServiceContext serviceContext) {
+        this.windowFinder = windowFinder;
+        this.nodeFinder = nodeFinder;
+        this.baseRobot = baseRobot;
+        this.captureSupport = captureSupport;
+        boundsLocator = serviceContext.getBoundsLocator();
+        pointLocator = serviceContext.getPointLocator();
+        sleepRobot = serviceContext.getSleepRobot();
         keyboardRobot = new KeyboardRobotImpl(baseRobot);
         mouseRobot = new MouseRobotImpl(baseRobot);
-        sleepRobot = new SleepRobotImpl();
         typeRobot = new TypeRobotImpl(keyboardRobot, sleepRobot);
         writeRobot = new WriteRobotImpl(baseRobot, sleepRobot, windowFinder);
         moveRobot = new MoveRobotImpl(baseRobot, mouseRobot, sleepRobot);
         clickRobot = new ClickRobotImpl(mouseRobot, moveRobot, sleepRobot);
         dragRobot = new DragRobotImpl(mouseRobot, moveRobot);
-        scrollRobot = new ScrollRobotImpl(mouseRobot);
-        captureSupport = new CaptureSupportImpl(baseRobot);
+        scrollRobot = new ScrollRobotImpl(mouseRobot, boundsLocator);
+        inputMacroRobot = new InputMacroRobotImpl(baseRobot, keyboardRobot, mouseRobot, sleepRobot, nodeFinder,
+                pointLocator, windowFinder);
         pointPosition = Pos.CENTER;
     }
 
+    /**
+     * Creates a context whose finders and robots only see the given window and the windows it owns, so that
+     * several tests can each drive their own stage at the same time. Input is injected as JavaFX events into
+     * these windows (see {@link InjectingRobotAdapter#InjectingRobotAdapter(java.util.function.Predicate)})
+     * instead of going through the single OS cursor and keyboard focus.
+     */
+    public static FxRobotContext isolatedTo(Window window) {
+        Predicate<Window> windowFilter = WindowQueryUtils.isOwnedBy(window);
+        WindowFinder windowFinder = new WindowFinderImpl(windowFilter);
+        windowFinder.targetWindow(window);
+        BaseRobot baseRobot = new BaseRobotImpl(new InjectingRobotAdapter(windowFilter));
+        return new FxRobotContext(windowFinder, new NodeFinderImpl(windowFinder), baseRobot,
+                new CaptureSupportImpl(baseRobot), FxService.serviceContext());
+    }
+
     public WindowFinder getWindowFinder() {
         return windowFinder;
     }
@@ -153,6 +190,10 @@ public class FxRobotContext {
         return writeRobot;
     }
 
+    public InputMacroRobot getInputMacroRobot() {
+        return inputMacroRobot;
+    }
+
     public CaptureSupport getCaptureSupport() {
         return captureSupport;
     }
@@ -28,6 +28,7 @@ import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
+import javafx.geometry.VerticalDirection;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
@@ -36,6 +37,9 @@ import javafx.scene.input.MouseButton;
 import javafx.stage.Window;
 
 import org.hamcrest.Matcher;
+import org.testfx.robot.InputMacro;
+import org.testfx.robot.KeySequence;
+import org.testfx.robot.ScrollUnit;
 import org.testfx.service.finder.NodeFinder;
 import org.testfx.service.finder.WindowFinder;
 import org.testfx.service.query.BoundsQuery;
@@ -504,6 +508,11 @@ public interface FxRobotInterface {
      */
     FxRobotInterface sleep(long duration, TimeUnit timeUnit);
 
+    /**
+     * Calls {@link org.testfx.robot.InputMacroRobot#play(InputMacro)} and returns itself for more method chaining.
+     */
+    FxRobotInterface play(InputMacro macro);
+
     /**
      * Calls {@link org.testfx.robot.DragRobot#drag(MouseButton...)} and returns itself for more method chaining.
      */
@@ -675,4 +684,29 @@ public interface FxRobotInterface {
      */
     FxRobotInterface type(KeyCode key, int times);
 
+    /**
+     * Calls {@link org.testfx.robot.TypeRobot#type(KeySequence)} and returns itself for more method chaining.
+     */
+    FxRobotInterface type(KeySequence sequence);
+
+    /**
+     * Calls {@link org.testfx.robot.ScrollRobot#scrollBy(double, double, ScrollUnit)} and returns itself for more
+     * method chaining.
+     */
+    FxRobotInterface scroll(double deltaX, double deltaY, ScrollUnit unit);
+
+    /**
+     * Calls {@link org.testfx.robot.ScrollRobot#scrollUntilVisible(Node)} and returns itself for more method
+     * chaining.
+     */
+    FxRobotInterface scrollUntilVisible(Node node);
+
+    /**
+     * Scrolls the node under the mouse in the given direction until a visible node matching the given query
+     * exists and is scrolled into view (see
+     * {@link org.testfx.robot.ScrollRobot#scrollUntilVisible(java.util.function.Supplier, VerticalDirection)}),
+     * and returns itself for more method chaining.
+     */
+    FxRobotInterface scrollUntilVisible(String query, VerticalDirection direction);
+
 }
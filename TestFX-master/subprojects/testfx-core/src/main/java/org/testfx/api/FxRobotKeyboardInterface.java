@@ -69,6 +69,16 @@ public interface FxRobotKeyboardInterface {
      */
     FxRobotKeyboardInterface write(String text, int sleepMillis);
 
+    /**
+     * Calls {@link org.testfx.robot.WriteRobot#writeBulk(String)} and returns itself for more method chaining.
+     */
+    FxRobotKeyboardInterface writeBulk(String text);
+
+    /**
+     * Calls {@link org.testfx.robot.WriteRobot#insertText(String)} and returns itself for more method chaining.
+     */
+    FxRobotKeyboardInterface insertText(String text);
+
     /**
      * Convenience method: Calls {@link org.testfx.robot.TypeRobot#type(KeyCode, int)} with {@link KeyCode#BACK_SPACE}
      * and returns itself for more method chaining.
@@ -18,20 +18,32 @@ package org.testfx.api;
 
 /**
  * Wrapper class that holds a static {@link FxServiceContext} via {@link #serviceContext()} that is lazily created.
+ * The context is created at most once, even if several threads ask for it at the same time. Its
+ * {@link FxServiceContext#getScreenshotWriter() screenshot writer} is closed when the JVM shuts down, so that
+ * queued screenshots are still written.
  */
 public final class FxService {
 
-    private static FxServiceContext context;
+    private static volatile FxServiceContext context;
 
     private FxService() {
         throw new UnsupportedOperationException();
     }
 
     public static FxServiceContext serviceContext() {
-        if (context == null) {
-            context = new FxServiceContext();
+        FxServiceContext serviceContext = context;
+        if (serviceContext == null) {
+            synchronized (FxService.class) {
+                serviceContext = context;
+                if (serviceContext == null) {
+                    serviceContext = new FxServiceContext();
+                    Runtime.getRuntime().addShutdownHook(new Thread(serviceContext.getScreenshotWriter()::close,
+                            "testfx-screenshot-writer-shutdown"));
+                    context = serviceContext;
+                }
+            }
         }
-        return context;
+        return serviceContext;
     }
 
 }
@@ -17,13 +17,24 @@
 package org.testfx.api;
 
 import org.testfx.robot.BaseRobot;
+import org.testfx.robot.SleepRobot;
 import org.testfx.robot.impl.BaseRobotImpl;
+import org.testfx.robot.impl.SleepRobotImpl;
 import org.testfx.service.finder.NodeFinder;
 import org.testfx.service.finder.WindowFinder;
 import org.testfx.service.finder.impl.NodeFinderImpl;
 import org.testfx.service.finder.impl.WindowFinderImpl;
+import org.testfx.service.locator.BoundsLocator;
+import org.testfx.service.locator.PointLocator;
+import org.testfx.service.locator.impl.BoundsLocatorImpl;
+import org.testfx.service.locator.impl.CachingBoundsLocator;
+import org.testfx.service.locator.impl.PointLocatorImpl;
+import org.testfx.service.support.BaselineStore;
 import org.testfx.service.support.CaptureSupport;
+import org.testfx.service.support.ScreenshotWriter;
+import org.testfx.service.support.impl.BaselineStoreImpl;
 import org.testfx.service.support.impl.CaptureSupportImpl;
+import org.testfx.service.support.impl.ScreenshotWriterImpl;
 
 
 /**
@@ -32,15 +43,26 @@ import org.testfx.service.support.impl.CaptureSupportImpl;
  *     <li>a {@link WindowFinder}</li>
  *     <li>a {@link NodeFinder}</li>
  *     <li>a {@link BaseRobot}</li>
+ *     <li>a {@link SleepRobot}</li>
+ *     <li>a {@link BoundsLocator} and a {@link PointLocator}</li>
  *     <li>{@link CaptureSupport}</li>
+ *     <li>a {@link ScreenshotWriter}</li>
+ *     <li>a {@link BaselineStore}</li>
  * </ul>
+ * The robot and the locators are shared by all {@link FxRobotContext}s created with
+ * {@link FxRobotContext#FxRobotContext()}, so that the robot adapter is only created once.
  */
 public class FxServiceContext {
 
     private final WindowFinder windowFinder = new WindowFinderImpl();
     private final NodeFinder nodeFinder = new NodeFinderImpl(windowFinder);
     private final BaseRobot baseRobot = new BaseRobotImpl();
+    private final SleepRobot sleepRobot = new SleepRobotImpl();
+    private final BoundsLocator boundsLocator = new CachingBoundsLocator(new BoundsLocatorImpl());
+    private final PointLocator pointLocator = new PointLocatorImpl(boundsLocator);
     private final CaptureSupport captureSupport = new CaptureSupportImpl(baseRobot);
+    private final ScreenshotWriter screenshotWriter = new ScreenshotWriterImpl();
+    private final BaselineStore baselineStore = new BaselineStoreImpl();
 
     public WindowFinder getWindowFinder() {
         return windowFinder;
@@ -54,8 +76,28 @@ public class FxServiceContext {
         return baseRobot;
     }
 
+    public SleepRobot getSleepRobot() {
+        return sleepRobot;
+    }
+
+    public BoundsLocator getBoundsLocator() {
+        return boundsLocator;
+    }
+
+    public PointLocator getPointLocator() {
+        return pointLocator;
+    }
+
     public CaptureSupport getCaptureSupport() {
         return captureSupport;
     }
 
+    public ScreenshotWriter getScreenshotWriter() {
+        return screenshotWriter;
+    }
+
+    public BaselineStore getBaselineStore() {
+        return baselineStore;
+    }
+
 }
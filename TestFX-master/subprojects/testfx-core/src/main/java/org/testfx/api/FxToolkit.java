@@ -16,6 +16,8 @@
  */
 package org.testfx.api;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
@@ -31,9 +33,13 @@ import javafx.stage.Window;
 
 import org.testfx.toolkit.ApplicationLauncher;
 import org.testfx.toolkit.ApplicationService;
+import org.testfx.toolkit.ApplicationSnapshot;
+import org.testfx.toolkit.StagePool;
 import org.testfx.toolkit.ToolkitService;
+import org.testfx.toolkit.ToolkitState;
 import org.testfx.toolkit.impl.ApplicationLauncherImpl;
 import org.testfx.toolkit.impl.ApplicationServiceImpl;
+import org.testfx.toolkit.impl.StagePoolImpl;
 import org.testfx.toolkit.impl.ToolkitServiceImpl;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -94,6 +100,9 @@ public final class FxToolkit {
     private static final ApplicationService APP_SERVICE = new ApplicationServiceImpl();
     private static final FxToolkitContext CONTEXT = new FxToolkitContext();
     private static final ToolkitService SERVICE = new ToolkitServiceImpl(APP_LAUNCHER, APP_SERVICE);
+    private static final StagePool STAGE_POOL = new StagePoolImpl();
+
+    private static volatile Stage registeredPooledStage;
 
     private FxToolkit() {}
 
@@ -112,6 +121,17 @@ public final class FxToolkit {
         return primaryStage;
     }
 
+    /**
+     * Starts launching the {@link org.testfx.toolkit.PrimaryStageApplication} in the background and returns
+     * immediately, so that the toolkit comes up while tests are still being loaded. A later call to
+     * {@link #registerPrimaryStage()} waits for the same launch. Any headless-related system properties must
+     * be set before calling this.
+     */
+    public static void prestartToolkit() {
+        SERVICE.setupPrimaryStage(CONTEXT.getPrimaryStageFuture(),
+                CONTEXT.getApplicationClass(), CONTEXT.getApplicationArgs());
+    }
+
     /**
      * Runs the stageSupplier on the {@code JavaFX Application Thread}, registers the supplied stage,
      * and returns that stage.
@@ -124,6 +144,45 @@ public final class FxToolkit {
         return stage;
     }
 
+    /**
+     * Acquires an already shown stage from the {@link #stagePool() stage pool}, registers it, and returns it.
+     * Release it with {@link #cleanupAfterTest(FxRobot, boolean, Application)}, {@link #releasePooledStages()} (or
+     * {@link StagePool#release(Stage)}) once the test is done, instead of hiding it. Requires the toolkit to be
+     * launched, e.g. by {@link #registerPrimaryStage()}.
+     *
+     * @throws TimeoutException if execution is not finished before {@link FxToolkitContext#getSetupTimeoutInMillis()}
+     */
+    public static Stage registerPooledStage() throws TimeoutException {
+        Stage stage = STAGE_POOL.acquire();
+        CONTEXT.setRegisteredStage(stage);
+        registeredPooledStage = stage;
+        return stage;
+    }
+
+    /**
+     * Returns all stages acquired from the {@link #stagePool() stage pool} to it.
+     *
+     * @throws TimeoutException if execution is not finished before {@link FxToolkitContext#getSetupTimeoutInMillis()}
+     */
+    public static void releasePooledStages() throws TimeoutException {
+        registeredPooledStage = null;
+        STAGE_POOL.releaseAll();
+    }
+
+    /**
+     * Registers the stage a test's application is started on: the primary stage like {@link #registerPrimaryStage()},
+     * or, if {@link FxToolkitContext#isStagePoolEnabled()} (system property {@code testfx.stage_pool}), a stage of
+     * the {@link #stagePool() stage pool} like {@link #registerPooledStage()}. The pooled stage is released by
+     * {@link #cleanupAfterTest(FxRobot, boolean, Application)}, so that it is never hidden and shown again between
+     * tests.
+     *
+     * @throws TimeoutException if execution is not finished before {@link FxToolkitContext#getLaunchTimeoutInMillis()}
+     */
+    public static Stage registerTestStage() throws TimeoutException {
+        Stage primaryStage = registerPrimaryStage();
+        return CONTEXT.isStagePoolEnabled() ? registerPooledStage() : primaryStage;
+    }
+
     /**
      * Sets up the registered stage by passing it into the given {@code stageConsumer} on the
      * {@code JavaFX Application Thread} and returns the stage once finished.
@@ -153,6 +212,18 @@ public final class FxToolkit {
         return waitForSetup(SERVICE.setupApplication(CONTEXT::getRegisteredStage, applicationSupplier));
     }
 
+    /**
+     * Sets up the supplied application on the given stage (instead of the registered stage) and returns that
+     * application once finished. Unlike the other setup methods, this does not depend on the registered stage,
+     * so it may be called for several stages at the same time.
+     *
+     * @throws TimeoutException if execution is not finished before {@link FxToolkitContext#getSetupTimeoutInMillis()}
+     */
+    public static Application setupApplication(Stage stage, Supplier<Application> applicationSupplier)
+            throws TimeoutException {
+        return waitForSetup(SERVICE.setupApplication(() -> stage, applicationSupplier));
+    }
+
     /**
      * Performs the clean up of the application. This is done by calling
      * {@link ToolkitService#cleanupApplication(Application)} (which usually
@@ -170,6 +241,59 @@ public final class FxToolkit {
         }
     }
 
+    /**
+     * Tears down a test with two synchronizations with the FX event queue instead of one per step. First, all keys
+     * and mouse buttons still pressed by the given robot are released from the calling thread (the OS-level robots
+     * must not be driven from the {@code JavaFX Application Thread}), and the FX event queue is waited for, so
+     * that the application still receives the release events. Then, in a single task on the
+     * {@code JavaFX Application Thread}, the windows are hidden like {@link #cleanupStages()} if
+     * {@code hideWindows} is set, and the application is stopped like {@link #cleanupApplication(Application)} if
+     * it is not {@literal null}. A registered stage of the {@link #stagePool() stage pool}, see
+     * {@link #registerTestStage()}, is released to the pool instead of being hidden.
+     *
+     * @param robot the robot whose pressed keys and buttons are released
+     * @param hideWindows whether to hide the windows like {@link #cleanupStages()}
+     * @param application the application to stop, or {@literal null}
+     * @throws TimeoutException if teardown is not finished before {@link FxToolkitContext#getSetupTimeoutInMillis()}
+     *      or the FX Application Thread is not running
+     */
+    public static void cleanupAfterTest(FxRobot robot, boolean hideWindows, Application application)
+            throws TimeoutException {
+        if (!isFXApplicationThreadRunning()) {
+            throw new TimeoutException("FX Application Thread not running");
+        }
+        robot.robotContext().getKeyboardRobot().releaseNoWait();
+        robot.robotContext().getMouseRobot().releaseNoWait();
+        waitForFxEvents();
+        Stage pooledStage = registeredPooledStage;
+        if (pooledStage != null && (pooledStage != CONTEXT.getRegisteredStage() || STAGE_POOL.isIdle(pooledStage))) {
+            pooledStage = null;
+        }
+        if (!hideWindows && application == null && pooledStage == null) {
+            return;
+        }
+        Stage releasedStage = pooledStage;
+        try {
+            waitForSetup(SERVICE.setupFixture(() -> {
+                if (hideWindows) {
+                    getWindows().stream()
+                            .filter(window -> window != releasedStage && !STAGE_POOL.isIdle(window))
+                            .forEach(Window::hide);
+                }
+                if (application != null) {
+                    application.stop();
+                }
+                return null;
+            }));
+        }
+        finally {
+            if (releasedStage != null) {
+                registeredPooledStage = null;
+                STAGE_POOL.release(releasedStage);
+            }
+        }
+    }
+
     /**
      * Runs the {@code sceneSupplier} on the {@code JavaFX Application Thread}, sets the registered stage's scene to the
      * supplied scene, and returns the supplied scene once finished.
@@ -223,10 +347,56 @@ public final class FxToolkit {
 
     /**
      * Runs on the {@code JavaFX Application Thread}: Hides all windows returned from
-     * {@link org.testfx.internal.JavaVersionAdapter#getWindows()} and returns once finished.
+     * {@link org.testfx.internal.JavaVersionAdapter#getWindows()} and returns once finished. The idle stages of
+     * the {@link #stagePool() stage pool} are kept, as they are already parked off-screen.
      */
     public static void cleanupStages() throws TimeoutException {
-        setupFixture(() -> getWindows().forEach(Window::hide));
+        setupFixture(() -> getWindows().stream()
+                .filter(window -> !STAGE_POOL.isIdle(window))
+                .forEach(Window::hide));
+    }
+
+    /**
+     * Runs on the {@code JavaFX Application Thread}: Captures the registered stage and all other showing stages,
+     * and runs the given hooks, so that the application can later be reset with
+     * {@link #restoreApplication(ApplicationSnapshot)} instead of being set up again.
+     *
+     * @throws TimeoutException if execution is not finished before {@link FxToolkitContext#getSetupTimeoutInMillis()}
+     */
+    public static ApplicationSnapshot snapshotApplication(ApplicationSnapshot.StateHook... stateHooks)
+            throws TimeoutException {
+        return setupFixture(() -> {
+            Set<Stage> stages = new LinkedHashSet<>();
+            if (CONTEXT.getRegisteredStage() != null) {
+                stages.add(CONTEXT.getRegisteredStage());
+            }
+            getWindows().stream()
+                    .filter(window -> window instanceof Stage && window.isShowing() && !STAGE_POOL.isIdle(window))
+                    .forEach(window -> stages.add((Stage) window));
+            return ApplicationSnapshot.capture(stages, Arrays.asList(stateHooks));
+        });
+    }
+
+    /**
+     * Runs on the {@code JavaFX Application Thread}: Hides all windows that are not part of the given snapshot
+     * (except the idle stages of the {@link #stagePool() stage pool}), then restores the snapshot.
+     *
+     * @throws TimeoutException if execution is not finished before {@link FxToolkitContext#getSetupTimeoutInMillis()}
+     */
+    public static void restoreApplication(ApplicationSnapshot snapshot) throws TimeoutException {
+        setupFixture(() -> {
+            getWindows().stream()
+                    .filter(window -> !snapshot.contains(window) && !STAGE_POOL.isIdle(window))
+                    .forEach(Window::hide);
+            snapshot.restore();
+        });
+    }
+
+    /**
+     * Returns the shared pool of pre-shown stages, see {@link #registerPooledStage()}.
+     */
+    public static StagePool stagePool() {
+        return STAGE_POOL;
     }
 
     /**
@@ -247,17 +417,22 @@ public final class FxToolkit {
     }
 
     /**
-     * Detects if the JavaFx Application Thread is currently running.
+     * Detects if the JavaFx Application Thread is currently running. This is cheap enough to be polled, see
+     * {@link ToolkitState#isRunning()}.
      * @return {@literal true} if the FX Application Thread is running, false otherwise
      */
     public static boolean isFXApplicationThreadRunning() {
-        Set<Thread> threads = Thread.getAllStackTraces().keySet();
-        for (Thread thread : threads) {
-            if (thread.getName().equals("JavaFX Application Thread")) {
-                return true;
-            }
-        }
-        return false;
+        return ToolkitState.isRunning();
+    }
+
+    /**
+     * Waits until the JavaFX toolkit has been started, e.g. by {@link #registerPrimaryStage()} on another thread.
+     *
+     * @param timeoutInMillis the maximum number of milliseconds to wait
+     * @throws TimeoutException if the toolkit has not been started before the timeout is reached
+     */
+    public static void awaitToolkitReady(long timeoutInMillis) throws TimeoutException {
+        ToolkitState.awaitReady(timeoutInMillis, MILLISECONDS);
     }
 
 }
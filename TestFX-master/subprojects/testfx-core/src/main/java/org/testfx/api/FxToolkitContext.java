@@ -33,6 +33,7 @@ import org.testfx.toolkit.PrimaryStageApplication;
  *     <li>the registered {@link Stage}</li>
  *     <li>the timeout limit for launching an application</li>
  *     <li>the timeout limit for setting up a component</li>
+ *     <li>whether tests run on stages of the stage pool</li>
  * </ul>
  */
 public class FxToolkitContext {
@@ -68,6 +69,12 @@ public class FxToolkitContext {
      */
     private long setupTimeoutInMillis = Long.getLong("testfx.setup.timeout", 30000);
 
+    /**
+     * Whether {@link FxToolkit#registerTestStage()} registers a stage of the {@link FxToolkit#stagePool() stage
+     * pool} instead of the primary stage. Default value: {@literal false}
+     */
+    private boolean stagePoolEnabled = Boolean.getBoolean("testfx.stage_pool");
+
     public CompletableFuture<Stage> getPrimaryStageFuture() {
         return primaryStageFuture;
     }
@@ -116,4 +123,12 @@ public class FxToolkitContext {
         this.setupTimeoutInMillis = setupTimeoutInMillis;
     }
 
+    public boolean isStagePoolEnabled() {
+        return stagePoolEnabled;
+    }
+
+    public void setStagePoolEnabled(boolean stagePoolEnabled) {
+        this.stagePoolEnabled = stagePoolEnabled;
+    }
+
 }
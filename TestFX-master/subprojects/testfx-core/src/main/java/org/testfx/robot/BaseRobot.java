@@ -23,6 +23,10 @@ import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
 
+import org.testfx.service.adapter.impl.InjectingRobotAdapter;
+import org.testfx.service.query.PointQuery;
+import org.testfx.service.support.RawCapture;
+
 public interface BaseRobot {
 
     void pressKeyboard(KeyCode key);
@@ -33,6 +37,24 @@ public interface BaseRobot {
                       KeyCode key,
                       String character);
 
+    /**
+     * Types the given text into the given scene by firing the pressed, typed and released key events of all of
+     * its characters in a single hop to the JavaFX application thread.
+     * <p>
+     * The default implementation types the characters one by one with {@link #typeKeyboard(Scene, KeyCode, String)}.
+     *
+     * @param scene the scene to type into
+     * @param text the text to type
+     */
+    default void typeText(Scene scene, String text) {
+        for (char character : text.toCharArray()) {
+            KeyCode key = KeyCode.UNDEFINED;
+            key = (character == '\n') ? KeyCode.ENTER : key;
+            key = (character == '\t') ? KeyCode.TAB : key;
+            typeKeyboard(scene, key, Character.toString(character));
+        }
+    }
+
     /**
      *
      * @return the current mouse location
@@ -41,8 +63,39 @@ public interface BaseRobot {
 
     void moveMouse(Point2D point);
 
+    /**
+     * Resolves the given point query and moves the mouse to the resolved point. Unless the AWT robot is used,
+     * both happen in a single hop to the JavaFX application thread, so that the point is read from a consistent
+     * layout and no further round-trip is needed for the move.
+     * <p>
+     * The default implementation queries the point and then moves the mouse with {@link #moveMouse(Point2D)}.
+     *
+     * @param pointQuery the point query to resolve
+     * @return the point the mouse was moved to
+     */
+    default Point2D moveMouseTo(PointQuery pointQuery) {
+        Point2D point = pointQuery.query();
+        moveMouse(point);
+        return point;
+    }
+
     void scrollMouse(int amount);
 
+    /**
+     * Scrolls the node under the mouse by firing a single scroll event with the given deltas, which may be
+     * fractional. Positive deltas scroll right and down.
+     * <p>
+     * The default implementation injects the scroll event at {@link #retrieveMouse()}, as neither the AWT nor the
+     * Glass robot can scroll by arbitrary deltas.
+     *
+     * @param deltaX the horizontal delta
+     * @param deltaY the vertical delta
+     * @param unit the unit of the deltas
+     */
+    default void scrollMouse(double deltaX, double deltaY, ScrollUnit unit) {
+        new InjectingRobotAdapter().mouseScroll(retrieveMouse(), deltaX, deltaY, unit);
+    }
+
     void pressMouse(MouseButton button);
 
     void releaseMouse(MouseButton button);
@@ -54,4 +107,13 @@ public interface BaseRobot {
      */
     Image captureRegion(Rectangle2D region);
 
+    /**
+     *
+     * @param region the given bounds for the capture
+     * @return a screen capture of the given region as a buffer of pixels
+     */
+    default RawCapture captureRegionPixels(Rectangle2D region) {
+        return RawCapture.of(captureRegion(region));
+    }
+
 }
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javafx.geometry.Point2D;
+import javafx.geometry.Pos;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+
+/**
+ * A recorded sequence of robot operations that can be played back any number of times by an
+ * {@link InputMacroRobot}.
+ * <p>
+ * Operations are recorded with an {@link InputMacro.Recorder} into a compact binary form. Target queries
+ * (like {@code "#loginButton"}) are recorded as given and are only resolved during playback, so a macro
+ * does not hold on to nodes and can be shared between tests (for example in a {@code static final} field):
+ * <pre>{@code
+ * static final InputMacro LOGIN = InputMacro.record()
+ *     .clickOn("#username").write("alice")
+ *     .clickOn("#password").write("secret")
+ *     .clickOn("#login")
+ *     .build();
+ * }</pre>
+ * Macros are immutable and thread-safe.
+ */
+public final class InputMacro {
+
+    private static final byte MOVE_TO_QUERY = 1;
+    private static final byte MOVE_TO_POINT = 2;
+    private static final byte MOVE_BY = 3;
+    private static final byte PRESS_MOUSE = 4;
+    private static final byte RELEASE_MOUSE = 5;
+    private static final byte PRESS_KEY = 6;
+    private static final byte RELEASE_KEY = 7;
+    private static final byte WRITE = 8;
+    private static final byte SCROLL = 9;
+    private static final byte SLEEP = 10;
+    private static final byte SYNC = 11;
+
+    private static final MouseButton[] MOUSE_BUTTONS = MouseButton.values();
+    private static final KeyCode[] KEY_CODES = KeyCode.values();
+    private static final Pos[] POSITIONS = Pos.values();
+
+    private final byte[] code;
+    private final String[] strings;
+    private final int operationCount;
+
+    private InputMacro(byte[] code, String[] strings, int operationCount) {
+        this.code = code;
+        this.strings = strings;
+        this.operationCount = operationCount;
+    }
+
+    /**
+     * Returns a new recorder for an input macro.
+     */
+    public static Recorder record() {
+        return new Recorder();
+    }
+
+    /**
+     * Returns the number of recorded operations.
+     */
+    public int getOperationCount() {
+        return operationCount;
+    }
+
+    /**
+     * Returns the size of the binary form of the recorded operations in bytes (not including the recorded strings).
+     */
+    public int getCodeSize() {
+        return code.length;
+    }
+
+    /**
+     * Decodes the recorded operations in order and passes each of them to the given visitor.
+     *
+     * @param visitor the visitor that receives the operations
+     */
+    public void accept(Visitor visitor) {
+        ByteBuffer buffer = ByteBuffer.wrap(code).asReadOnlyBuffer();
+        while (buffer.hasRemaining()) {
+            byte operation = buffer.get();
+            switch (operation) {
+                case MOVE_TO_QUERY:
+                    visitor.moveTo(strings[buffer.getShort() & 0xFFFF], POSITIONS[buffer.get()]);
+                    break;
+                case MOVE_TO_POINT:
+                    visitor.moveTo(buffer.getDouble(), buffer.getDouble());
+                    break;
+                case MOVE_BY:
+                    visitor.moveBy(buffer.getDouble(), buffer.getDouble());
+                    break;
+                case PRESS_MOUSE:
+                    visitor.pressMouse(MOUSE_BUTTONS[buffer.get()]);
+                    break;
+                case RELEASE_MOUSE:
+                    visitor.releaseMouse(MOUSE_BUTTONS[buffer.get()]);
+                    break;
+                case PRESS_KEY:
+                    visitor.pressKey(KEY_CODES[buffer.getShort()]);
+                    break;
+                case RELEASE_KEY:
+                    visitor.releaseKey(KEY_CODES[buffer.getShort()]);
+                    break;
+                case WRITE:
+                    visitor.write(strings[buffer.getShort() & 0xFFFF]);
+                    break;
+                case SCROLL:
+                    visitor.scroll(buffer.getInt());
+                    break;
+                case SLEEP:
+                    visitor.sleep(buffer.getInt());
+                    break;
+                case SYNC:
+                    visitor.sync();
+                    break;
+                default:
+                    throw new IllegalStateException("unknown macro operation: " + operation);
+            }
+        }
+    }
+
+    /**
+     * Receives the operations of an {@link InputMacro}, see {@link InputMacro#accept(Visitor)}.
+     */
+    public interface Visitor {
+
+        /**
+         * Moves the mouse to the given position of the first visible node matching the given query.
+         */
+        void moveTo(String query, Pos position);
+
+        /**
+         * Moves the mouse to the given screen coordinates.
+         */
+        void moveTo(double x, double y);
+
+        /**
+         * Moves the mouse by the given offset.
+         */
+        void moveBy(double x, double y);
+
+        void pressMouse(MouseButton button);
+
+        void releaseMouse(MouseButton button);
+
+        void pressKey(KeyCode key);
+
+        void releaseKey(KeyCode key);
+
+        /**
+         * Writes the given text into the focused window.
+         */
+        void write(String text);
+
+        void scroll(int amount);
+
+        void sleep(long milliseconds);
+
+        /**
+         * Waits until the previous operations have been processed by the JavaFX application thread.
+         */
+        void sync();
+
+    }
+
+    /**
+     * Records operations for an {@link InputMacro}. Recorders are not thread-safe.
+     */
+    public static final class Recorder {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream code = new DataOutputStream(bytes);
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+        private int operationCount;
+
+        private Recorder() {
+        }
+
+        /**
+         * Records moving the mouse to the center of the first visible node matching the given query.
+         */
+        public Recorder moveTo(String query) {
+            return moveTo(query, Pos.CENTER);
+        }
+
+        /**
+         * Records moving the mouse to the given position of the first visible node matching the given query.
+         */
+        public Recorder moveTo(String query, Pos position) {
+            Objects.requireNonNull(query, "query must not be null");
+            Objects.requireNonNull(position, "position must not be null");
+            return operation(MOVE_TO_QUERY).writeString(query).writeByte(position.ordinal());
+        }
+
+        /**
+         * Records moving the mouse to the given point on the screen.
+         */
+        public Recorder moveTo(Point2D point) {
+            return operation(MOVE_TO_POINT).writeDouble(point.getX()).writeDouble(point.getY());
+        }
+
+        /**
+         * Records moving the mouse by the given offset.
+         */
+        public Recorder moveBy(double x, double y) {
+            return operation(MOVE_BY).writeDouble(x).writeDouble(y);
+        }
+
+        /**
+         * Records pressing the given mouse buttons (or the primary button if none is given).
+         */
+        public Recorder press(MouseButton... buttons) {
+            for (MouseButton button : buttonsOrPrimary(buttons)) {
+                operation(PRESS_MOUSE).writeByte(button.ordinal());
+            }
+            return this;
+        }
+
+        /**
+         * Records releasing the given mouse buttons (or the primary button if none is given).
+         */
+        public Recorder release(MouseButton... buttons) {
+            for (MouseButton button : buttonsOrPrimary(buttons)) {
+                operation(RELEASE_MOUSE).writeByte(button.ordinal());
+            }
+            return this;
+        }
+
+        /**
+         * Records clicking the given mouse buttons (or the primary button if none is given).
+         */
+        public Recorder click(MouseButton... buttons) {
+            MouseButton[] clickedButtons = buttonsOrPrimary(buttons);
+            return press(clickedButtons).release(clickedButtons);
+        }
+
+        /**
+         * Records moving the mouse to the center of the first visible node matching the given query and clicking
+         * the given mouse buttons (or the primary button if none is given).
+         */
+        public Recorder clickOn(String query, MouseButton... buttons) {
+            return moveTo(query).click(buttons);
+        }
+
+        /**
+         * Records pressing the given keys.
+         */
+        public Recorder press(KeyCode... keys) {
+            for (KeyCode key : keys) {
+                operation(PRESS_KEY).writeShort(key.ordinal());
+            }
+            return this;
+        }
+
+        /**
+         * Records releasing the given keys.
+         */
+        public Recorder release(KeyCode... keys) {
+            for (KeyCode key : keys) {
+                operation(RELEASE_KEY).writeShort(key.ordinal());
+            }
+            return this;
+        }
+
+        /**
+         * Records typing (pressing and releasing) each of the given keys.
+         */
+        public Recorder type(KeyCode... keys) {
+            for (KeyCode key : keys) {
+                press(key).release(key);
+            }
+            return this;
+        }
+
+        /**
+         * Records writing the given text into the focused window.
+         */
+        public Recorder write(String text) {
+            Objects.requireNonNull(text, "text must not be null");
+            return operation(WRITE).writeString(text);
+        }
+
+        /**
+         * Records scrolling by the given amount (positive values scroll down).
+         */
+        public Recorder scroll(int amount) {
+            return operation(SCROLL).writeInt(amount);
+        }
+
+        /**
+         * Records sleeping for the given number of milliseconds.
+         */
+        public Recorder sleep(int milliseconds) {
+            return operation(SLEEP).writeInt(milliseconds);
+        }
+
+        /**
+         * Records a synchronization point: playback waits until the previous operations have been processed by
+         * the JavaFX application thread, e.g. before an operation that depends on a newly opened window.
+         */
+        public Recorder sync() {
+            return operation(SYNC);
+        }
+
+        /**
+         * Returns a macro with the operations recorded so far.
+         */
+        public InputMacro build() {
+            return new InputMacro(bytes.toByteArray(), strings.toArray(new String[0]), operationCount);
+        }
+
+        private static MouseButton[] buttonsOrPrimary(MouseButton[] buttons) {
+            return buttons.length == 0 ? new MouseButton[] {MouseButton.PRIMARY} : buttons;
+        }
+
+        private Recorder operation(byte operation) {
+            operationCount++;
+            return writeByte(operation);
+        }
+
+        private Recorder writeString(String string) {
+            Integer index = stringIndices.get(string);
+            if (index == null) {
+                if (strings.size() > 0xFFFF) {
+                    throw new IllegalStateException("too many distinct strings in macro");
+                }
+                index = strings.size();
+                strings.add(string);
+                stringIndices.put(string, index);
+            }
+            return writeShort(index);
+        }
+
+        private Recorder writeByte(int value) {
+            try {
+                code.writeByte(value);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        private Recorder writeShort(int value) {
+            try {
+                code.writeShort(value);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        private Recorder writeInt(int value) {
+            try {
+                code.writeInt(value);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        private Recorder writeDouble(double value) {
+            try {
+                code.writeDouble(value);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javafx.scene.input.KeyCode;
+
+/**
+ * An immutable sequence of key chords that can be pushed at once by {@link KeyboardRobot#pushSequence(KeySequence)}
+ * or {@link TypeRobot#type(KeySequence)}. Each chord is pushed by pressing its keys in order and releasing them in
+ * reverse order.
+ * <pre>{@code
+ * typeRobot.type(KeySequence.of(KeyCode.TAB).then(500, KeyCode.DOWN).then(KeyCode.SHIFT, KeyCode.ENTER));
+ * }</pre>
+ */
+public final class KeySequence {
+
+    private final List<List<KeyCode>> chords;
+
+    private KeySequence(List<List<KeyCode>> chords) {
+        this.chords = chords;
+    }
+
+    /**
+     * Returns a sequence of the given chord.
+     */
+    public static KeySequence of(KeyCode... chord) {
+        return of(1, chord);
+    }
+
+    /**
+     * Returns a sequence of the given chord repeated the given number of times.
+     */
+    public static KeySequence of(int times, KeyCode... chord) {
+        return new KeySequence(Collections.emptyList()).then(times, chord);
+    }
+
+    /**
+     * Returns a new sequence with the given chord appended.
+     */
+    public KeySequence then(KeyCode... chord) {
+        return then(1, chord);
+    }
+
+    /**
+     * Returns a new sequence with the given chord appended the given number of times.
+     */
+    public KeySequence then(int times, KeyCode... chord) {
+        if (times < 0) {
+            throw new IllegalArgumentException("times must not be negative but was: " + times);
+        }
+        if (chord.length == 0) {
+            throw new IllegalArgumentException("chord must not be empty");
+        }
+        List<KeyCode> keys = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(chord)));
+        List<List<KeyCode>> newChords = new ArrayList<>(chords.size() + times);
+        newChords.addAll(chords);
+        for (int index = 0; index < times; index++) {
+            newChords.add(keys);
+        }
+        return new KeySequence(Collections.unmodifiableList(newChords));
+    }
+
+    /**
+     * Returns the chords of this sequence in order.
+     */
+    public List<List<KeyCode>> getChords() {
+        return chords;
+    }
+
+    @Override
+    public String toString() {
+        return chords.toString();
+    }
+
+}
@@ -40,7 +40,8 @@ public interface KeyboardRobot {
     /**
      * Gets the keys that have been pressed and not yet released.
      *
-     * @return an (unmodifiable) containing the keys that have been pressed (but not yet) released.
+     * @return an (unmodifiable) snapshot of the keys that have been pressed (but not yet released), taken
+     * atomically
      */
     Set<KeyCode> getPressedKeys();
 
@@ -62,4 +63,13 @@ public interface KeyboardRobot {
      */
     void releaseNoWait(KeyCode... keys);
 
+    /**
+     * Pushes the chords of the given sequence one after the other: the keys of each chord are pressed in order
+     * and released in reverse order. {@link org.testfx.util.WaitForAsyncUtils#waitForFxEvents()} is called only
+     * once, after the whole sequence has been pushed.
+     *
+     * @param sequence the key sequence to push
+     */
+    void pushSequence(KeySequence sequence);
+
 }
@@ -38,12 +38,16 @@ package org.testfx.robot;
  * <p>
  * Traveling in a straight-line between a and b (that is, tracing the hypotenuse) is
  * {@code DIRECT}. Traveling first from a to c and then from c to b is {@code HORIZONTAL_FIRST}.
- * Traveling first from a to d and then from d to b is {@code VERTICAL_FIRST}. {@code DEFAULT}
- * means that no specific type of motion was explicitly requested.
+ * Traveling first from a to d and then from d to b is {@code VERTICAL_FIRST}. Jumping from a to b without
+ * visiting any point in between is {@code TELEPORT}. {@code DEFAULT} means that no specific type of motion was
+ * explicitly requested.
+ *
+ * @see MotionGranularity
  */
 public enum Motion {
     DEFAULT,
     DIRECT,
     HORIZONTAL_FIRST,
     VERTICAL_FIRST,
+    TELEPORT,
 }
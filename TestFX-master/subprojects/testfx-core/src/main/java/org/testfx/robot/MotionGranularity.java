@@ -0,0 +1,36 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot;
+
+/**
+ * Enumeration of how finely the mouse cursor is moved along the path of a {@link Motion}.
+ * <p>
+ * {@code STEPWISE} moves the cursor to one point per pixel of distance, up to {@code testfx.robot.move_max_count}
+ * points. {@code FIXED_STEPS} always moves the cursor to {@code testfx.robot.move_step_count} points.
+ * {@code BOUNDARY_CROSSINGS} only moves the cursor to the points at which it enters or exits a node along the
+ * path, which keeps hover-sensitive controls working without visiting every point. {@code TELEPORT} moves the
+ * cursor straight to the target point.
+ * <p>
+ * The granularity of all moves is set by the {@code testfx.robot.move_granularity} system property, one of
+ * {@code stepwise} (the default), {@code fixed_steps}, {@code boundary_crossings} or {@code teleport}.
+ */
+public enum MotionGranularity {
+    STEPWISE,
+    FIXED_STEPS,
+    BOUNDARY_CROSSINGS,
+    TELEPORT,
+}
@@ -20,6 +20,8 @@ import java.util.Set;
 import javafx.geometry.Point2D;
 import javafx.scene.input.MouseButton;
 
+import org.testfx.service.query.PointQuery;
+
 
 public interface MouseRobot {
 
@@ -46,7 +48,7 @@ public interface MouseRobot {
     /**
      * Gets the mouse buttons that have been pressed but not yet released.
      *
-     * @return an (unmodifiable) set containing the pressed (but not yet released) buttons
+     * @return an (unmodifiable) snapshot of the pressed (but not yet released) buttons, taken atomically
      */
     Set<MouseButton> getPressedButtons();
 
@@ -86,6 +88,22 @@ public interface MouseRobot {
      */
     void moveNoWait(Point2D location);
 
+    /**
+     * Resolves the given point query and moves the mouse to the resolved point in a single step (see
+     * {@link BaseRobot#moveMouseTo(PointQuery)}). Once moved, calls
+     * {@link org.testfx.util.WaitForAsyncUtils#waitForFxEvents()}.
+     * <p>
+     * The default implementation queries the point and then moves the mouse with {@link #move(Point2D)}.
+     *
+     * @param pointQuery the point query to resolve
+     * @return the point the mouse was moved to
+     */
+    default Point2D moveTo(PointQuery pointQuery) {
+        Point2D point = pointQuery.query();
+        move(point);
+        return point;
+    }
+
     /**
      * Scrolls the mouse wheel by the given amount. Once scrolled, calls
      * {@link org.testfx.util.WaitForAsyncUtils#waitForFxEvents()}.
@@ -102,4 +120,14 @@ public interface MouseRobot {
      */
     void scrollNoWait(int wheelAmount);
 
+    /**
+     * Scrolls the node under the mouse by the given deltas with a single scroll event. Once scrolled, calls
+     * {@link org.testfx.util.WaitForAsyncUtils#waitForFxEvents()}.
+     *
+     * @param deltaX the horizontal delta, positive values scroll right
+     * @param deltaY the vertical delta, positive values scroll down
+     * @param unit the unit of the deltas
+     */
+    void scroll(double deltaX, double deltaY, ScrollUnit unit);
+
 }
@@ -16,8 +16,11 @@
  */
 package org.testfx.robot;
 
+import java.util.Optional;
+import java.util.function.Supplier;
 import javafx.geometry.HorizontalDirection;
 import javafx.geometry.VerticalDirection;
+import javafx.scene.Node;
 
 public interface ScrollRobot {
 
@@ -72,4 +75,40 @@ public interface ScrollRobot {
      * @param positiveAmount the number of scroll ticks to scroll right
      */
     void scrollRight(int positiveAmount);
+
+    /**
+     * Scrolls the node under the mouse by the given deltas with a single scroll event, however large the deltas
+     * are. Positive deltas scroll right and down.
+     *
+     * @param deltaX the horizontal delta
+     * @param deltaY the vertical delta
+     * @param unit the unit of the deltas
+     */
+    void scrollBy(double deltaX, double deltaY, ScrollUnit unit);
+
+    /**
+     * Scrolls the given node into the visible area of its nearest clipping ancestor (like the viewport of a
+     * {@link javafx.scene.control.ScrollPane} or the clipped container of a
+     * {@link javafx.scene.control.ListView}). The mouse is moved into that area and scrolled by the pixel distance
+     * between the node's bounds and the area's bounds (as reported by the
+     * {@link org.testfx.service.locator.BoundsLocator}) until the node is fully visible, or as visible as its size
+     * allows.
+     *
+     * @param node the node to scroll into view
+     */
+    void scrollUntilVisible(Node node);
+
+    /**
+     * Scrolls the node under the mouse page by page in the given direction until the given supplier returns a
+     * node, and then scrolls that node into view with {@link #scrollUntilVisible(Node)}. This allows to reach
+     * the cells of virtualized controls (like {@link javafx.scene.control.TableView}) that only exist once they
+     * are (almost) visible.
+     *
+     * @param nodeSupplier supplies the node to scroll to, if it exists
+     * @param direction the vertical direction in which to scroll
+     * @param <T> the type of the node
+     * @return the node supplied by the supplier
+     */
+    <T extends Node> T scrollUntilVisible(Supplier<Optional<T>> nodeSupplier, VerticalDirection direction);
+
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot;
+
+/**
+ * The unit of the deltas passed to {@link ScrollRobot#scrollBy(double, double, ScrollUnit)}.
+ */
+public enum ScrollUnit {
+
+    /**
+     * Deltas are given in pixels.
+     */
+    PIXELS,
+
+    /**
+     * Deltas are given in lines (vertically) or characters (horizontally), where three lines correspond to one
+     * notch of a mouse wheel.
+     */
+    LINES,
+
+    /**
+     * Deltas are given in pages, i.e. multiples of the height (vertically) or width (horizontally) of the scene.
+     */
+    PAGES
+
+}
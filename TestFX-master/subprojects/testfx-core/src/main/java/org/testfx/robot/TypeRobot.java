@@ -50,4 +50,13 @@ public interface TypeRobot {
      */
     void type(KeyCode keyCode, int times);
 
+    /**
+     * Types the given key sequence. Unlike {@link #type(KeyCode, int)} the sequence is pushed at once without
+     * sleeping after each key, unless a pause is configured with the {@code testfx.robot.type_sequence_sleep}
+     * property (in milliseconds).
+     *
+     * @param sequence the key sequence to type
+     */
+    void type(KeySequence sequence);
+
 }
@@ -41,4 +41,26 @@ public interface WriteRobot {
      * character
      */
     void write(String text, int sleepMillis);
+
+    /**
+     * Writes the given text characters at once: the key events of all characters are fired in a single hop to
+     * the JavaFX application thread, and the robot waits only once for them to be processed.
+     *
+     * @param text the text characters to write
+     */
+    void writeBulk(String text);
+
+    /**
+     * Writes the given text characters into the focused {@link javafx.scene.control.TextInputControl} like a
+     * paste: the key events of all characters are still fired, but the text is inserted with a single
+     * {@link javafx.scene.control.TextInputControl#replaceSelection(String)}. Event handlers therefore see
+     * every key event but can not prevent the insertion by consuming key typed events (a
+     * {@link javafx.scene.control.TextFormatter} still applies).
+     * <p>
+     * Falls back to {@link #writeBulk(String)} if the focus owner is not a text input control or the text contains
+     * control characters (like new lines or tabs, which may move the focus).
+     *
+     * @param text the text characters to insert
+     */
+    void insertText(String text);
 }
@@ -24,17 +24,42 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
 
 import org.testfx.robot.BaseRobot;
+import org.testfx.robot.ScrollUnit;
 import org.testfx.service.adapter.RobotAdapter;
 import org.testfx.service.adapter.impl.AwtRobotAdapter;
 import org.testfx.service.adapter.impl.GlassRobotAdapter;
+import org.testfx.service.adapter.impl.InjectingRobotAdapter;
 import org.testfx.service.adapter.impl.JavafxRobotAdapter;
+import org.testfx.service.query.PointQuery;
+import org.testfx.service.support.RawCapture;
+
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFxUnwrapped;
 
 public class BaseRobotImpl implements BaseRobot {
 
+    private static final long RETRIEVAL_TIMEOUT_IN_MILLIS = 10000;
+
     private final RobotAdapter robotAdapter;
     private final JavafxRobotAdapter javafxRobotAdapter;
+    private final InjectingRobotAdapter scrollEventAdapter;
 
     public BaseRobotImpl() {
+        this(createRobotAdapter());
+    }
+
+    /**
+     * Creates a base robot that drives the given adapter, e.g. an {@link InjectingRobotAdapter} scoped to the
+     * windows of one test.
+     */
+    public BaseRobotImpl(RobotAdapter robotAdapter) {
+        this.robotAdapter = robotAdapter;
+        javafxRobotAdapter = new JavafxRobotAdapter();
+        // Neither the AWT nor the Glass robot can scroll by arbitrary deltas, so scroll events are always injected.
+        scrollEventAdapter = robotAdapter instanceof InjectingRobotAdapter ?
+                (InjectingRobotAdapter) robotAdapter : new InjectingRobotAdapter();
+    }
+
+    private static RobotAdapter createRobotAdapter() {
         boolean verbose = Boolean.getBoolean("testfx.verbose");
         // Default to "glass" if "testfx.robot" is not explicitly set.
         String robotAdapterName = System.getProperty("testfx.robot", "glass");
@@ -43,19 +68,21 @@ public class BaseRobotImpl implements BaseRobot {
                 if (verbose) {
                     System.out.println("testfx: initializing AWT robot");
                 }
-                robotAdapter = new AwtRobotAdapter();
-                break;
+                return new AwtRobotAdapter();
             case "glass":
                 if (verbose) {
                     System.out.println("testfx: initializing Glass robot");
                 }
-                robotAdapter = GlassRobotAdapter.createGlassRobot();
-                break;
+                return GlassRobotAdapter.createGlassRobot();
+            case "inject":
+                if (verbose) {
+                    System.out.println("testfx: initializing event injection robot");
+                }
+                return new InjectingRobotAdapter();
             default:
-                throw new IllegalStateException(String.format(
-                        "unknown robot adapter 'testfx.robot=%s' (must be 'awt' or 'glass')", robotAdapterName));
+                throw new IllegalStateException(String.format("unknown robot adapter 'testfx.robot=%s' " +
+                        "(must be 'awt', 'glass' or 'inject')", robotAdapterName));
         }
-        javafxRobotAdapter = new JavafxRobotAdapter();
     }
 
     @Override
@@ -77,6 +104,12 @@ public class BaseRobotImpl implements BaseRobot {
         javafxRobotAdapter.keyRelease(key);
     }
 
+    @Override
+    public void typeText(Scene scene, String text) {
+        javafxRobotAdapter.robotCreate(scene);
+        javafxRobotAdapter.typeText(text);
+    }
+
     @Override
     public Point2D retrieveMouse() {
         return robotAdapter.getMouseLocation();
@@ -87,11 +120,31 @@ public class BaseRobotImpl implements BaseRobot {
         robotAdapter.mouseMove(point);
     }
 
+    @Override
+    public Point2D moveMouseTo(PointQuery pointQuery) {
+        if (robotAdapter instanceof AwtRobotAdapter) {
+            // the AWT robot is not driven from the JavaFX application thread.
+            Point2D point = pointQuery.query();
+            robotAdapter.mouseMove(point);
+            return point;
+        }
+        return waitForAsyncFxUnwrapped(RETRIEVAL_TIMEOUT_IN_MILLIS, () -> {
+            Point2D point = pointQuery.query();
+            robotAdapter.mouseMove(point);
+            return point;
+        });
+    }
+
     @Override
     public void scrollMouse(int amount) {
         robotAdapter.mouseWheel(amount);
     }
 
+    @Override
+    public void scrollMouse(double deltaX, double deltaY, ScrollUnit unit) {
+        scrollEventAdapter.mouseScroll(robotAdapter.getMouseLocation(), deltaX, deltaY, unit);
+    }
+
     @Override
     public void pressMouse(MouseButton button) {
         robotAdapter.mousePress(button);
@@ -107,4 +160,9 @@ public class BaseRobotImpl implements BaseRobot {
         return robotAdapter.getCaptureRegion(region);
     }
 
+    @Override
+    public RawCapture captureRegionPixels(Rectangle2D region) {
+        return robotAdapter.getCaptureRegionPixels(region);
+    }
+
 }
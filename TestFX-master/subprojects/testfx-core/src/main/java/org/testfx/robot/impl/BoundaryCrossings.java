@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.stage.Window;
+
+import org.testfx.internal.JavaVersionAdapter;
+
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
+
+/**
+ * Tells at which points of a mouse path the cursor enters or exits the screen bounds of a node.
+ * <p>
+ * The bounds of all nodes that intersect the path are read once, in a single hop to the JavaFX application
+ * thread, so that testing points along the path does not touch the scene graph.
+ */
+final class BoundaryCrossings {
+
+    private static final long RETRIEVAL_TIMEOUT_IN_MILLIS = 10000;
+
+    private final List<Bounds> nodeBounds;
+    private long lastSignature;
+
+    private BoundaryCrossings(List<Bounds> nodeBounds, Point2D sourcePoint) {
+        this.nodeBounds = nodeBounds;
+        this.lastSignature = signatureAt(sourcePoint);
+    }
+
+    /**
+     * Returns the crossings of a path that starts at the first of the given points and stays within their
+     * bounding box.
+     */
+    static BoundaryCrossings alongPath(Point2D sourcePoint, Point2D... otherPoints) {
+        double minX = sourcePoint.getX();
+        double minY = sourcePoint.getY();
+        double maxX = minX;
+        double maxY = minY;
+        for (Point2D point : otherPoints) {
+            minX = Math.min(minX, point.getX());
+            minY = Math.min(minY, point.getY());
+            maxX = Math.max(maxX, point.getX());
+            maxY = Math.max(maxY, point.getY());
+        }
+        Bounds pathBounds = new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+        List<Bounds> nodeBounds = waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, () -> {
+            List<Bounds> bounds = new ArrayList<>();
+            for (Window window : JavaVersionAdapter.getWindows()) {
+                if (window.isShowing() && window.getScene() != null && window.getScene().getRoot() != null) {
+                    collectNodeBounds(window.getScene().getRoot(), pathBounds, bounds);
+                }
+            }
+            return bounds;
+        });
+        return new BoundaryCrossings(nodeBounds, sourcePoint);
+    }
+
+    /**
+     * Returns {@literal true} if the set of nodes under the given point differs from the set of nodes under the
+     * point this method was called with the last time (or the source point of the path).
+     */
+    boolean isCrossedAt(Point2D point) {
+        long signature = signatureAt(point);
+        boolean crossed = signature != lastSignature;
+        lastSignature = signature;
+        return crossed;
+    }
+
+    private long signatureAt(Point2D point) {
+        long signature = 1;
+        for (int i = 0; i < nodeBounds.size(); i++) {
+            if (nodeBounds.get(i).contains(point)) {
+                signature = 31 * signature + i + 1;
+            }
+        }
+        return signature;
+    }
+
+    private static void collectNodeBounds(Node node, Bounds pathBounds, List<Bounds> bounds) {
+        if (!node.isVisible() || node.isMouseTransparent()) {
+            return;
+        }
+        // the local bounds of a parent contain the bounds of its children
+        Bounds screenBounds = node.localToScreen(node.getBoundsInLocal());
+        if (screenBounds == null || !screenBounds.intersects(pathBounds)) {
+            return;
+        }
+        bounds.add(screenBounds);
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                collectNodeBounds(child, pathBounds, bounds);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot.impl;
+
+import java.util.Objects;
+import javafx.geometry.Point2D;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.stage.Window;
+
+import org.testfx.api.FxRobotException;
+import org.testfx.robot.BaseRobot;
+import org.testfx.robot.InputMacro;
+import org.testfx.robot.InputMacroRobot;
+import org.testfx.robot.KeyboardRobot;
+import org.testfx.robot.MouseRobot;
+import org.testfx.robot.SleepRobot;
+import org.testfx.service.finder.NodeFinder;
+import org.testfx.service.finder.WindowFinder;
+import org.testfx.service.locator.PointLocator;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.testfx.util.NodeQueryUtils.isVisible;
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
+
+public class InputMacroRobotImpl implements InputMacroRobot {
+
+    private static final long RESOLVE_TIMEOUT_IN_MILLIS = 10000;
+
+    private final BaseRobot baseRobot;
+    private final KeyboardRobot keyboardRobot;
+    private final MouseRobot mouseRobot;
+    private final SleepRobot sleepRobot;
+    private final NodeFinder nodeFinder;
+    private final PointLocator pointLocator;
+    private final WindowFinder windowFinder;
+
+    /**
+     * Presses and releases go through the given keyboard and mouse robots, so that they know what a macro left
+     * pressed (e.g. because it failed half way) and can release it during cleanup.
+     */
+    public InputMacroRobotImpl(BaseRobot baseRobot, KeyboardRobot keyboardRobot, MouseRobot mouseRobot,
+                               SleepRobot sleepRobot, NodeFinder nodeFinder, PointLocator pointLocator,
+                               WindowFinder windowFinder) {
+        Objects.requireNonNull(baseRobot, "baseRobot must not be null");
+        Objects.requireNonNull(keyboardRobot, "keyboardRobot must not be null");
+        Objects.requireNonNull(mouseRobot, "mouseRobot must not be null");
+        Objects.requireNonNull(sleepRobot, "sleepRobot must not be null");
+        Objects.requireNonNull(nodeFinder, "nodeFinder must not be null");
+        Objects.requireNonNull(pointLocator, "pointLocator must not be null");
+        Objects.requireNonNull(windowFinder, "windowFinder must not be null");
+        this.baseRobot = baseRobot;
+        this.keyboardRobot = keyboardRobot;
+        this.mouseRobot = mouseRobot;
+        this.sleepRobot = sleepRobot;
+        this.nodeFinder = nodeFinder;
+        this.pointLocator = pointLocator;
+        this.windowFinder = windowFinder;
+    }
+
+    @Override
+    public void play(InputMacro macro) {
+        macro.accept(new Player());
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
+    private Point2D resolvePoint(String query, Pos position) {
+        // lookup and point calculation happen in a single hop to the JavaFX application thread.
+        Point2D point = waitForAsyncFx(RESOLVE_TIMEOUT_IN_MILLIS, () -> {
+            Node node = nodeFinder.lookup(query).match(isVisible()).tryQuery().orElse(null);
+            if (node == null) {
+                return null;
+            }
+            windowFinder.targetWindow(node.getScene().getWindow());
+            return pointLocator.point(node).onNode(node).atPosition(position).query();
+        });
+        if (point == null) {
+            throw new FxRobotException("the query \"" + query + "\" returned no visible nodes.");
+        }
+        return point;
+    }
+
+    private Window fetchTargetWindow() {
+        Window targetWindow = windowFinder.window(Window::isFocused);
+        if (targetWindow == null) {
+            targetWindow = windowFinder.targetWindow();
+        }
+        if (targetWindow == null) {
+            targetWindow = windowFinder.window(0);
+        }
+        return targetWindow;
+    }
+
+    /**
+     * Plays back the operations of a macro, keeping track of the mouse location so that relative moves do not
+     * need to ask the robot for it.
+     */
+    private class Player implements InputMacro.Visitor {
+
+        private Point2D mouseLocation;
+
+        @Override
+        public void moveTo(String query, Pos position) {
+            // the node may only exist as a result of the previous operations.
+            WaitForAsyncUtils.waitForFxEvents();
+            moveMouse(resolvePoint(query, position));
+        }
+
+        @Override
+        public void moveTo(double x, double y) {
+            moveMouse(new Point2D(x, y));
+        }
+
+        @Override
+        public void moveBy(double x, double y) {
+            if (mouseLocation == null) {
+                mouseLocation = baseRobot.retrieveMouse();
+            }
+            moveMouse(mouseLocation.add(x, y));
+        }
+
+        @Override
+        public void pressMouse(MouseButton button) {
+            mouseRobot.pressNoWait(button);
+        }
+
+        @Override
+        public void releaseMouse(MouseButton button) {
+            mouseRobot.releaseNoWait(button);
+        }
+
+        @Override
+        public void pressKey(KeyCode key) {
+            keyboardRobot.pressNoWait(key);
+        }
+
+        @Override
+        public void releaseKey(KeyCode key) {
+            keyboardRobot.releaseNoWait(key);
+        }
+
+        @Override
+        public void write(String text) {
+            // the focused window may only be known after the previous operations have been processed.
+            WaitForAsyncUtils.waitForFxEvents();
+            Scene scene = fetchTargetWindow().getScene();
+            baseRobot.typeText(scene, text);
+        }
+
+        @Override
+        public void scroll(int amount) {
+            baseRobot.scrollMouse(amount);
+        }
+
+        @Override
+        public void sleep(long milliseconds) {
+            sleepRobot.sleep(milliseconds);
+        }
+
+        @Override
+        public void sync() {
+            WaitForAsyncUtils.waitForFxEvents();
+        }
+
+        private void moveMouse(Point2D point) {
+            baseRobot.moveMouse(point);
+            mouseLocation = point;
+        }
+
+    }
+
+}
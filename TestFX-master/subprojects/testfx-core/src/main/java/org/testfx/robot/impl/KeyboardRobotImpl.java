@@ -17,14 +17,14 @@
 package org.testfx.robot.impl;
 
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import javafx.scene.input.KeyCode;
 
 import org.testfx.robot.BaseRobot;
+import org.testfx.robot.KeySequence;
 import org.testfx.robot.KeyboardRobot;
 import org.testfx.util.WaitForAsyncUtils;
 
@@ -37,7 +37,7 @@ public class KeyboardRobotImpl implements KeyboardRobot {
             .startsWith("mac") ? KeyCode.COMMAND : KeyCode.CONTROL;
 
     private final BaseRobot baseRobot;
-    private final Set<KeyCode> pressedKeys = ConcurrentHashMap.newKeySet();
+    private final PressedState<KeyCode> pressedKeys = new PressedState<>(KeyCode.class);
 
     public KeyboardRobotImpl(BaseRobot baseRobot) {
         Objects.requireNonNull(baseRobot, "baseRobot must not be null");
@@ -60,7 +60,7 @@ public class KeyboardRobotImpl implements KeyboardRobot {
     @Override
     public void release(KeyCode... keys) {
         if (keys.length == 0) {
-            pressedKeys.forEach(k -> {
+            pressedKeys.snapshot().forEach(k -> {
                 releaseKey(k);
                 WaitForAsyncUtils.waitForFxEvents();
             });
@@ -75,28 +75,39 @@ public class KeyboardRobotImpl implements KeyboardRobot {
     @Override
     public void releaseNoWait(KeyCode... keys) {
         if (keys.length == 0) {
-            pressedKeys.forEach(this::releaseKey);
+            pressedKeys.snapshot().forEach(this::releaseKey);
         }
         else {
             Arrays.asList(keys).forEach(this::releaseKey);
         }
     }
 
+    @Override
+    public void pushSequence(KeySequence sequence) {
+        for (List<KeyCode> chord : sequence.getChords()) {
+            chord.forEach(this::pressKey);
+            for (int index = chord.size() - 1; index >= 0; index--) {
+                releaseKey(chord.get(index));
+            }
+        }
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
     @Override
     public final Set<KeyCode> getPressedKeys() {
-        return Collections.unmodifiableSet(pressedKeys);
+        return pressedKeys.snapshot();
     }
 
     private void pressKey(KeyCode keyCode) {
         KeyCode realKeyCode = keyCode == KeyCode.SHORTCUT ? OS_SPECIFIC_SHORTCUT : keyCode;
-        if (pressedKeys.add(realKeyCode)) {
+        if (pressedKeys.press(realKeyCode)) {
             baseRobot.pressKeyboard(realKeyCode);
         }
     }
 
     private void releaseKey(KeyCode keyCode) {
         KeyCode realKeyCode = keyCode == KeyCode.SHORTCUT ? OS_SPECIFIC_SHORTCUT : keyCode;
-        if (pressedKeys.remove(realKeyCode)) {
+        if (pressedKeys.release(realKeyCode)) {
             baseRobot.releaseKeyboard(realKeyCode);
         }
     }
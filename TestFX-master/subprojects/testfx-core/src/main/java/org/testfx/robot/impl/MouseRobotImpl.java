@@ -16,10 +16,7 @@
  */
 package org.testfx.robot.impl;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import javafx.geometry.Point2D;
@@ -27,12 +24,14 @@ import javafx.scene.input.MouseButton;
 
 import org.testfx.robot.BaseRobot;
 import org.testfx.robot.MouseRobot;
+import org.testfx.robot.ScrollUnit;
+import org.testfx.service.query.PointQuery;
 import org.testfx.util.WaitForAsyncUtils;
 
 public class MouseRobotImpl implements MouseRobot {
 
     private final BaseRobot baseRobot;
-    private final Set<MouseButton> pressedButtons = new HashSet<>();
+    private final PressedState<MouseButton> pressedButtons = new PressedState<>(MouseButton.class);
 
     public MouseRobotImpl(BaseRobot baseRobot) {
         Objects.requireNonNull(baseRobot, "baseRobot must not be null");
@@ -64,7 +63,7 @@ public class MouseRobotImpl implements MouseRobot {
     @Override
     public void releaseNoWait(MouseButton... buttons) {
         if (buttons.length == 0) {
-            new ArrayList<>(pressedButtons).forEach(this::releaseButton);
+            pressedButtons.snapshot().forEach(this::releaseButton);
         }
         else {
             Arrays.asList(buttons).forEach(this::releaseButton);
@@ -82,6 +81,13 @@ public class MouseRobotImpl implements MouseRobot {
         baseRobot.moveMouse(location);
     }
 
+    @Override
+    public Point2D moveTo(PointQuery pointQuery) {
+        Point2D point = baseRobot.moveMouseTo(pointQuery);
+        WaitForAsyncUtils.waitForFxEvents();
+        return point;
+    }
+
     @Override
     public void scroll(int wheelAmount) {
         scrollNoWait(wheelAmount);
@@ -93,19 +99,25 @@ public class MouseRobotImpl implements MouseRobot {
         baseRobot.scrollMouse(wheelAmount);
     }
 
+    @Override
+    public void scroll(double deltaX, double deltaY, ScrollUnit unit) {
+        baseRobot.scrollMouse(deltaX, deltaY, unit);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
     @Override
     public final Set<MouseButton> getPressedButtons() {
-        return Collections.unmodifiableSet(pressedButtons);
+        return pressedButtons.snapshot();
     }
 
     private void pressButton(MouseButton button) {
-        if (pressedButtons.add(button)) {
+        if (pressedButtons.press(button)) {
             baseRobot.pressMouse(button);
         }
     }
 
     private void releaseButton(MouseButton button) {
-        if (pressedButtons.remove(button)) {
+        if (pressedButtons.release(button)) {
             baseRobot.releaseMouse(button);
         }
     }
@@ -16,15 +16,12 @@
  */
 package org.testfx.robot.impl;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Locale;
 import javafx.geometry.Point2D;
 
 import org.testfx.robot.BaseRobot;
 import org.testfx.robot.Motion;
+import org.testfx.robot.MotionGranularity;
 import org.testfx.robot.MouseRobot;
 import org.testfx.robot.MoveRobot;
 import org.testfx.robot.SleepRobot;
@@ -36,6 +33,8 @@ public class MoveRobotImpl implements MoveRobot {
     private static final long SLEEP_AFTER_MOVEMENT_STEP_IN_MILLIS = 1;
     private static final long MIN_POINT_OFFSET_COUNT = 1;
     private static final long MAX_POINT_OFFSET_COUNT;
+    private static final int FIXED_POINT_OFFSET_COUNT;
+    private static final MotionGranularity DEFAULT_GRANULARITY;
 
     static {
         int maxOffsetCount;
@@ -49,16 +48,48 @@ public class MoveRobotImpl implements MoveRobot {
             maxOffsetCount = 200;
         }
         MAX_POINT_OFFSET_COUNT = maxOffsetCount;
+
+        int fixedOffsetCount;
+        try {
+            fixedOffsetCount = Math.max(1, Integer.getInteger("testfx.robot.move_step_count", 10));
+        }
+        catch (NumberFormatException e) {
+            System.err.println("\"testfx.robot.move_step_count\" property must be a number but was: \"" +
+                    System.getProperty("testfx.robot.move_step_count") + "\".\nUsing default of \"10\".");
+            e.printStackTrace();
+            fixedOffsetCount = 10;
+        }
+        FIXED_POINT_OFFSET_COUNT = fixedOffsetCount;
+
+        MotionGranularity granularity;
+        String granularityName = System.getProperty("testfx.robot.move_granularity", "stepwise");
+        try {
+            granularity = MotionGranularity.valueOf(granularityName.toUpperCase(Locale.US));
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println("\"testfx.robot.move_granularity\" property must be one of \"stepwise\", " +
+                    "\"fixed_steps\", \"boundary_crossings\" or \"teleport\" but was: \"" + granularityName +
+                    "\".\nUsing default of \"stepwise\".");
+            granularity = MotionGranularity.STEPWISE;
+        }
+        DEFAULT_GRANULARITY = granularity;
     }
 
     private final BaseRobot baseRobot;
     private final MouseRobot mouseRobot;
     private final SleepRobot sleepRobot;
+    private final MotionGranularity granularity;
 
     public MoveRobotImpl(BaseRobot baseRobot, MouseRobot mouseRobot, SleepRobot sleepRobot) {
+        this(baseRobot, mouseRobot, sleepRobot, DEFAULT_GRANULARITY);
+    }
+
+    public MoveRobotImpl(BaseRobot baseRobot, MouseRobot mouseRobot, SleepRobot sleepRobot,
+                         MotionGranularity granularity) {
         this.baseRobot = baseRobot;
         this.mouseRobot = mouseRobot;
         this.sleepRobot = sleepRobot;
+        this.granularity = granularity;
     }
 
     @Override
@@ -70,14 +101,16 @@ public class MoveRobotImpl implements MoveRobot {
             // The user explicitly requested a non-default type of motion, so honor it.
             motion = pointQuery.queryMotion().get();
         }
-        Point2D targetPoint = pointQuery.query();
-        if (sourcePoint != targetPoint) {
-            moveMouseStepwiseBetween(sourcePoint, targetPoint, motion);
+        if (motion != Motion.TELEPORT && granularity != MotionGranularity.TELEPORT) {
+            Point2D targetPoint = pointQuery.query();
+            if (!sourcePoint.equals(targetPoint)) {
+                moveMouseStepwiseBetween(sourcePoint, targetPoint, motion);
+            }
         }
 
-        // If the target has moved while we were moving the mouse, update to the new position.
-        Point2D finalPoint = pointQuery.query();
-        mouseRobot.move(finalPoint);
+        // The last step resolves the query again together with the move, so that the mouse ends up on the
+        // target even if it has moved while we were moving the mouse.
+        mouseRobot.moveTo(pointQuery);
     }
 
     @Override
@@ -86,74 +119,68 @@ public class MoveRobotImpl implements MoveRobot {
         Point2D sourcePoint = baseRobot.retrieveMouse();
         Point2D targetPoint = new Point2D(sourcePoint.getX() + x, sourcePoint.getY() + y);
         moveMouseStepwiseBetween(sourcePoint, targetPoint, motion);
+        mouseRobot.move(targetPoint);
     }
 
+    /**
+     * Moves the mouse along the path from the source point towards the target point, without the final move to
+     * the target point itself.
+     */
     private void moveMouseStepwiseBetween(Point2D sourcePoint,
                                           Point2D targetPoint,
                                           Motion motion) {
         if (motion == Motion.DEFAULT) {
             motion = Motion.DIRECT;
         }
+        if (motion == Motion.TELEPORT || granularity == MotionGranularity.TELEPORT) {
+            return;
+        }
         double directDistance = sourcePoint.distance(targetPoint);
         double horizontalDistance = sourcePoint.distance(targetPoint.getX(), sourcePoint.getY());
         double verticalDistance = sourcePoint.distance(sourcePoint.getX(), targetPoint.getY());
 
-        int totalStepsCount = (int) limitValueBetween(
-                directDistance, MIN_POINT_OFFSET_COUNT, MAX_POINT_OFFSET_COUNT
-        );
+        int totalStepsCount = granularity == MotionGranularity.FIXED_STEPS ? FIXED_POINT_OFFSET_COUNT :
+                (int) limitValueBetween(directDistance, MIN_POINT_OFFSET_COUNT, MAX_POINT_OFFSET_COUNT);
 
-        List<Point2D> path = new ArrayList<>(totalStepsCount);
         double percentHorizontal = horizontalDistance / (horizontalDistance +
                 verticalDistance);
         int horizontalStepsCount = (int) (totalStepsCount * percentHorizontal);
         int verticalStepsCount = totalStepsCount - horizontalStepsCount;
+
+        // The path consists of two legs, source -> intermediate -> target, of which the first may be empty.
+        Point2D intermediatePoint;
+        int firstLegStepsCount;
         switch (motion) {
             case DIRECT:
-                path = interpolatePointsBetween(sourcePoint, targetPoint, totalStepsCount);
+                intermediatePoint = sourcePoint;
+                firstLegStepsCount = 0;
                 break;
-            case HORIZONTAL_FIRST: {
-                Point2D intermediate = new Point2D(targetPoint.getX(), sourcePoint.getY());
-                path = Stream.concat(
-                        interpolatePointsBetween(
-                                sourcePoint, intermediate, horizontalStepsCount).stream(),
-                        interpolatePointsBetween(
-                                intermediate, targetPoint, verticalStepsCount).stream())
-                        .collect(Collectors.toList());
+            case HORIZONTAL_FIRST:
+                intermediatePoint = new Point2D(targetPoint.getX(), sourcePoint.getY());
+                firstLegStepsCount = horizontalStepsCount;
                 break;
-            }
-            case VERTICAL_FIRST: {
-                Point2D intermediate = new Point2D(sourcePoint.getX(), targetPoint.getY());
-                path = Stream.concat(
-                        interpolatePointsBetween(
-                                sourcePoint, intermediate, verticalStepsCount).stream(),
-                        interpolatePointsBetween(
-                                intermediate, targetPoint, horizontalStepsCount).stream())
-                        .collect(Collectors.toList());
+            case VERTICAL_FIRST:
+                intermediatePoint = new Point2D(sourcePoint.getX(), targetPoint.getY());
+                firstLegStepsCount = verticalStepsCount;
                 break;
-            }
             default:
                 throw new NoValidSwitchCaseException("No valid case in switch statement.");
         }
-
-        for (int i = 0; i < path.size() - 1; i++) {
-            // using path.size() - 1 because the last element is always equal to the targetPoint
-            Point2D point = path.get(i);
-            mouseRobot.moveNoWait(point);
-            sleepRobot.sleep(SLEEP_AFTER_MOVEMENT_STEP_IN_MILLIS);
-        }
-        mouseRobot.move(targetPoint);
-    }
-
-    private List<Point2D> interpolatePointsBetween(Point2D sourcePoint,
-                                                   Point2D targetPoint,
-                                                   int pointOffsetCount) {
-        List<Point2D> points = new ArrayList<>();
-        for (int pointOffset = 1; pointOffset <= pointOffsetCount; pointOffset++) {
-            double factor = (double) pointOffset / (double) pointOffsetCount;
-            Point2D point = interpolatePointBetween(sourcePoint, targetPoint, factor);
-            points.add(point);
+        int secondLegStepsCount = totalStepsCount - firstLegStepsCount;
+
+        BoundaryCrossings crossings = granularity == MotionGranularity.BOUNDARY_CROSSINGS ?
+                BoundaryCrossings.alongPath(sourcePoint, intermediatePoint, targetPoint) : null;
+        // The points are computed one at a time; the target point itself is left to the caller.
+        for (int step = 1; step < totalStepsCount; step++) {
+            Point2D point = step <= firstLegStepsCount ?
+                    interpolatePointBetween(sourcePoint, intermediatePoint, (double) step / firstLegStepsCount) :
+                    interpolatePointBetween(intermediatePoint, targetPoint,
+                            (double) (step - firstLegStepsCount) / secondLegStepsCount);
+            if (crossings == null || crossings.isCrossedAt(point)) {
+                mouseRobot.moveNoWait(point);
+                sleepRobot.sleep(SLEEP_AFTER_MOVEMENT_STEP_IN_MILLIS);
+            }
         }
-        return Collections.unmodifiableList(points);
     }
 
     private double limitValueBetween(double value,
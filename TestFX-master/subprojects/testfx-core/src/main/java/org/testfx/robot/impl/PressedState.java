@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot.impl;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks which mouse buttons or keys are pressed, as a bitmask indexed by the constants' ordinals.
+ * <p>
+ * The bitmask is never modified in place: every press or release swaps in a new one by compare-and-set, so
+ * the state can be changed from several threads without locking and {@link #snapshot()} always sees a state
+ * that existed at one point in time.
+ *
+ * @param <E> the type of the tracked constants, e.g. {@link javafx.scene.input.MouseButton}
+ */
+final class PressedState<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final E[] constants;
+    private final AtomicReference<long[]> words;
+
+    PressedState(Class<E> type) {
+        this.type = type;
+        this.constants = type.getEnumConstants();
+        this.words = new AtomicReference<>(new long[(constants.length + 63) / 64]);
+    }
+
+    /**
+     * Marks the given constant as pressed.
+     *
+     * @return {@code true} if it was not pressed before, i.e. if the caller should actually press it
+     */
+    boolean press(E constant) {
+        return update(constant, true);
+    }
+
+    /**
+     * Marks the given constant as released.
+     *
+     * @return {@code true} if it was pressed before, i.e. if the caller should actually release it
+     */
+    boolean release(E constant) {
+        return update(constant, false);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the currently pressed constants.
+     */
+    Set<E> snapshot() {
+        long[] current = words.get();
+        EnumSet<E> pressed = EnumSet.noneOf(type);
+        for (int index = 0; index < current.length; index++) {
+            long word = current[index];
+            while (word != 0) {
+                pressed.add(constants[index * 64 + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+        return Collections.unmodifiableSet(pressed);
+    }
+
+    private boolean update(E constant, boolean pressed) {
+        int index = constant.ordinal() / 64;
+        long bit = 1L << (constant.ordinal() % 64);
+        while (true) {
+            long[] current = words.get();
+            if (((current[index] & bit) != 0) == pressed) {
+                return false;
+            }
+            long[] next = current.clone();
+            next[index] = pressed ? next[index] | bit : next[index] & ~bit;
+            if (words.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+}
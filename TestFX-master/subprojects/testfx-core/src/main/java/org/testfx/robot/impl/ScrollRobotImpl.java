@@ -17,22 +17,44 @@
 package org.testfx.robot.impl;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javafx.geometry.Bounds;
 import javafx.geometry.HorizontalDirection;
+import javafx.geometry.Point2D;
 import javafx.geometry.VerticalDirection;
+import javafx.scene.Node;
 
+import org.testfx.api.FxRobotException;
 import org.testfx.robot.MouseRobot;
 import org.testfx.robot.ScrollRobot;
+import org.testfx.robot.ScrollUnit;
+import org.testfx.service.locator.BoundsLocator;
+import org.testfx.service.locator.impl.BoundsLocatorImpl;
+
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
 
 public class ScrollRobotImpl implements ScrollRobot {
 
     private static final int SCROLL_ONE_UP_OR_LEFT = -1;
     private static final int SCROLL_ONE_DOWN_OR_RIGHT = 1;
+    private static final int LINES_PER_WHEEL_NOTCH = 3;
+    private static final int MAX_SCROLL_STEPS = 20;
+    private static final int MAX_SCROLL_PAGES = Integer.getInteger("testfx.robot.scroll_max_pages", 1000);
+    private static final long RETRIEVAL_TIMEOUT_IN_MILLIS = 10000;
 
     private final MouseRobot mouseRobot;
+    private final BoundsLocator boundsLocator;
 
     public ScrollRobotImpl(MouseRobot mouseRobot) {
+        this(mouseRobot, new BoundsLocatorImpl());
+    }
+
+    public ScrollRobotImpl(MouseRobot mouseRobot, BoundsLocator boundsLocator) {
         Objects.requireNonNull(mouseRobot, "mouseRobot must not be null");
+        Objects.requireNonNull(boundsLocator, "boundsLocator must not be null");
         this.mouseRobot = mouseRobot;
+        this.boundsLocator = boundsLocator;
     }
 
     @Override
@@ -61,15 +83,15 @@ public class ScrollRobotImpl implements ScrollRobot {
 
     @Override
     public void scrollUp(int positiveAmount) {
-        for (int scrollTick = 0; scrollTick < positiveAmount; scrollTick++) {
-            mouseRobot.scroll(SCROLL_ONE_UP_OR_LEFT);
+        if (positiveAmount > 0) {
+            mouseRobot.scroll(SCROLL_ONE_UP_OR_LEFT * positiveAmount);
         }
     }
 
     @Override
     public void scrollDown(int positiveAmount) {
-        for (int scrollTick = 0; scrollTick < positiveAmount; scrollTick++) {
-            mouseRobot.scroll(SCROLL_ONE_DOWN_OR_RIGHT);
+        if (positiveAmount > 0) {
+            mouseRobot.scroll(SCROLL_ONE_DOWN_OR_RIGHT * positiveAmount);
         }
     }
 
@@ -89,15 +111,108 @@ public class ScrollRobotImpl implements ScrollRobot {
 
     @Override
     public void scrollRight(int positiveAmount) {
-        for (int scrollTick = 0; scrollTick < positiveAmount; scrollTick++) {
-            mouseRobot.scroll(SCROLL_ONE_DOWN_OR_RIGHT);
+        if (positiveAmount > 0) {
+            scrollBy(SCROLL_ONE_DOWN_OR_RIGHT * positiveAmount * LINES_PER_WHEEL_NOTCH, 0, ScrollUnit.LINES);
         }
     }
 
     @Override
     public void scrollLeft(int positiveAmount) {
-        for (int scrollTick = 0; scrollTick < positiveAmount; scrollTick++) {
-            mouseRobot.scroll(SCROLL_ONE_UP_OR_LEFT);
+        if (positiveAmount > 0) {
+            scrollBy(SCROLL_ONE_UP_OR_LEFT * positiveAmount * LINES_PER_WHEEL_NOTCH, 0, ScrollUnit.LINES);
+        }
+    }
+
+    @Override
+    public void scrollBy(double deltaX, double deltaY, ScrollUnit unit) {
+        mouseRobot.scroll(deltaX, deltaY, unit);
+    }
+
+    @Override
+    public void scrollUntilVisible(Node node) {
+        Bounds previousNodeBounds = null;
+        for (int step = 0; step < MAX_SCROLL_STEPS; step++) {
+            ScrollStep scrollStep = waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, () -> nextScrollStep(node));
+            if (scrollStep.isDone()) {
+                return;
+            }
+            if (scrollStep.nodeBounds.equals(previousNodeBounds)) {
+                break;
+            }
+            previousNodeBounds = scrollStep.nodeBounds;
+            mouseRobot.move(scrollStep.scrollLocation);
+            scrollBy(scrollStep.deltaX, scrollStep.deltaY, ScrollUnit.PIXELS);
+        }
+        throw new FxRobotException("could not scroll node into view: " + node);
+    }
+
+    @Override
+    public <T extends Node> T scrollUntilVisible(Supplier<Optional<T>> nodeSupplier, VerticalDirection direction) {
+        double pages = direction == VerticalDirection.DOWN ? SCROLL_ONE_DOWN_OR_RIGHT : SCROLL_ONE_UP_OR_LEFT;
+        for (int page = 0; page <= MAX_SCROLL_PAGES; page++) {
+            Optional<T> node = nodeSupplier.get();
+            if (node.isPresent()) {
+                scrollUntilVisible(node.get());
+                return node.get();
+            }
+            scrollBy(0, pages, ScrollUnit.PAGES);
         }
+        throw new FxRobotException("no node found after scrolling " + MAX_SCROLL_PAGES + " pages " + direction);
     }
+
+    /**
+     * Computes the distance between the screen bounds of the given node and the visible area of its nearest
+     * clipping ancestor (or of its scene). Must be called on the JavaFX application thread.
+     */
+    private ScrollStep nextScrollStep(Node node) {
+        Node viewport = node.getParent();
+        while (viewport != null && viewport.getClip() == null && viewport.getParent() != null) {
+            viewport = viewport.getParent();
+        }
+        Bounds visibleBounds = viewport != null ? boundsLocator.boundsOnScreenFor(viewport) :
+                boundsLocator.boundsOnScreenFor(node.getScene());
+        Bounds nodeBounds = node.localToScreen(node.getBoundsInLocal());
+        double deltaX = distance(nodeBounds.getMinX(), nodeBounds.getMaxX(), visibleBounds.getMinX(),
+                visibleBounds.getMaxX());
+        double deltaY = distance(nodeBounds.getMinY(), nodeBounds.getMaxY(), visibleBounds.getMinY(),
+                visibleBounds.getMaxY());
+        Point2D scrollLocation = new Point2D(visibleBounds.getMinX() + visibleBounds.getWidth() / 2,
+                visibleBounds.getMinY() + visibleBounds.getHeight() / 2);
+        return new ScrollStep(nodeBounds, scrollLocation, deltaX, deltaY);
+    }
+
+    /**
+     * Returns how far the range {@code [nodeMin, nodeMax]} has to be scrolled to lie within {@code [visibleMin,
+     * visibleMax]}, preferring to show the start of the range if it does not fit.
+     */
+    private static double distance(double nodeMin, double nodeMax, double visibleMin, double visibleMax) {
+        if (nodeMin < visibleMin) {
+            return nodeMin - visibleMin;
+        }
+        if (nodeMax > visibleMax) {
+            return Math.min(nodeMax - visibleMax, nodeMin - visibleMin);
+        }
+        return 0;
+    }
+
+    private static final class ScrollStep {
+
+        private final Bounds nodeBounds;
+        private final Point2D scrollLocation;
+        private final double deltaX;
+        private final double deltaY;
+
+        private ScrollStep(Bounds nodeBounds, Point2D scrollLocation, double deltaX, double deltaY) {
+            this.nodeBounds = nodeBounds;
+            this.scrollLocation = scrollLocation;
+            this.deltaX = deltaX;
+            this.deltaY = deltaY;
+        }
+
+        private boolean isDone() {
+            return Math.abs(deltaX) < 1 && Math.abs(deltaY) < 1;
+        }
+
+    }
+
 }
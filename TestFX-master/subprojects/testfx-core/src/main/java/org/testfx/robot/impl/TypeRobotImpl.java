@@ -25,6 +25,7 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 
+import org.testfx.robot.KeySequence;
 import org.testfx.robot.KeyboardRobot;
 import org.testfx.robot.SleepRobot;
 import org.testfx.robot.TypeRobot;
@@ -32,6 +33,22 @@ import org.testfx.robot.TypeRobot;
 public class TypeRobotImpl implements TypeRobot {
 
     private static final long SLEEP_AFTER_KEY_CODE_IN_MILLIS = 25;
+    private static final int SLEEP_AFTER_SEQUENCE_CHORD_IN_MILLIS;
+
+    static {
+        int sequenceSleep;
+        try {
+            sequenceSleep = Integer.getInteger("testfx.robot.type_sequence_sleep", 0);
+        }
+        catch (NumberFormatException e) {
+            System.err.println("\"testfx.robot.type_sequence_sleep\" property must be a number but was: \"" +
+                    System.getProperty("testfx.robot.type_sequence_sleep") + "\".\nUsing default of \"0\" " +
+                    "milliseconds.");
+            e.printStackTrace();
+            sequenceSleep = 0;
+        }
+        SLEEP_AFTER_SEQUENCE_CHORD_IN_MILLIS = sequenceSleep;
+    }
 
     private final KeyboardRobot keyboardRobot;
     private final SleepRobot sleepRobot;
@@ -69,6 +86,18 @@ public class TypeRobotImpl implements TypeRobot {
         }
     }
 
+    @Override
+    public void type(KeySequence sequence) {
+        if (SLEEP_AFTER_SEQUENCE_CHORD_IN_MILLIS <= 0) {
+            keyboardRobot.pushSequence(sequence);
+            return;
+        }
+        for (List<KeyCode> chord : sequence.getChords()) {
+            keyboardRobot.pushSequence(KeySequence.of(chord.toArray(new KeyCode[0])));
+            sleepRobot.sleep(SLEEP_AFTER_SEQUENCE_CHORD_IN_MILLIS);
+        }
+    }
+
     private void pushKeyCode(KeyCode keyCode) {
         keyboardRobot.pressNoWait(keyCode);
         keyboardRobot.release(keyCode);
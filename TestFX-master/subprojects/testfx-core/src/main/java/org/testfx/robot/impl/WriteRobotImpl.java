@@ -18,8 +18,12 @@ package org.testfx.robot.impl;
 
 import java.util.Objects;
 import java.util.stream.Collectors;
+import javafx.event.Event;
+import javafx.event.EventHandler;
 import javafx.scene.Scene;
+import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.stage.Window;
 
 import org.testfx.robot.BaseRobot;
@@ -28,9 +32,13 @@ import org.testfx.robot.WriteRobot;
 import org.testfx.service.finder.WindowFinder;
 import org.testfx.util.WaitForAsyncUtils;
 
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
+
 public class WriteRobotImpl implements WriteRobot {
 
     private static final int SLEEP_AFTER_CHARACTER_IN_MILLIS;
+    private static final boolean WRITE_BULK = Boolean.getBoolean("testfx.robot.write_bulk");
+    private static final long INSERT_TIMEOUT_IN_MILLIS = 10000;
 
     static {
         int writeSleep;
@@ -67,7 +75,12 @@ public class WriteRobotImpl implements WriteRobot {
 
     @Override
     public void write(String text) {
-        write(text, SLEEP_AFTER_CHARACTER_IN_MILLIS);
+        if (WRITE_BULK) {
+            writeBulk(text);
+        }
+        else {
+            write(text, SLEEP_AFTER_CHARACTER_IN_MILLIS);
+        }
     }
 
     @Override
@@ -79,6 +92,39 @@ public class WriteRobotImpl implements WriteRobot {
         }
     }
 
+    @Override
+    public void writeBulk(String text) {
+        Scene scene = fetchTargetWindow().getScene();
+        baseRobot.typeText(scene, text);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
+    @Override
+    public void insertText(String text) {
+        Scene scene = fetchTargetWindow().getScene();
+        TextInputControl textInput = hasControlCharacters(text) ? null : fetchFocusedTextInput(scene);
+        if (textInput == null) {
+            writeBulk(text);
+            return;
+        }
+        // the key events are still fired (so that handlers see them) while a temporary filter keeps the control
+        // from handling the typed characters. all of it runs in one task, as typeText() runs inline on the FX thread.
+        waitForAsyncFx(INSERT_TIMEOUT_IN_MILLIS, () -> {
+            EventHandler<KeyEvent> consumeTyped = Event::consume;
+            textInput.addEventFilter(KeyEvent.KEY_TYPED, consumeTyped);
+            try {
+                baseRobot.typeText(scene, text);
+            }
+            finally {
+                textInput.removeEventFilter(KeyEvent.KEY_TYPED, consumeTyped);
+            }
+            if (textInput.isEditable() && !textInput.isDisabled()) {
+                textInput.replaceSelection(text);
+            }
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
     private Window fetchTargetWindow() {
         Window targetWindow = windowFinder.window(Window::isFocused);
         if (targetWindow == null) {
@@ -97,6 +143,15 @@ public class WriteRobotImpl implements WriteRobot {
         WaitForAsyncUtils.waitForFxEvents();
     }
 
+    private static TextInputControl fetchFocusedTextInput(Scene scene) {
+        return waitForAsyncFx(INSERT_TIMEOUT_IN_MILLIS, () -> scene.getFocusOwner() instanceof TextInputControl ?
+                (TextInputControl) scene.getFocusOwner() : null);
+    }
+
+    private static boolean hasControlCharacters(String text) {
+        return text.chars().anyMatch(Character::isISOControl);
+    }
+
     private KeyCode determineKeyCode(char character) {
         KeyCode key = KeyCode.UNDEFINED;
         key = (character == '\n') ? KeyCode.ENTER : key;
@@ -23,6 +23,8 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
 import javafx.scene.paint.Color;
 
+import org.testfx.service.support.RawCapture;
+
 /**
  * The common interface for all RobotAdapters.<br>
  * These are the minimum set of functions required from a robot to provide the
@@ -117,4 +119,16 @@ public interface RobotAdapter<T> {
      * @return a image of the region
      */
     Image getCaptureRegion(Rectangle2D region);
+
+    /**
+     * Captures a region of the screen as a buffer of pixels, without creating an {@link Image}
+     * unless the returned capture is asked for one. Implementations should hand their native pixel
+     * buffer over without copying it where possible.
+     *
+     * @param region the region to capture in JavaFx coordinates
+     * @return the pixels of the region
+     */
+    default RawCapture getCaptureRegionPixels(Rectangle2D region) {
+        return RawCapture.of(getCaptureRegion(region));
+    }
 }
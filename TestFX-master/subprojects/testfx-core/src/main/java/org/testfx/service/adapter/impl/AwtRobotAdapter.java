@@ -27,7 +27,6 @@ import java.awt.event.InputEvent;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
-import javafx.embed.swing.SwingFXUtils;
 import javafx.geometry.Point2D;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
@@ -39,6 +38,7 @@ import org.testfx.internal.JavaVersionAdapter;
 import org.testfx.internal.PlatformAdapter;
 import org.testfx.internal.PlatformAdapter.OS;
 import org.testfx.service.adapter.RobotAdapter;
+import org.testfx.service.support.RawCapture;
 
 import static org.testfx.internal.JavaVersionAdapter.convertToKeyCodeId;
 
@@ -114,6 +114,11 @@ public class AwtRobotAdapter implements RobotAdapter<Robot> {
 
     @Override
     public Image getCaptureRegion(Rectangle2D region) {
+        return getCaptureRegionPixels(region).getImage();
+    }
+
+    @Override
+    public RawCapture getCaptureRegionPixels(Rectangle2D region) {
         final Rectangle2D scaled = scaleRect(region);
         Rectangle awtRectangle = new Rectangle(
                 (int) scaled.getMinX(), (int) scaled.getMinY(),
@@ -135,7 +140,7 @@ public class AwtRobotAdapter implements RobotAdapter<Robot> {
         } else {
             out = awtBufferedImage;
         }
-        return SwingFXUtils.toFXImage(out, null);
+        return toRawCapture(out);
     }
 
 
@@ -145,7 +150,28 @@ public class AwtRobotAdapter implements RobotAdapter<Robot> {
                 (int) scaled.getMinX(), (int) scaled.getMinY(),
                 (int) scaled.getWidth(), (int) scaled.getHeight());
         BufferedImage awtBufferedImage = useRobot().createScreenCapture(awtRectangle);
-        return SwingFXUtils.toFXImage(awtBufferedImage, null);
+        return toRawCapture(awtBufferedImage).getImage();
+    }
+
+    private RawCapture toRawCapture(BufferedImage bufferedImage) {
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+        int[] pixels = bufferedImage.getRGB(0, 0, width, height, null, 0, width);
+        for (int i = 0; i < pixels.length; i++) {
+            int alpha = pixels[i] >>> 24;
+            if (alpha != 0xFF) {
+                // Screen captures are opaque, only the edges of a scaled capture need to be premultiplied.
+                pixels[i] = premultiply(pixels[i], alpha);
+            }
+        }
+        return RawCapture.wrap(pixels, width, height);
+    }
+
+    private int premultiply(int argb, int alpha) {
+        int red   = ((argb >> 16) & 0xFF) * alpha / 0xFF;
+        int green = ((argb >>  8) & 0xFF) * alpha / 0xFF;
+        int blue  =  (argb        & 0xFF) * alpha / 0xFF;
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
     }
 
     private Robot useRobot() {
@@ -16,6 +16,9 @@
  */
 package org.testfx.service.adapter.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.Callable;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 
@@ -64,7 +67,8 @@ public abstract class GlassRobotAdapter implements RobotAdapter {
 
     @Override
     public final void mouseWheel(int wheelAmount) {
-        asyncFx(() -> getRobot().getClass().getMethod("mouseWheel", int.class).invoke(getRobot(), wheelAmount));
+        MethodHandle mouseWheel = mouseWheelMethod();
+        asyncFx(glassCall(() -> mouseWheel.invoke(wheelAmount)));
     }
 
     @Override
@@ -85,4 +89,45 @@ public abstract class GlassRobotAdapter implements RobotAdapter {
 
     protected abstract Image getScreenCapture(Rectangle2D region, boolean raw);
 
+    /**
+     * Returns the handle of the {@code mouseWheel(int)} method of the Glass robot, creating the robot
+     * if needed.
+     */
+    protected abstract MethodHandle mouseWheelMethod();
+
+    /**
+     * Looks up the given public method of the given robot once and returns a {@link MethodHandle} bound to
+     * the robot, so that calling it costs about as much as a direct call.
+     */
+    protected static MethodHandle bindMethod(Object robot, String methodName, Class<?>... parameterTypes)
+            throws ReflectiveOperationException {
+        return MethodHandles.lookup().unreflect(robot.getClass().getMethod(methodName, parameterTypes))
+                .bindTo(robot);
+    }
+
+    /**
+     * Adapts a call of {@link MethodHandle}s to a {@link Callable} that can be passed to
+     * {@link org.testfx.util.WaitForAsyncUtils}.
+     */
+    protected static <T> Callable<T> glassCall(GlassCall<T> call) {
+        return () -> {
+            try {
+                return call.call();
+            }
+            catch (Exception | Error e) {
+                throw e;
+            }
+            catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    protected interface GlassCall<T> {
+
+        T call() throws Throwable;
+
+    }
+
 }
@@ -0,0 +1,594 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.adapter.impl;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.event.EventTarget;
+import javafx.event.EventType;
+import javafx.geometry.Point2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.ContextMenuEvent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.paint.Color;
+import javafx.stage.Window;
+
+import org.testfx.internal.JavaVersionAdapter;
+import org.testfx.robot.ScrollUnit;
+import org.testfx.service.adapter.RobotAdapter;
+
+import static org.testfx.internal.JavaVersionAdapter.convertToKeyCodeId;
+import static org.testfx.util.WaitForAsyncUtils.asyncFx;
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
+
+/**
+ * A {@link RobotAdapter} implementation that bypasses the operating system: it synthesizes JavaFX
+ * {@link MouseEvent}s, {@link KeyEvent}s and {@link ScrollEvent}s and fires them directly at the nodes of the
+ * window under the (virtual) mouse cursor. It needs no display and no input focus, so it is fast and tests using
+ * it may run in parallel.
+ * <p>
+ * The adapter emulates what a {@link Scene} does with OS input:
+ * <ul>
+ *     <li>mouse events are delivered to the topmost node under the cursor, with a matching {@link PickResult}</li>
+ *     <li>moving the cursor fires entered/exited events and updates the {@code hover} state where the JavaFX
+ *     version allows it</li>
+ *     <li>while a button is pressed, drag and release events are delivered to the pressed node, a drag detected
+ *     event once the mouse moved beyond the drag hysteresis, and a click is delivered to the deepest node under
+ *     both the press and the release</li>
+ *     <li>pressing a mouse button focuses its window; key events are delivered to the focus owner of the
+ *     focused window</li>
+ *     <li>pressing letter, digit and space keys also fires the matching key typed event</li>
+ * </ul>
+ * Screen captures are snapshots of the captured region of the scene under it.
+ * <p>
+ * Enable it with the system property {@code testfx.robot=inject}.
+ */
+public class InjectingRobotAdapter implements RobotAdapter<InjectingRobotAdapter> {
+
+    private static final long RETRIEVAL_TIMEOUT_IN_MILLIS = 10000;
+    private static final long MULTI_CLICK_TIMEOUT_IN_MILLIS = 500;
+    private static final double MULTI_CLICK_TOLERANCE = 5;
+    private static final double DRAG_TOLERANCE = 5;
+    private static final int PIXELS_PER_WHEEL_NOTCH = 40;
+    private static final int LINES_PER_WHEEL_NOTCH = 3;
+    private static final Method SET_HOVER_METHOD = findSetHoverMethod();
+
+    private final Predicate<Window> windowFilter;
+    private final boolean scoped;
+    private volatile Point2D mouseLocation = Point2D.ZERO;
+
+    // The following fields are only accessed on the JavaFX application thread.
+    private boolean isShiftDown;
+    private boolean isControlDown;
+    private boolean isAltDown;
+    private boolean isMetaDown;
+
+    private final Set<MouseButton> pressedButtons = EnumSet.noneOf(MouseButton.class);
+    private Scene hoveredScene;
+    private List<Node> hoveredNodes = Collections.emptyList();
+    private Scene pressScene;
+    private EventTarget pressTarget;
+    private Point2D pressLocation;
+    private boolean stillSincePress;
+    private MouseButton lastPressButton;
+    private long lastPressMillis;
+    private int clickCount;
+
+    public InjectingRobotAdapter() {
+        this.windowFilter = window -> true;
+        this.scoped = false;
+    }
+
+    /**
+     * Creates an adapter that only delivers input to the windows accepted by the given filter. The windows of
+     * one filter may overlap those of another, so that several scoped adapters can drive separate stages at the
+     * same time. Input focus is then tracked per adapter: key events go to the focused window among the accepted
+     * ones, or else to the topmost accepted window, and pressing a mouse button does not request OS focus.
+     */
+    public InjectingRobotAdapter(Predicate<Window> windowFilter) {
+        this.windowFilter = windowFilter;
+        this.scoped = true;
+    }
+
+    @Override
+    public void robotCreate() {
+        // NO-OP
+    }
+
+    @Override
+    public void robotDestroy() {
+        // NO-OP
+    }
+
+    @Override
+    public void keyPress(KeyCode key) {
+        asyncFx(() -> {
+            updateModifiers(key, true);
+            Scene scene = keyboardScene();
+            if (scene != null) {
+                EventTarget target = keyboardTarget(scene);
+                Event.fireEvent(target, createKeyEvent(KeyEvent.KEY_PRESSED, key, KeyEvent.CHAR_UNDEFINED));
+                String character = typedCharacter(key);
+                if (character != null) {
+                    Event.fireEvent(keyboardTarget(scene),
+                            createKeyEvent(KeyEvent.KEY_TYPED, KeyCode.UNDEFINED, character));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void keyRelease(KeyCode key) {
+        asyncFx(() -> {
+            updateModifiers(key, false);
+            Scene scene = keyboardScene();
+            if (scene != null) {
+                Event.fireEvent(keyboardTarget(scene),
+                        createKeyEvent(KeyEvent.KEY_RELEASED, key, KeyEvent.CHAR_UNDEFINED));
+            }
+        });
+    }
+
+    @Override
+    public Point2D getMouseLocation() {
+        return mouseLocation;
+    }
+
+    @Override
+    public void mouseMove(Point2D location) {
+        mouseLocation = location;
+        asyncFx(() -> moveTo(location));
+    }
+
+    @Override
+    public void mousePress(MouseButton button) {
+        Point2D location = mouseLocation;
+        asyncFx(() -> press(button, location));
+    }
+
+    @Override
+    public void mouseRelease(MouseButton button) {
+        Point2D location = mouseLocation;
+        asyncFx(() -> release(button, location));
+    }
+
+    @Override
+    public void mouseWheel(int wheelAmount) {
+        mouseScroll(0, wheelAmount * LINES_PER_WHEEL_NOTCH, ScrollUnit.LINES);
+    }
+
+    /**
+     * Fires a single {@link ScrollEvent} with the given deltas at the node under the mouse. Positive deltas scroll
+     * right and down (like positive wheel amounts).
+     */
+    public void mouseScroll(double deltaX, double deltaY, ScrollUnit unit) {
+        mouseScroll(mouseLocation, deltaX, deltaY, unit);
+    }
+
+    /**
+     * Fires a single {@link ScrollEvent} with the given deltas at the node under the given screen location, without
+     * moving the mouse. Positive deltas scroll right and down (like positive wheel amounts).
+     */
+    public void mouseScroll(Point2D location, double deltaX, double deltaY, ScrollUnit unit) {
+        asyncFx(() -> {
+            Scene scene = sceneAt(location);
+            if (scene != null) {
+                Point2D scenePoint = toScenePoint(scene, location);
+                EventTarget target = pick(scene, scenePoint);
+                Event.fireEvent(target, createScrollEvent(scene, scenePoint, location, target, deltaX, deltaY, unit));
+            }
+        });
+    }
+
+    @Override
+    public Color getCapturePixelColor(Point2D location) {
+        Image image = getCaptureRegion(new Rectangle2D(location.getX(), location.getY(), 1, 1));
+        return image.getPixelReader().getColor(0, 0);
+    }
+
+    @Override
+    public Image getCaptureRegion(Rectangle2D region) {
+        return onFxThread(() -> {
+            int width = (int) Math.ceil(region.getWidth());
+            int height = (int) Math.ceil(region.getHeight());
+            WritableImage image = new WritableImage(Math.max(1, width), Math.max(1, height));
+            Scene scene = sceneAt(new Point2D(region.getMinX() + region.getWidth() / 2,
+                    region.getMinY() + region.getHeight() / 2));
+            if (scene == null) {
+                return image;
+            }
+            Point2D origin = toScenePoint(scene, new Point2D(region.getMinX(), region.getMinY()));
+            int sceneX = (int) Math.floor(origin.getX());
+            int sceneY = (int) Math.floor(origin.getY());
+            int minX = Math.max(0, -sceneX);
+            int minY = Math.max(0, -sceneY);
+            int maxX = Math.min(width, (int) scene.getWidth() - sceneX);
+            int maxY = Math.min(height, (int) scene.getHeight() - sceneY);
+            if (minX < maxX && minY < maxY) {
+                // only the captured part of the scene is rendered, not the whole scene.
+                SnapshotParameters parameters = new SnapshotParameters();
+                parameters.setFill(scene.getFill());
+                parameters.setCamera(scene.getCamera());
+                parameters.setDepthBuffer(scene.isDepthBuffer());
+                parameters.setViewport(new Rectangle2D(sceneX + minX, sceneY + minY, maxX - minX, maxY - minY));
+                WritableImage regionImage = scene.getRoot().snapshot(parameters, null);
+                image.getPixelWriter().setPixels(minX, minY, maxX - minX, maxY - minY,
+                        regionImage.getPixelReader(), 0, 0);
+            }
+            return image;
+        });
+    }
+
+    private void moveTo(Point2D location) {
+        if (pressTarget != null) {
+            if (stillSincePress && location.distance(pressLocation) > DRAG_TOLERANCE) {
+                stillSincePress = false;
+                Event.fireEvent(pressTarget, createMouseEvent(MouseEvent.DRAG_DETECTED, pressScene, location,
+                        pressTarget, lastPressButton, clickCount));
+            }
+            Event.fireEvent(pressTarget, createMouseEvent(MouseEvent.MOUSE_DRAGGED, pressScene, location,
+                    pressTarget, lastPressButton, clickCount));
+            return;
+        }
+        Scene scene = sceneAt(location);
+        EventTarget target = scene != null ? pick(scene, toScenePoint(scene, location)) : null;
+        updateHover(scene, target, location);
+        if (target != null) {
+            Event.fireEvent(target, createMouseEvent(MouseEvent.MOUSE_MOVED, scene, location, target,
+                    MouseButton.NONE, 0));
+        }
+    }
+
+    private void press(MouseButton button, Point2D location) {
+        Scene scene = pressTarget != null ? pressScene : sceneAt(location);
+        if (scene == null) {
+            return;
+        }
+        if (!scoped && !scene.getWindow().isFocused()) {
+            scene.getWindow().requestFocus();
+        }
+        EventTarget target = pressTarget != null ? pressTarget : pick(scene, toScenePoint(scene, location));
+        long nowMillis = System.currentTimeMillis();
+        boolean multiClick = button == lastPressButton && pressLocation != null &&
+                nowMillis - lastPressMillis <= MULTI_CLICK_TIMEOUT_IN_MILLIS &&
+                location.distance(pressLocation) <= MULTI_CLICK_TOLERANCE;
+        clickCount = multiClick ? clickCount + 1 : 1;
+        lastPressButton = button;
+        lastPressMillis = nowMillis;
+        pressedButtons.add(button);
+        pressScene = scene;
+        pressTarget = target;
+        pressLocation = location;
+        stillSincePress = true;
+
+        Event.fireEvent(target, createMouseEvent(MouseEvent.MOUSE_PRESSED, scene, location, target, button,
+                clickCount));
+        if (button == MouseButton.SECONDARY) {
+            Point2D scenePoint = toScenePoint(scene, location);
+            Event.fireEvent(target, new ContextMenuEvent(ContextMenuEvent.CONTEXT_MENU_REQUESTED,
+                    scenePoint.getX(), scenePoint.getY(), location.getX(), location.getY(), false,
+                    new PickResult(target, scenePoint.getX(), scenePoint.getY())));
+        }
+    }
+
+    private void release(MouseButton button, Point2D location) {
+        pressedButtons.remove(button);
+        Scene scene = pressTarget != null ? pressScene : sceneAt(location);
+        if (scene == null) {
+            return;
+        }
+        EventTarget target = pressTarget != null ? pressTarget : pick(scene, toScenePoint(scene, location));
+        Event.fireEvent(target, createMouseEvent(MouseEvent.MOUSE_RELEASED, scene, location, target, button,
+                clickCount));
+
+        Scene releaseScene = sceneAt(location);
+        if (releaseScene == scene) {
+            EventTarget clickTarget = deepestCommonTarget(target, pick(scene, toScenePoint(scene, location)));
+            Event.fireEvent(clickTarget, createMouseEvent(MouseEvent.MOUSE_CLICKED, scene, location, clickTarget,
+                    button, clickCount));
+        }
+        if (pressedButtons.isEmpty()) {
+            pressScene = null;
+            pressTarget = null;
+            updateHover(releaseScene, releaseScene != null ?
+                    pick(releaseScene, toScenePoint(releaseScene, location)) : null, location);
+        }
+    }
+
+    private void updateHover(Scene scene, EventTarget target, Point2D location) {
+        List<Node> nodes = target instanceof Node ? nodeChain((Node) target) : Collections.emptyList();
+        if (hoveredScene != null) {
+            for (Node node : hoveredNodes) {
+                if (scene != hoveredScene || !nodes.contains(node)) {
+                    setHover(node, false);
+                    Event.fireEvent(node, createMouseEvent(MouseEvent.MOUSE_EXITED, hoveredScene, location, node,
+                            MouseButton.NONE, 0));
+                }
+            }
+            if (scene != hoveredScene) {
+                Event.fireEvent(hoveredScene, createMouseEvent(MouseEvent.MOUSE_EXITED, hoveredScene, location,
+                        hoveredScene, MouseButton.NONE, 0));
+            }
+        }
+        if (scene != null) {
+            if (scene != hoveredScene) {
+                Event.fireEvent(scene, createMouseEvent(MouseEvent.MOUSE_ENTERED, scene, location, scene,
+                        MouseButton.NONE, 0));
+            }
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                Node node = nodes.get(i);
+                if (scene != hoveredScene || !hoveredNodes.contains(node)) {
+                    setHover(node, true);
+                    Event.fireEvent(node, createMouseEvent(MouseEvent.MOUSE_ENTERED, scene, location, node,
+                            MouseButton.NONE, 0));
+                }
+            }
+        }
+        hoveredScene = scene;
+        hoveredNodes = nodes;
+    }
+
+    private MouseEvent createMouseEvent(EventType<MouseEvent> eventType, Scene scene, Point2D location,
+                                        EventTarget target, MouseButton button, int clickCount) {
+        Point2D scenePoint = toScenePoint(scene, location);
+        return new MouseEvent(eventType, scenePoint.getX(), scenePoint.getY(), location.getX(), location.getY(),
+                button, clickCount, isShiftDown, isControlDown, isAltDown, isMetaDown,
+                pressedButtons.contains(MouseButton.PRIMARY), pressedButtons.contains(MouseButton.MIDDLE),
+                pressedButtons.contains(MouseButton.SECONDARY), false,
+                eventType == MouseEvent.MOUSE_PRESSED && button == MouseButton.SECONDARY,
+                pressTarget != null && stillSincePress,
+                new PickResult(target, scenePoint.getX(), scenePoint.getY()));
+    }
+
+    private KeyEvent createKeyEvent(EventType<KeyEvent> eventType, KeyCode keyCode, String character) {
+        String keyText = eventType == KeyEvent.KEY_TYPED ? "" : keyCode.getName();
+        return new KeyEvent(eventType, character, keyText, keyCode, isShiftDown, isControlDown, isAltDown,
+                isMetaDown);
+    }
+
+    private void updateModifiers(KeyCode keyCode, boolean pressed) {
+        if (keyCode == KeyCode.SHIFT) {
+            isShiftDown = pressed;
+        }
+        if (keyCode == KeyCode.CONTROL) {
+            isControlDown = pressed;
+        }
+        if (keyCode == KeyCode.ALT) {
+            isAltDown = pressed;
+        }
+        if (keyCode == KeyCode.META) {
+            isMetaDown = pressed;
+        }
+    }
+
+    /**
+     * Returns the character typed by pressing the given key, if any, as the OS would report it.
+     */
+    private String typedCharacter(KeyCode key) {
+        if (isControlDown || isAltDown || isMetaDown) {
+            return null;
+        }
+        if (key.isLetterKey()) {
+            String letter = key.getName();
+            return isShiftDown ? letter.toUpperCase() : letter.toLowerCase();
+        }
+        if (key.isDigitKey() && !isShiftDown) {
+            if (key.isKeypadKey()) {
+                return String.valueOf((char) ('0' + key.ordinal() - KeyCode.NUMPAD0.ordinal()));
+            }
+            return String.valueOf((char) convertToKeyCodeId(key));
+        }
+        if (key == KeyCode.SPACE) {
+            return " ";
+        }
+        return null;
+    }
+
+    private ScrollEvent createScrollEvent(Scene scene, Point2D scenePoint, Point2D location, EventTarget target,
+                                          double deltaX, double deltaY, ScrollUnit unit) {
+        double pixelsX;
+        double pixelsY;
+        ScrollEvent.HorizontalTextScrollUnits textUnitsX;
+        ScrollEvent.VerticalTextScrollUnits textUnitsY;
+        switch (unit) {
+            case PIXELS:
+                pixelsX = deltaX;
+                pixelsY = deltaY;
+                textUnitsX = ScrollEvent.HorizontalTextScrollUnits.NONE;
+                textUnitsY = ScrollEvent.VerticalTextScrollUnits.NONE;
+                break;
+            case LINES:
+                pixelsX = deltaX * PIXELS_PER_WHEEL_NOTCH / LINES_PER_WHEEL_NOTCH;
+                pixelsY = deltaY * PIXELS_PER_WHEEL_NOTCH / LINES_PER_WHEEL_NOTCH;
+                textUnitsX = ScrollEvent.HorizontalTextScrollUnits.CHARACTERS;
+                textUnitsY = ScrollEvent.VerticalTextScrollUnits.LINES;
+                break;
+            case PAGES:
+                pixelsX = deltaX * scene.getWidth();
+                pixelsY = deltaY * scene.getHeight();
+                textUnitsX = ScrollEvent.HorizontalTextScrollUnits.NONE;
+                textUnitsY = ScrollEvent.VerticalTextScrollUnits.PAGES;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown scroll unit: " + unit);
+        }
+        double textDeltaX = textUnitsX == ScrollEvent.HorizontalTextScrollUnits.NONE ? 0 : deltaX;
+        double textDeltaY = textUnitsY == ScrollEvent.VerticalTextScrollUnits.NONE ? 0 : deltaY;
+        // positive deltas scroll right/down (towards the end of the content), which JavaFX reports as negative deltas
+        return new ScrollEvent(ScrollEvent.SCROLL, scenePoint.getX(), scenePoint.getY(), location.getX(),
+                location.getY(), isShiftDown, isControlDown, isAltDown, isMetaDown, false, false, -pixelsX, -pixelsY,
+                -pixelsX, -pixelsY, textUnitsX, -textDeltaX, textUnitsY, -textDeltaY, 0,
+                new PickResult(target, scenePoint.getX(), scenePoint.getY()));
+    }
+
+    private Scene keyboardScene() {
+        for (Window window : windowsTopmostFirst()) {
+            if (window.isShowing() && window.isFocused() && window.getScene() != null) {
+                return window.getScene();
+            }
+        }
+        if (scoped) {
+            for (Window window : windowsTopmostFirst()) {
+                if (window.isShowing() && window.getScene() != null) {
+                    return window.getScene();
+                }
+            }
+        }
+        return pressScene != null ? pressScene : hoveredScene != null ? hoveredScene : sceneAt(mouseLocation);
+    }
+
+    private static EventTarget keyboardTarget(Scene scene) {
+        return scene.getFocusOwner() != null ? scene.getFocusOwner() : scene;
+    }
+
+    /**
+     * Returns the scene of the topmost window at the given screen location. Windows have no z-order in JavaFX,
+     * so windows created later (like popups) are assumed to be on top of windows created earlier.
+     */
+    private Scene sceneAt(Point2D location) {
+        for (Window window : windowsTopmostFirst()) {
+            Scene scene = window.getScene();
+            if (window.isShowing() && scene != null &&
+                    new Rectangle2D(window.getX(), window.getY(), window.getWidth(), window.getHeight())
+                            .contains(location)) {
+                return scene;
+            }
+        }
+        return null;
+    }
+
+    private List<Window> windowsTopmostFirst() {
+        List<Window> windows = JavaVersionAdapter.getWindows();
+        windows.removeIf(windowFilter.negate());
+        Collections.reverse(windows);
+        return windows;
+    }
+
+    private static Point2D toScenePoint(Scene scene, Point2D location) {
+        return new Point2D(location.getX() - scene.getWindow().getX() - scene.getX(),
+                location.getY() - scene.getWindow().getY() - scene.getY());
+    }
+
+    /**
+     * Returns the topmost node of the given scene at the given point, or the scene if no node is there.
+     */
+    private static EventTarget pick(Scene scene, Point2D scenePoint) {
+        Node node = scene.getRoot() != null ? pick(scene.getRoot(), scenePoint) : null;
+        return node != null ? node : scene;
+    }
+
+    private static Node pick(Node node, Point2D scenePoint) {
+        if (!node.isVisible() || node.isMouseTransparent()) {
+            return null;
+        }
+        Point2D localPoint = node.sceneToLocal(scenePoint);
+        if (localPoint == null) {
+            return null;
+        }
+        if (node.getClip() != null && !node.getClip().contains(node.getClip().parentToLocal(localPoint))) {
+            return null;
+        }
+        if (node instanceof Parent) {
+            List<Node> children = ((Parent) node).getChildrenUnmodifiable();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                Node picked = pick(children.get(i), scenePoint);
+                if (picked != null) {
+                    return picked;
+                }
+            }
+        }
+        return node.contains(localPoint) ? node : null;
+    }
+
+    /**
+     * Returns the given node and its ancestors, starting with the node.
+     */
+    private static List<Node> nodeChain(Node node) {
+        List<Node> nodes = new ArrayList<>();
+        for (Node current = node; current != null; current = current.getParent()) {
+            nodes.add(current);
+        }
+        return nodes;
+    }
+
+    private static EventTarget deepestCommonTarget(EventTarget target0, EventTarget target1) {
+        if (target0 instanceof Node && target1 instanceof Node) {
+            List<Node> nodes1 = nodeChain((Node) target1);
+            for (Node node : nodeChain((Node) target0)) {
+                if (nodes1.contains(node)) {
+                    return node;
+                }
+            }
+        }
+        return target0 instanceof Node ? ((Node) target0).getScene() : target0;
+    }
+
+    private static void setHover(Node node, boolean hover) {
+        if (SET_HOVER_METHOD != null) {
+            try {
+                SET_HOVER_METHOD.invoke(node, hover);
+            }
+            catch (ReflectiveOperationException ignore) {
+                // the hover state is cosmetic, the entered/exited events have been fired
+            }
+        }
+    }
+
+    private static Method findSetHoverMethod() {
+        try {
+            Method method = Node.class.getDeclaredMethod("setHover", boolean.class);
+            method.setAccessible(true);
+            return method;
+        }
+        catch (NoSuchMethodException | RuntimeException e) {
+            // setHover is not accessible when javafx.scene is not opened to TestFX
+            return null;
+        }
+    }
+
+    private static <T> T onFxThread(Callable<T> callable) {
+        if (Platform.isFxApplicationThread()) {
+            try {
+                return callable.call();
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, callable);
+    }
+
+}
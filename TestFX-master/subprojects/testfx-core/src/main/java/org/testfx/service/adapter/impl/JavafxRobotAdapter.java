@@ -96,6 +96,24 @@ public class JavafxRobotAdapter implements RobotAdapter<JavafxRobotAdapter> {
                 KeyEvent.KEY_TYPED, key, character)));
     }
 
+    /**
+     * Fires the pressed, typed and released events of all characters of the given text in a single hop to the
+     * JavaFX application thread. New lines and tabs are pressed as {@link KeyCode#ENTER} and {@link KeyCode#TAB}.
+     */
+    public void typeText(String text) {
+        asyncFx(() -> {
+            for (int i = 0; i < text.length(); i++) {
+                char character = text.charAt(i);
+                KeyCode key = character == '\n' ? KeyCode.ENTER : character == '\t' ? KeyCode.TAB : KeyCode.UNDEFINED;
+                // KeyEvent: "For key typed events, {@code code} is always {@code KeyCode.UNDEFINED}."
+                Event.fireEvent(getEventTarget(scene), createKeyEvent(KeyEvent.KEY_PRESSED, key, ""));
+                Event.fireEvent(getEventTarget(scene), createKeyEvent(KeyEvent.KEY_TYPED, KeyCode.UNDEFINED,
+                        Character.toString(character)));
+                Event.fireEvent(getEventTarget(scene), createKeyEvent(KeyEvent.KEY_RELEASED, key, ""));
+            }
+        });
+    }
+
     @Override
     public Point2D getMouseLocation() {
         throw new UnsupportedOperationException();
@@ -16,20 +16,20 @@
  */
 package org.testfx.service.adapter.impl;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.nio.IntBuffer;
 import javafx.geometry.Point2D;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
-import javafx.scene.image.PixelWriter;
-import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
 import javafx.scene.paint.Color;
 
 import org.testfx.internal.JavaVersionAdapter;
 import org.testfx.internal.PlatformAdapter;
+import org.testfx.service.support.RawCapture;
 
 import static org.testfx.internal.JavaVersionAdapter.convertToKeyCodeId;
 import static org.testfx.util.WaitForAsyncUtils.asyncFx;
@@ -39,10 +39,13 @@ import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
  * {@link org.testfx.service.adapter.RobotAdapter} implementation that uses the private
  * {@code com.sun.glass.ui.GlassRobot} implementation to support JavaFX versions before 11.
  * <p>
- * All methods are called reflectively so that this class can compile on any JavaFX version.
+ * All methods are looked up reflectively once, when the robot is created, so that this class can compile on any
+ * JavaFX version; they are then called through {@link MethodHandle}s.
  */
 class PrivateGlassRobotAdapter extends GlassRobotAdapter {
 
+    private RobotMethods methods;
+
     @Override
     public void robotCreate() {
         try {
@@ -51,8 +54,9 @@ class PrivateGlassRobotAdapter extends GlassRobotAdapter {
             Method createRobotMethod = application.getClass().getDeclaredMethod("createRobot");
             createRobotMethod.setAccessible(true);
             glassRobot = createRobotMethod.invoke(application);
+            methods = new RobotMethods(glassRobot);
         }
-        catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException | ClassNotFoundException e) {
+        catch (ReflectiveOperationException e) {
             e.printStackTrace();
             throw new RuntimeException(e);
         }
@@ -61,104 +65,99 @@ class PrivateGlassRobotAdapter extends GlassRobotAdapter {
     @Override
     public void robotDestroy() {
         if (glassRobot != null) {
-            waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, () -> {
-                try {
-                    getRobot().getClass().getMethod("destroy").invoke(glassRobot);
-                }
-                catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-                    throw new RuntimeException(e);
-                }
+            MethodHandle destroy = methods.destroy;
+            waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, glassCall(() -> {
+                destroy.invoke();
                 glassRobot = null;
-            });
+                methods = null;
+                return null;
+            }));
         }
     }
 
     @Override
     public void keyPress(KeyCode key) {
-        asyncFx(() -> getRobot().getClass().getMethod("keyPress", int.class)
-                .invoke(getRobot(), convertToKeyCodeId(key)));
+        MethodHandle keyPress = methods().keyPress;
+        asyncFx(glassCall(() -> keyPress.invoke(convertToKeyCodeId(key))));
     }
 
     @Override
     public void keyRelease(KeyCode key) {
-        asyncFx(() -> getRobot().getClass().getMethod("keyRelease", int.class)
-                .invoke(getRobot(), convertToKeyCodeId(key)));
+        MethodHandle keyRelease = methods().keyRelease;
+        asyncFx(glassCall(() -> keyRelease.invoke(convertToKeyCodeId(key))));
     }
 
     @Override
     public Point2D getMouseLocation() {
+        RobotMethods robot = methods();
         // Note the current JavaFX version (10.0.2) behavior below is quite inconsistent (no scaling on
         // set, but scaling on read) - this might change in the future.
         // Please keep backwards compatibility to the latest version with this behavior in this case.
         if (PlatformAdapter.getOs() == PlatformAdapter.OS.UNIX &&
                 JavaVersionAdapter.currentVersion().isJava9Compatible()) {
-            return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS,
-                () -> new Point2D((int) getRobot().getClass().getMethod("getMouseX").invoke(
-                        getRobot()) / JavaVersionAdapter.getScreenScaleX(),
-                        (int) getRobot().getClass().getMethod("getMouseY").invoke(
-                                getRobot()) / JavaVersionAdapter.getScreenScaleY()));
+            return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, glassCall(
+                () -> new Point2D((int) robot.getMouseX.invoke() / JavaVersionAdapter.getScreenScaleX(),
+                        (int) robot.getMouseY.invoke() / JavaVersionAdapter.getScreenScaleY())));
         }
         else {
-            return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS,
-                () -> new Point2D((int) getRobot().getClass().getMethod("getMouseX").invoke(glassRobot),
-                        (int) getRobot().getClass().getMethod("getMouseY").invoke(glassRobot)));
+            return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, glassCall(
+                () -> new Point2D((int) robot.getMouseX.invoke(), (int) robot.getMouseY.invoke())));
         }
     }
 
     @Override
     public void mouseMove(Point2D location) {
         final Rectangle2D scaled = new Rectangle2D(location.getX(), location.getY(), 0, 0);
-        asyncFx(() -> getRobot().getClass().getMethod("mouseMove", int.class, int.class)
-                .invoke(getRobot(), (int) scaled.getMinX(), (int) scaled.getMinY()));
+        MethodHandle mouseMove = methods().mouseMove;
+        asyncFx(glassCall(() -> mouseMove.invoke((int) scaled.getMinX(), (int) scaled.getMinY())));
     }
 
     @Override
     public void mousePress(MouseButton button) {
-        asyncFx(() -> getRobot().getClass().getMethod("mousePress", int.class)
-                .invoke(getRobot(), convertToButtonId(button)));
+        RobotMethods robot = methods();
+        int buttonId = robot.convertToButtonId(button);
+        asyncFx(glassCall(() -> robot.mousePress.invoke(buttonId)));
     }
 
     @Override
     public void mouseRelease(MouseButton button) {
-        asyncFx(() -> getRobot().getClass().getMethod("mouseRelease", int.class)
-                .invoke(getRobot(), convertToButtonId(button)));
+        RobotMethods robot = methods();
+        int buttonId = robot.convertToButtonId(button);
+        asyncFx(glassCall(() -> robot.mouseRelease.invoke(buttonId)));
     }
 
     @Override
     public Color getCapturePixelColor(Point2D location) {
         final Rectangle2D scaled = new Rectangle2D(location.getX(), location.getY(), 0, 0);
-        return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, () -> {
-            int glassColor = (int) getRobot().getClass().getMethod("getPixelColor", int.class, int.class)
-                    .invoke(getRobot(), (int) scaled.getMinX(), (int) scaled.getMinY());
+        MethodHandle getPixelColor = methods().getPixelColor;
+        return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, glassCall(() -> {
+            int glassColor = (int) getPixelColor.invoke((int) scaled.getMinX(), (int) scaled.getMinY());
             return convertFromGlassColor(glassColor);
-        });
+        }));
     }
 
     @Override
     protected Image getScreenCapture(Rectangle2D region, boolean raw) {
-        return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, () -> convertFromGlassPixels(
-                getRobot().getClass().getMethod("getScreenCapture", int.class, int.class, int.class,
-                        int.class, boolean.class).invoke(glassRobot,
-                        (int) region.getMinX(), (int) region.getMinY(),
-                        (int) region.getWidth(), (int) region.getHeight(), raw)));
+        RobotMethods robot = methods();
+        return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS,
+            glassCall(() -> robot.convertFromGlassPixels(robot.captureGlassPixels(region, raw)).getImage()));
     }
 
-    private int convertToButtonId(MouseButton button) {
-        try {
-            switch (button) {
-                case PRIMARY:
-                    return getRobot().getClass().getField("MOUSE_LEFT_BTN").getInt(null);
-                case SECONDARY:
-                    return getRobot().getClass().getField("MOUSE_RIGHT_BTN").getInt(null);
-                case MIDDLE:
-                    return getRobot().getClass().getField("MOUSE_MIDDLE_BTN").getInt(null);
-                default:
-                    throw new IllegalArgumentException("MouseButton: " + button + " not supported by GlassRobot");
-            }
-        }
-        catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new IllegalArgumentException("MouseButton: " + button + " not supported by GlassRobot");
-        }
+    @Override
+    public RawCapture getCaptureRegionPixels(Rectangle2D region) {
+        RobotMethods robot = methods();
+        return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS,
+            glassCall(() -> robot.convertFromGlassPixels(robot.captureGlassPixels(region, false))));
+    }
+
+    @Override
+    protected MethodHandle mouseWheelMethod() {
+        return methods().mouseWheel;
+    }
+
+    private RobotMethods methods() {
+        getRobot();
+        return methods;
     }
 
     private Color convertFromGlassColor(int color) {
@@ -169,30 +168,96 @@ class PrivateGlassRobotAdapter extends GlassRobotAdapter {
         return new Color(red / 255d, green / 255d, blue / 255d, alpha / 255d);
     }
 
-    private Image convertFromGlassPixels(Object glassPixels) {
-        try {
-            int width = (int) glassPixels.getClass().getMethod("getWidth").invoke(glassPixels);
-            int height = (int) glassPixels.getClass().getMethod("getHeight").invoke(glassPixels);
-            WritableImage image = new WritableImage(width, height);
-            IntBuffer intBuffer = (IntBuffer) glassPixels.getClass().getMethod("getPixels").invoke(glassPixels);
-            writeIntBufferToImage(intBuffer, image);
-            return image;
-        }
-        catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
+    /**
+     * The methods of a Glass robot and its pixels, bound to the robot.
+     */
+    private static final class RobotMethods {
+
+        private final MethodHandle keyPress;
+        private final MethodHandle keyRelease;
+        private final MethodHandle getMouseX;
+        private final MethodHandle getMouseY;
+        private final MethodHandle mouseMove;
+        private final MethodHandle mousePress;
+        private final MethodHandle mouseRelease;
+        private final MethodHandle mouseWheel;
+        private final MethodHandle getPixelColor;
+        private final MethodHandle getScreenCapture;
+        private final MethodHandle destroy;
+        private final MethodHandle pixelsGetWidth;
+        private final MethodHandle pixelsGetHeight;
+        private final MethodHandle pixelsGetPixels;
+        private final int leftButtonId;
+        private final int rightButtonId;
+        private final int middleButtonId;
+
+        private RobotMethods(Object robot) throws ReflectiveOperationException {
+            keyPress = bindMethod(robot, "keyPress", int.class);
+            keyRelease = bindMethod(robot, "keyRelease", int.class);
+            getMouseX = bindMethod(robot, "getMouseX");
+            getMouseY = bindMethod(robot, "getMouseY");
+            mouseMove = bindMethod(robot, "mouseMove", int.class, int.class);
+            mousePress = bindMethod(robot, "mousePress", int.class);
+            mouseRelease = bindMethod(robot, "mouseRelease", int.class);
+            mouseWheel = bindMethod(robot, "mouseWheel", int.class);
+            getPixelColor = bindMethod(robot, "getPixelColor", int.class, int.class);
+            getScreenCapture = bindMethod(robot, "getScreenCapture", int.class, int.class, int.class, int.class,
+                    boolean.class);
+            destroy = bindMethod(robot, "destroy");
+
+            Class<?> pixelsClass = Class.forName("com.sun.glass.ui.Pixels");
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            pixelsGetWidth = lookup.unreflect(pixelsClass.getMethod("getWidth"));
+            pixelsGetHeight = lookup.unreflect(pixelsClass.getMethod("getHeight"));
+            pixelsGetPixels = lookup.unreflect(pixelsClass.getMethod("getPixels"));
+
+            leftButtonId = buttonId(robot, "MOUSE_LEFT_BTN");
+            rightButtonId = buttonId(robot, "MOUSE_RIGHT_BTN");
+            middleButtonId = buttonId(robot, "MOUSE_MIDDLE_BTN");
         }
-    }
 
-    private void writeIntBufferToImage(IntBuffer intBuffer, WritableImage image) {
-        PixelWriter pixelWriter = image.getPixelWriter();
-        double width = image.getWidth();
-        double height = image.getHeight();
+        private static int buttonId(Object robot, String fieldName) throws IllegalAccessException {
+            try {
+                return robot.getClass().getField(fieldName).getInt(null);
+            }
+            catch (NoSuchFieldException e) {
+                return -1;
+            }
+        }
 
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int argb = intBuffer.get();
-                pixelWriter.setArgb(x, y, argb);
+        private int convertToButtonId(MouseButton button) {
+            int buttonId;
+            switch (button) {
+                case PRIMARY:
+                    buttonId = leftButtonId;
+                    break;
+                case SECONDARY:
+                    buttonId = rightButtonId;
+                    break;
+                case MIDDLE:
+                    buttonId = middleButtonId;
+                    break;
+                default:
+                    buttonId = -1;
             }
+            if (buttonId == -1) {
+                throw new IllegalArgumentException("MouseButton: " + button + " not supported by GlassRobot");
+            }
+            return buttonId;
         }
+
+        private Object captureGlassPixels(Rectangle2D region, boolean raw) throws Throwable {
+            return getScreenCapture.invoke((int) region.getMinX(), (int) region.getMinY(),
+                    (int) region.getWidth(), (int) region.getHeight(), raw);
+        }
+
+        private RawCapture convertFromGlassPixels(Object glassPixels) throws Throwable {
+            int width = (int) pixelsGetWidth.invoke(glassPixels);
+            int height = (int) pixelsGetHeight.invoke(glassPixels);
+            IntBuffer intBuffer = (IntBuffer) pixelsGetPixels.invoke(glassPixels);
+            // The Glass pixels are premultiplied ARGB and owned by the capture, so hand them over as is.
+            return RawCapture.wrap(intBuffer, width, height);
+        }
+
     }
 }
@@ -16,7 +16,7 @@
  */
 package org.testfx.service.adapter.impl;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import javafx.geometry.Point2D;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
@@ -35,17 +35,20 @@ import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
  * {@link org.testfx.service.adapter.RobotAdapter} implementation that uses the public {@link javafx.scene.robot.Robot}
  * API added in JavaFX 11.
  * <p>
- * All methods are called reflectively so that this class can compile on any JavaFX version.
+ * All methods are looked up reflectively once, when the robot is created, so that this class can compile on any
+ * JavaFX version; they are then called through {@link MethodHandle}s.
  */
 class PublicGlassRobotAdapter extends GlassRobotAdapter {
 
+    private RobotMethods methods;
+
     @Override
     public void robotCreate() {
         try {
             glassRobot = Class.forName("javafx.scene.robot.Robot").getConstructor().newInstance();
+            methods = new RobotMethods(glassRobot);
         }
-        catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                NoSuchMethodException | ClassNotFoundException e) {
+        catch (ReflectiveOperationException e) {
             e.printStackTrace();
             throw new RuntimeException(e);
         }
@@ -57,66 +60,109 @@ class PublicGlassRobotAdapter extends GlassRobotAdapter {
 
     @Override
     public void keyPress(KeyCode key) {
-        asyncFx(() -> getRobot().getClass().getMethod("keyPress", KeyCode.class).invoke(getRobot(), key));
+        MethodHandle keyPress = methods().keyPress;
+        asyncFx(glassCall(() -> keyPress.invoke(key)));
     }
 
     @Override
     public void keyRelease(KeyCode key) {
-        asyncFx(() -> getRobot().getClass().getMethod("keyRelease", KeyCode.class).invoke(getRobot(), key));
+        MethodHandle keyRelease = methods().keyRelease;
+        asyncFx(glassCall(() -> keyRelease.invoke(key)));
     }
 
     @Override
     public Point2D getMouseLocation() {
+        RobotMethods robot = methods();
         // Note the current JavaFX version (10.0.2) behavior below is quite inconsistent (no scaling on
         // set, but scaling on read) - this might change in the future.
         // Please keep backwards compatibility to the latest version with this behavior in this case.
         if (PlatformAdapter.getOs() == PlatformAdapter.OS.UNIX &&
                 !JavaVersionAdapter.currentVersion().isJava11Compatible()) {
-            return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS,
-                () -> new Point2D(((Double) getRobot().getClass().getMethod("getMouseX").invoke(
-                        getRobot())).intValue() / JavaVersionAdapter.getScreenScaleX(),
-                        ((Double) getRobot().getClass().getMethod("getMouseY").invoke(
-                                getRobot())).intValue() / JavaVersionAdapter.getScreenScaleY()));
+            return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, glassCall(
+                () -> new Point2D((int) (double) robot.getMouseX.invoke() / JavaVersionAdapter.getScreenScaleX(),
+                        (int) (double) robot.getMouseY.invoke() / JavaVersionAdapter.getScreenScaleY())));
         }
         else {
-            return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, () -> new Point2D(
-                    ((Double) getRobot().getClass().getMethod("getMouseX").invoke(glassRobot)).intValue(),
-                    ((Double) getRobot().getClass().getMethod("getMouseY").invoke(glassRobot)).intValue()));
+            return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, glassCall(() -> new Point2D(
+                    (int) (double) robot.getMouseX.invoke(), (int) (double) robot.getMouseY.invoke())));
         }
     }
 
     @Override
     public void mouseMove(Point2D location) {
         final Rectangle2D scaled = new Rectangle2D(location.getX(), location.getY(), 0, 0);
-        asyncFx(() -> getRobot().getClass().getMethod("mouseMove", double.class, double.class)
-                .invoke(getRobot(), (int) scaled.getMinX(), (int) scaled.getMinY()));
+        MethodHandle mouseMove = methods().mouseMove;
+        asyncFx(glassCall(() -> mouseMove.invoke((double) (int) scaled.getMinX(), (double) (int) scaled.getMinY())));
     }
 
     @Override
     public void mousePress(MouseButton button) {
-        asyncFx(() -> getRobot().getClass().getMethod("mousePress", MouseButton[].class).invoke(getRobot(),
-                new Object[] {new MouseButton[] {button}}));
+        MethodHandle mousePress = methods().mousePress;
+        asyncFx(glassCall(() -> mousePress.invoke(new MouseButton[] {button})));
     }
 
     @Override
     public void mouseRelease(MouseButton button) {
-        asyncFx(() -> getRobot().getClass().getMethod("mouseRelease", MouseButton[].class)
-                .invoke(getRobot(), new Object[] {new MouseButton[] {button}}));
+        MethodHandle mouseRelease = methods().mouseRelease;
+        asyncFx(glassCall(() -> mouseRelease.invoke(new MouseButton[] {button})));
     }
 
     @Override
     public Color getCapturePixelColor(Point2D location) {
         final Rectangle2D scaled = new Rectangle2D(location.getX(), location.getY(), 0, 0);
+        MethodHandle getPixelColor = methods().getPixelColor;
         return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS,
-            () -> (Color) getRobot().getClass().getMethod("getPixelColor", double.class, double.class)
-                    .invoke(getRobot(), scaled.getMinX(), scaled.getMinY()));
+            glassCall(() -> (Color) getPixelColor.invoke(scaled.getMinX(), scaled.getMinY())));
     }
 
     @Override
     protected Image getScreenCapture(Rectangle2D region, boolean raw) {
-        return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, () -> (WritableImage)
-                getRobot().getClass().getMethod("getScreenCapture", WritableImage.class, double.class, double.class,
-                        double.class, double.class, boolean.class).invoke(glassRobot, null,
-                        region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight(), !raw));
+        MethodHandle getScreenCapture = methods().getScreenCapture;
+        return waitForAsyncFx(RETRIEVAL_TIMEOUT_IN_MILLIS, glassCall(() -> (WritableImage) getScreenCapture.invoke(
+                (WritableImage) null, region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight(),
+                !raw)));
+    }
+
+    @Override
+    protected MethodHandle mouseWheelMethod() {
+        return methods().mouseWheel;
+    }
+
+    private RobotMethods methods() {
+        getRobot();
+        return methods;
+    }
+
+    /**
+     * The methods of a {@link javafx.scene.robot.Robot}, bound to the robot.
+     */
+    private static final class RobotMethods {
+
+        private final MethodHandle keyPress;
+        private final MethodHandle keyRelease;
+        private final MethodHandle getMouseX;
+        private final MethodHandle getMouseY;
+        private final MethodHandle mouseMove;
+        private final MethodHandle mousePress;
+        private final MethodHandle mouseRelease;
+        private final MethodHandle mouseWheel;
+        private final MethodHandle getPixelColor;
+        private final MethodHandle getScreenCapture;
+
+        private RobotMethods(Object robot) throws ReflectiveOperationException {
+            keyPress = bindMethod(robot, "keyPress", KeyCode.class);
+            keyRelease = bindMethod(robot, "keyRelease", KeyCode.class);
+            getMouseX = bindMethod(robot, "getMouseX");
+            getMouseY = bindMethod(robot, "getMouseY");
+            mouseMove = bindMethod(robot, "mouseMove", double.class, double.class);
+            // bound as a plain method taking an array rather than as a varargs collector
+            mousePress = bindMethod(robot, "mousePress", MouseButton[].class).asFixedArity();
+            mouseRelease = bindMethod(robot, "mouseRelease", MouseButton[].class).asFixedArity();
+            mouseWheel = bindMethod(robot, "mouseWheel", int.class);
+            getPixelColor = bindMethod(robot, "getPixelColor", double.class, double.class);
+            getScreenCapture = bindMethod(robot, "getScreenCapture", WritableImage.class, double.class,
+                    double.class, double.class, double.class, boolean.class);
+        }
+
     }
 }
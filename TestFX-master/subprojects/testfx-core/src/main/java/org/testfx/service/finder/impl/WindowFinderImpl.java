@@ -35,8 +35,21 @@ import static org.testfx.internal.JavaVersionAdapter.getWindows;
 
 public class WindowFinderImpl implements WindowFinder {
 
+    private final Predicate<Window> windowFilter;
     private Window lastTargetWindow;
 
+    public WindowFinderImpl() {
+        this(window -> true);
+    }
+
+    /**
+     * Creates a window finder that only finds the windows accepted by the given filter, e.g. the windows of a
+     * single test when tests run concurrently.
+     */
+    public WindowFinderImpl(Predicate<Window> windowFilter) {
+        this.windowFilter = windowFilter;
+    }
+
     @Override
     public Window targetWindow() {
         return lastTargetWindow;
@@ -123,7 +136,9 @@ public class WindowFinderImpl implements WindowFinder {
 
     @SuppressWarnings("deprecation")
     private List<Window> fetchWindowsInQueue() {
-        return Collections.unmodifiableList(getWindows());
+        List<Window> windows = getWindows();
+        windows.removeIf(windowFilter.negate());
+        return Collections.unmodifiableList(windows);
     }
 
     private List<Window> fetchWindowsByProximityTo(Window targetWindow) {
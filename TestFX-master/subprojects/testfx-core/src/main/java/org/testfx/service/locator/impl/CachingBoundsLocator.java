@@ -0,0 +1,194 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.locator.impl;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import org.testfx.service.locator.BoundsLocator;
+
+/**
+ * A {@link BoundsLocator} that memoizes the screen bounds of nodes computed by another bounds locator, so that
+ * repeated point queries for the same node (e.g. when moving to and then clicking on it) do not compute the same
+ * transforms over and over.
+ * <p>
+ * The bounds of a node are invalidated when its {@code localToSceneTransform} (which changes with the layout and
+ * transforms of the node and all of its ancestors), its {@code boundsInLocal} or its scene changes. All bounds are
+ * invalidated when a window or scene is moved or resized. Nodes are held weakly, and the listeners are removed
+ * again once the bounds they guard are invalidated.
+ * <p>
+ * Listening to the scene graph is only allowed on the {@code JavaFX Application Thread}, so bounds are only memoized
+ * there. Queries from any other thread are passed on to the other bounds locator as they are.
+ */
+public class CachingBoundsLocator implements BoundsLocator {
+
+    private final BoundsLocator boundsLocator;
+    private final Map<Node, Bounds> screenBounds = new WeakHashMap<>();
+    private final Map<Object, Boolean> observedObjects = new WeakHashMap<>();
+    private final InvalidationListener nodeListener = this::invalidateNode;
+    private final InvalidationListener windowListener = observable -> invalidateAll();
+
+    public CachingBoundsLocator(BoundsLocator boundsLocator) {
+        Objects.requireNonNull(boundsLocator, "boundsLocator must not be null");
+        this.boundsLocator = boundsLocator;
+    }
+
+    @Override
+    public Bounds boundsInSceneFor(Node node) {
+        return boundsLocator.boundsInSceneFor(node);
+    }
+
+    @Override
+    public Bounds boundsInWindowFor(Scene scene) {
+        return boundsLocator.boundsInWindowFor(scene);
+    }
+
+    @Override
+    public Bounds boundsInWindowFor(Bounds boundsInScene, Scene scene) {
+        return boundsLocator.boundsInWindowFor(boundsInScene, scene);
+    }
+
+    @Override
+    public Bounds boundsOnScreenFor(Node node) {
+        if (!Platform.isFxApplicationThread()) {
+            return boundsLocator.boundsOnScreenFor(node);
+        }
+        Bounds bounds = screenBounds.get(node);
+        if (bounds != null) {
+            return bounds;
+        }
+        // observe (and thereby validate) the inputs before computing, so that no change can get lost.
+        observe(node);
+        bounds = boundsLocator.boundsOnScreenFor(node);
+        screenBounds.put(node, bounds);
+        return bounds;
+    }
+
+    @Override
+    public Bounds boundsOnScreenFor(Scene scene) {
+        return boundsLocator.boundsOnScreenFor(scene);
+    }
+
+    @Override
+    public Bounds boundsOnScreenFor(Window window) {
+        return boundsLocator.boundsOnScreenFor(window);
+    }
+
+    @Override
+    public Bounds boundsOnScreenFor(Bounds boundsInScene, Scene scene) {
+        return boundsLocator.boundsOnScreenFor(boundsInScene, scene);
+    }
+
+    /**
+     * Invalidates all memoized bounds and stops listening to the scene graph. When called from any other thread than
+     * the {@code JavaFX Application Thread}, the invalidation is run on it later.
+     */
+    public void invalidateAll() {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(this::invalidateAll);
+            return;
+        }
+        screenBounds.clear();
+        for (Object object : new ArrayList<>(observedObjects.keySet())) {
+            unobserve(object);
+        }
+        observedObjects.clear();
+    }
+
+    private void invalidateNode(Observable observable) {
+        Object node = observable instanceof ReadOnlyProperty ? ((ReadOnlyProperty<?>) observable).getBean() : null;
+        if (node == null) {
+            invalidateAll();
+            return;
+        }
+        screenBounds.remove(node);
+        if (observedObjects.remove(node) != null) {
+            unobserve(node);
+        }
+    }
+
+    private void observe(Node node) {
+        if (observedObjects.putIfAbsent(node, Boolean.TRUE) == null) {
+            node.localToSceneTransformProperty().addListener(nodeListener);
+            node.boundsInLocalProperty().addListener(nodeListener);
+            node.sceneProperty().addListener(nodeListener);
+        }
+        // invalidation listeners are only notified once until the value is requested again.
+        node.getLocalToSceneTransform();
+        node.getBoundsInLocal();
+        Scene scene = node.getScene();
+        if (scene != null) {
+            observe(scene);
+        }
+    }
+
+    private void observe(Scene scene) {
+        if (observedObjects.putIfAbsent(scene, Boolean.TRUE) == null) {
+            scene.xProperty().addListener(windowListener);
+            scene.yProperty().addListener(windowListener);
+            scene.widthProperty().addListener(windowListener);
+            scene.heightProperty().addListener(windowListener);
+            scene.windowProperty().addListener(windowListener);
+        }
+        scene.getX();
+        scene.getY();
+        scene.getWidth();
+        scene.getHeight();
+        Window window = scene.getWindow();
+        if (window != null) {
+            if (observedObjects.putIfAbsent(window, Boolean.TRUE) == null) {
+                window.xProperty().addListener(windowListener);
+                window.yProperty().addListener(windowListener);
+            }
+            window.getX();
+            window.getY();
+        }
+    }
+
+    private void unobserve(Object object) {
+        if (object instanceof Node) {
+            Node node = (Node) object;
+            node.localToSceneTransformProperty().removeListener(nodeListener);
+            node.boundsInLocalProperty().removeListener(nodeListener);
+            node.sceneProperty().removeListener(nodeListener);
+        }
+        else if (object instanceof Scene) {
+            Scene scene = (Scene) object;
+            scene.xProperty().removeListener(windowListener);
+            scene.yProperty().removeListener(windowListener);
+            scene.widthProperty().removeListener(windowListener);
+            scene.heightProperty().removeListener(windowListener);
+            scene.windowProperty().removeListener(windowListener);
+        }
+        else if (object instanceof Window) {
+            Window window = (Window) object;
+            window.xProperty().removeListener(windowListener);
+            window.yProperty().removeListener(windowListener);
+        }
+    }
+
+}
@@ -17,14 +17,24 @@
 package org.testfx.service.query.impl;
 
 import java.util.concurrent.Callable;
+import javafx.application.Platform;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
 
-import org.testfx.service.query.PointQuery;
+import org.testfx.util.PointQueryUtils;
 
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFxUnwrapped;
+
+/**
+ * A {@link org.testfx.service.query.PointQuery} whose bounds are computed anew by each {@link #query()}. The bounds
+ * are computed on the JavaFX application thread (in a single hop if called from another thread), so that the
+ * layout state they are derived from is consistent.
+ */
 public class CallableBoundsPointQuery extends PointQueryBase {
 
+    private static final long RETRIEVAL_TIMEOUT_IN_MILLIS = 10000;
+
     private final Callable<Bounds> callableBounds;
 
     public CallableBoundsPointQuery(Callable<Bounds> callableBounds) {
@@ -35,13 +45,19 @@ public class CallableBoundsPointQuery extends PointQueryBase {
         this.callableBounds = callableBounds;
         this.node = node;
     }
+
     @Override
     public Point2D query() {
-        Bounds bounds = fetchCallableBounds();
-        PointQuery boundsQuery = new BoundsPointQuery(bounds)
-            .atPosition(getPosition())
-            .atOffset(getOffset());
-        return boundsQuery.query();
+        if (Platform.isFxApplicationThread()) {
+            return queryPoint();
+        }
+        return waitForAsyncFxUnwrapped(RETRIEVAL_TIMEOUT_IN_MILLIS, this::queryPoint);
+    }
+
+    private Point2D queryPoint() {
+        Point2D point = PointQueryUtils.atPositionFactors(fetchCallableBounds(), getPosition());
+        Point2D offset = getOffset();
+        return new Point2D(point.getX() + offset.getX(), point.getY() + offset.getY());
     }
 
     private Bounds fetchCallableBounds() {
@@ -27,9 +27,10 @@ import org.testfx.util.PointQueryUtils;
 
 public abstract class PointQueryBase implements PointQuery {
 
-    private Point2D position = new Point2D(0, 0);
-    private Point2D offset = new Point2D(0, 0);
-    protected Node node;
+    // queries may be configured on one thread and evaluated on another (see CallableBoundsPointQuery).
+    private volatile Point2D position = new Point2D(0, 0);
+    private volatile Point2D offset = new Point2D(0, 0);
+    protected volatile Node node;
 
     @Override
     public Point2D getPosition() {
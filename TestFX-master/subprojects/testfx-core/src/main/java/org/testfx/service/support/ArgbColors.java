@@ -0,0 +1,43 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Converts between {@link Color}s and the int ARGB pixels read and written by
+ * {@link PixelMatcher#match(javafx.scene.image.Image, javafx.scene.image.Image, PixelMask)}.
+ */
+final class ArgbColors {
+
+    private ArgbColors() {
+    }
+
+    static Color toColor(int argb) {
+        return Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, (argb >>> 24) / 255.0);
+    }
+
+    static int toArgb(Color color) {
+        return (to8Bit(color.getOpacity()) << 24) | (to8Bit(color.getRed()) << 16) |
+                (to8Bit(color.getGreen()) << 8) | to8Bit(color.getBlue());
+    }
+
+    private static int to8Bit(double component) {
+        return (int) Math.round(component * 255.0);
+    }
+
+}
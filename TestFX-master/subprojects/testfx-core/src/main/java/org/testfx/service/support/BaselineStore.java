@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.Future;
+import javafx.scene.image.Image;
+
+/**
+ * Loads the expected ("golden") images of visual tests and keeps their decoded pixels around, so that
+ * a baseline PNG file is only decoded once, even across JVMs.
+ * <p>
+ * Baselines are identified by their path and the hash of their content: changing a baseline file
+ * automatically invalidates its cached pixels.
+ * <p>
+ * Baselines can be updated through an approval workflow: {@link #propose(Path, Image)} stores the actual
+ * image of a failed comparison next to the baseline, {@link #approve(Path)} replaces the baseline with it and
+ * {@link #reject(Path)} discards it.
+ */
+public interface BaselineStore {
+
+    /**
+     * Returns the decoded pixels of the given baseline PNG file.
+     */
+    RawCapture load(Path baseline);
+
+    /**
+     * Returns the given baseline PNG file as an image.
+     */
+    default Image loadImage(Path baseline) {
+        return load(baseline).getImage();
+    }
+
+    /**
+     * Decodes the given baselines in the background so that later calls to {@link #load(Path)} are served
+     * from the cache.
+     *
+     * @return a {@link Future} whose {@link Future#get()} returns once all baselines are decoded
+     */
+    Future<Void> prefetch(Collection<Path> baselines);
+
+    /**
+     * Decodes all PNG files in the package directory of the given test class in the background.
+     *
+     * @return a {@link Future} whose {@link Future#get()} returns once all baselines are decoded
+     */
+    Future<Void> prefetch(Class<?> testClass);
+
+    /**
+     * Stores the given image as the candidate that may replace the given baseline, see {@link #approve(Path)}.
+     *
+     * @return the path of the stored candidate
+     */
+    Path propose(Path baseline, Image actual);
+
+    /**
+     * Returns the path at which the candidate for the given baseline is stored.
+     */
+    Path candidatePathFor(Path baseline);
+
+    /**
+     * Replaces the given baseline with its proposed candidate.
+     */
+    void approve(Path baseline);
+
+    /**
+     * Discards the proposed candidate of the given baseline.
+     */
+    void reject(Path baseline);
+
+    /**
+     * Removes the cached pixels of the given baseline from memory.
+     */
+    void invalidate(Path baseline);
+
+}
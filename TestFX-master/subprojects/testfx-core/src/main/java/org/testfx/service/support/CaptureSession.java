@@ -0,0 +1,50 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import javafx.geometry.Rectangle2D;
+
+/**
+ * Repeatedly captures the same screen region and keeps the previous frame, so that each capture only reports
+ * (and later comparisons only need to look at) the tiles of the region that changed since the previous one.
+ * <pre>{@code
+ * CaptureSession session = captureSupport.startCaptureSession(region);
+ * session.capture();
+ * clickOn("#next");
+ * CaptureStep step = session.capture();
+ * captureSupport.matchImages(expected, step.getFrame().getImage(), pixelMatcher, step.toMask());
+ * }</pre>
+ */
+public interface CaptureSession {
+
+    /**
+     * Returns the captured screen region.
+     */
+    Rectangle2D getRegion();
+
+    /**
+     * Returns the most recently captured frame or {@literal null} if nothing was captured yet.
+     */
+    RawCapture getFrame();
+
+    /**
+     * Captures the region and compares it, tile by tile, with the previous frame. On the first capture all tiles
+     * are reported as changed.
+     */
+    CaptureStep capture();
+
+}
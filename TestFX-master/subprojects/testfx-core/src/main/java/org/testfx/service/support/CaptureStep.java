@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import java.util.Collections;
+import java.util.List;
+import javafx.geometry.Rectangle2D;
+
+/**
+ * The result of a {@link CaptureSession#capture()}: the captured frame and the tiles that changed since the
+ * previous frame. Tiles are given in pixel coordinates of the frame.
+ */
+public class CaptureStep {
+
+    private final int stepIndex;
+    private final RawCapture frame;
+    private final int tileCount;
+    private final List<Rectangle2D> changedTiles;
+
+    public CaptureStep(int stepIndex, RawCapture frame, int tileCount, List<Rectangle2D> changedTiles) {
+        this.stepIndex = stepIndex;
+        this.frame = frame;
+        this.tileCount = tileCount;
+        this.changedTiles = Collections.unmodifiableList(changedTiles);
+    }
+
+    /**
+     * Gets the index of this step in its session, starting at 0.
+     */
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    /**
+     * Gets the captured frame.
+     */
+    public RawCapture getFrame() {
+        return frame;
+    }
+
+    /**
+     * Gets the total number of tiles of the frame.
+     */
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    /**
+     * Gets the tiles whose pixels changed since the previous frame.
+     */
+    public List<Rectangle2D> getChangedTiles() {
+        return changedTiles;
+    }
+
+    /**
+     * Returns {@literal true} if any pixel changed since the previous frame.
+     */
+    public boolean hasChanges() {
+        return !changedTiles.isEmpty();
+    }
+
+    /**
+     * Returns a mask that selects only the changed tiles, for use with
+     * {@link PixelMatcher#match(javafx.scene.image.Image, javafx.scene.image.Image, PixelMask)}.
+     */
+    public PixelMask toMask() {
+        if (changedTiles.isEmpty()) {
+            return PixelMask.all().exclude(new Rectangle2D(0, 0, frame.getWidth(), frame.getHeight()));
+        }
+        PixelMask mask = PixelMask.all();
+        for (Rectangle2D tile : changedTiles) {
+            mask = mask.include(tile);
+        }
+        return mask;
+    }
+
+}
@@ -34,6 +34,23 @@ public interface CaptureSupport {
      */
     Image captureRegion(Rectangle2D region);
 
+    /**
+     * Returns a screenshot of the given region as a buffer of pixels; use this instead of
+     * {@link #captureRegion(Rectangle2D)} when only the pixels are inspected.
+     */
+    default RawCapture captureRegionPixels(Rectangle2D region) {
+        return RawCapture.of(captureRegion(region));
+    }
+
+    /**
+     * Starts a {@link CaptureSession} that repeatedly captures the given region, reporting the parts that
+     * changed between captures. The default implementation returns a {@link TiledCaptureSession} that captures
+     * with {@link #captureRegionPixels(Rectangle2D)}.
+     */
+    default CaptureSession startCaptureSession(Rectangle2D region) {
+        return new TiledCaptureSession(this, region);
+    }
+
     /**
      * Loads the image file from the given path.
      */
@@ -55,4 +72,12 @@ public interface CaptureSupport {
      */
     PixelMatcherResult matchImages(Image image0, Image image1, PixelMatcher pixelMatcher);
 
+    /**
+     * Compares the pixels of two images that are selected by the given mask and returns a
+     * {@link PixelMatcherResult} that defines the how similar/dissimilar one was from the other.
+     */
+    default PixelMatcherResult matchImages(Image image0, Image image1, PixelMatcher pixelMatcher, PixelMask mask) {
+        return pixelMatcher.match(image0, image1, mask);
+    }
+
 }
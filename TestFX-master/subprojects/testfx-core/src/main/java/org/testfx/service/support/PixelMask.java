@@ -0,0 +1,176 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+
+/**
+ * Selects the pixels of an image that are compared by {@link PixelMatcher#match(Image, Image, PixelMask)}.
+ * <p>
+ * A pixel is selected if it lies in any of the included areas (or if no area is included at all) and in none
+ * of the excluded areas. Areas are given in the coordinates of the compared images, e.g. the bounds of a node
+ * returned by {@link org.testfx.service.locator.BoundsLocator#boundsInSceneFor(javafx.scene.Node)} when the
+ * images are snapshots of the scene's root. A pixel that is only partially covered by an area counts as covered.
+ * <p>
+ * Masks are immutable: {@code include} and {@code exclude} return new masks.
+ * <pre>{@code
+ * PixelMask mask = PixelMask.all()
+ *     .exclude(boundsLocator.boundsInSceneFor(clock))
+ *     .exclude(boundsLocator.boundsInSceneFor(spinner));
+ * }</pre>
+ */
+public final class PixelMask {
+
+    private static final PixelMask ALL = new PixelMask(Collections.emptyList(), Collections.emptyList());
+
+    private final List<Area> includedAreas;
+    private final List<Area> excludedAreas;
+
+    private PixelMask(List<Area> includedAreas, List<Area> excludedAreas) {
+        this.includedAreas = includedAreas;
+        this.excludedAreas = excludedAreas;
+    }
+
+    /**
+     * Returns a mask that selects all pixels.
+     */
+    public static PixelMask all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a new mask that also selects the pixels in the given region.
+     */
+    public PixelMask include(Rectangle2D region) {
+        return new PixelMask(append(includedAreas, rectangle(region)), excludedAreas);
+    }
+
+    /**
+     * Returns a new mask that also selects the pixels in the given bounds.
+     */
+    public PixelMask include(Bounds bounds) {
+        return include(toRectangle(bounds));
+    }
+
+    /**
+     * Returns a new mask that also selects the pixels at which the given mask image is (mostly) opaque.
+     */
+    public PixelMask include(Image maskImage) {
+        return new PixelMask(append(includedAreas, opaquePixels(maskImage)), excludedAreas);
+    }
+
+    /**
+     * Returns a new mask that deselects the pixels in the given region.
+     */
+    public PixelMask exclude(Rectangle2D region) {
+        return new PixelMask(includedAreas, append(excludedAreas, rectangle(region)));
+    }
+
+    /**
+     * Returns a new mask that deselects the pixels in the given bounds.
+     */
+    public PixelMask exclude(Bounds bounds) {
+        return exclude(toRectangle(bounds));
+    }
+
+    /**
+     * Returns a new mask that deselects the pixels at which the given mask image is (mostly) opaque.
+     */
+    public PixelMask exclude(Image maskImage) {
+        return new PixelMask(includedAreas, append(excludedAreas, opaquePixels(maskImage)));
+    }
+
+    /**
+     * Returns whether this mask selects every pixel, i.e. includes no area in particular and excludes none.
+     */
+    public boolean selectsAll() {
+        return includedAreas.isEmpty() && excludedAreas.isEmpty();
+    }
+
+    /**
+     * Returns the selected pixels of an image with the given size; the bit at {@code y * width + x} is set
+     * if the pixel at {@code (x, y)} is selected.
+     */
+    public BitSet selectedPixels(int width, int height) {
+        BitSet pixels = new BitSet(width * height);
+        if (includedAreas.isEmpty()) {
+            pixels.set(0, width * height);
+        }
+        else {
+            includedAreas.forEach(area -> area.mark(pixels, width, height, true));
+        }
+        excludedAreas.forEach(area -> area.mark(pixels, width, height, false));
+        return pixels;
+    }
+
+    private static List<Area> append(List<Area> areas, Area area) {
+        List<Area> newAreas = new ArrayList<>(areas);
+        newAreas.add(area);
+        return Collections.unmodifiableList(newAreas);
+    }
+
+    private static Rectangle2D toRectangle(Bounds bounds) {
+        if (bounds.isEmpty()) {
+            return Rectangle2D.EMPTY;
+        }
+        return new Rectangle2D(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+    }
+
+    private static Area rectangle(Rectangle2D region) {
+        return (pixels, width, height, value) -> {
+            int minX = Math.max(0, (int) Math.floor(region.getMinX()));
+            int maxX = Math.min(width, (int) Math.ceil(region.getMaxX()));
+            int minY = Math.max(0, (int) Math.floor(region.getMinY()));
+            int maxY = Math.min(height, (int) Math.ceil(region.getMaxY()));
+            for (int y = minY; y < maxY && minX < maxX; y++) {
+                pixels.set(y * width + minX, y * width + maxX, value);
+            }
+        };
+    }
+
+    private static Area opaquePixels(Image maskImage) {
+        return (pixels, width, height, value) -> {
+            int maskWidth = Math.min(width, (int) maskImage.getWidth());
+            int maskHeight = Math.min(height, (int) maskImage.getHeight());
+            int[] row = new int[maskWidth];
+            for (int y = 0; y < maskHeight; y++) {
+                maskImage.getPixelReader().getPixels(0, y, maskWidth, 1, PixelFormat.getIntArgbInstance(),
+                        row, 0, maskWidth);
+                for (int x = 0; x < maskWidth; x++) {
+                    if ((row[x] >>> 24) >= 0x80) {
+                        pixels.set(y * width + x, value);
+                    }
+                }
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Area {
+
+        void mark(BitSet pixels, int width, int height, boolean value);
+
+    }
+
+}
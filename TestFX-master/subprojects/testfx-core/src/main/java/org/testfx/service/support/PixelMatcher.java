@@ -16,8 +16,14 @@
  */
 package org.testfx.service.support;
 
+import java.nio.IntBuffer;
+import java.util.BitSet;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
 import javafx.scene.paint.Color;
 
 public interface PixelMatcher extends ColorMatcher {
@@ -27,6 +33,64 @@ public interface PixelMatcher extends ColorMatcher {
      */
     PixelMatcherResult match(Image image0, Image image1);
 
+    /**
+     * Returns a {@link PixelMatcherResult} that indicates how similar/dissimilar the two images were, comparing
+     * only the pixels selected by the given mask.
+     * <p>
+     * The default implementation compares the selected pixels row by row: each run of consecutive selected pixels
+     * is read from both images, compared with {@link #matchColors} and written to the match image (created by
+     * {@link #createEmptyMatchImage}) with a single bulk operation. Pixels that are not selected are left
+     * transparent in the match image.
+     */
+    default PixelMatcherResult match(Image image0, Image image1, PixelMask mask) {
+        WritableImage matchImage = createEmptyMatchImage(image0, image1);
+        int imageWidth = (int) matchImage.getWidth();
+        int imageHeight = (int) matchImage.getHeight();
+        BitSet selectedPixels = mask.selectedPixels(imageWidth, imageHeight);
+
+        PixelReader pixelReader0 = image0.getPixelReader();
+        PixelReader pixelReader1 = image1.getPixelReader();
+        PixelWriter pixelWriter = matchImage.getPixelWriter();
+        WritablePixelFormat<IntBuffer> pixelFormat = PixelFormat.getIntArgbInstance();
+        int[] pixels0 = new int[imageWidth];
+        int[] pixels1 = new int[imageWidth];
+        int[] matchPixelsRow = new int[imageWidth];
+
+        long matchPixels = 0L;
+        long totalPixels = 0L;
+
+        int runStart = selectedPixels.nextSetBit(0);
+        while (runStart >= 0) {
+            int imageY = runStart / imageWidth;
+            int imageX = runStart % imageWidth;
+            int runEnd = Math.min(selectedPixels.nextClearBit(runStart), (imageY + 1) * imageWidth);
+            int runLength = runEnd - runStart;
+
+            pixelReader0.getPixels(imageX, imageY, runLength, 1, pixelFormat, pixels0, 0, runLength);
+            pixelReader1.getPixels(imageX, imageY, runLength, 1, pixelFormat, pixels1, 0, runLength);
+            for (int i = 0; i < runLength; i += 1) {
+                Color color0 = ArgbColors.toColor(pixels0[i]);
+                Color color1 = ArgbColors.toColor(pixels1[i]);
+                boolean areColorsMatching = matchColors(color0, color1);
+
+                if (areColorsMatching) {
+                    matchPixels += 1;
+                    matchPixelsRow[i] = ArgbColors.toArgb(createMatchColor(color0, color1));
+                }
+                else {
+                    matchPixelsRow[i] = ArgbColors.toArgb(createNonMatchColor(color0, color1));
+                }
+            }
+            pixelWriter.setPixels(imageX, imageY, runLength, 1, pixelFormat, matchPixelsRow, 0, runLength);
+
+            totalPixels += runLength;
+            runStart = selectedPixels.nextSetBit(runEnd);
+        }
+
+        long maskedPixels = (long) imageWidth * imageHeight - totalPixels;
+        return new PixelMatcherResult(matchImage, matchPixels, totalPixels, maskedPixels);
+    }
+
     /**
      * Creates a new {@link WritableImage} using {@code image0}'s width and {@code image1}'s height.
      */
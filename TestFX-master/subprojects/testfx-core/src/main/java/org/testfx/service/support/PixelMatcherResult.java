@@ -27,13 +27,19 @@ public class PixelMatcherResult {
     private final Image matchImage;
     private final long totalPixels;
     private final long matchPixels;
+    private final long maskedPixels;
     private final double matchFactor;
 
     public PixelMatcherResult(Image matchImage, long matchPixels, long totalPixels) {
+        this(matchImage, matchPixels, totalPixels, 0L);
+    }
+
+    public PixelMatcherResult(Image matchImage, long matchPixels, long totalPixels, long maskedPixels) {
         this.matchImage = matchImage;
         this.totalPixels = totalPixels;
         this.matchPixels = matchPixels;
-        this.matchFactor = matchPixels / (double) totalPixels;
+        this.maskedPixels = maskedPixels;
+        this.matchFactor = totalPixels == 0 ? 1.0 : matchPixels / (double) totalPixels;
     }
 
     /**
@@ -44,7 +50,8 @@ public class PixelMatcherResult {
     }
 
     /**
-     * Gets the total number of pixels in the match image.
+     * Gets the total number of pixels that were compared, i.e. the pixels of the match image that were
+     * not masked.
      */
     public long getTotalPixels() {
         return totalPixels;
@@ -64,6 +71,13 @@ public class PixelMatcherResult {
         return totalPixels - matchPixels;
     }
 
+    /**
+     * Gets the total number of pixels that were not compared because they were masked, see {@link PixelMask}.
+     */
+    public long getMaskedPixels() {
+        return maskedPixels;
+    }
+
     /**
      * Gets the percentage of pixels that matched between the two original images.
      */
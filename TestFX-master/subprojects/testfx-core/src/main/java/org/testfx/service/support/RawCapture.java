@@ -0,0 +1,135 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * A {@link Capture} backed directly by a buffer of premultiplied ARGB pixels (one {@code int} per pixel,
+ * row after row, see {@link PixelFormat#getIntArgbPreInstance()}).
+ * <p>
+ * Robot adapters hand their native pixel buffers to this class without copying them, so code that only
+ * needs to inspect pixels can use {@link #getArgb(int, int)} or {@link #getPixels()} and never pay for the
+ * creation of an {@link Image}. The image returned by {@link #getImage()} is only created on first use.
+ */
+public final class RawCapture implements Capture {
+
+    private final int width;
+    private final int height;
+    private final IntBuffer pixels;
+    private Image image;
+
+    private RawCapture(IntBuffer pixels, int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    /**
+     * Wraps the given buffer without copying it. The pixels are read starting at the buffer's current
+     * position, which is not modified.
+     *
+     * @param pixels the premultiplied ARGB pixels, row after row
+     * @param width the width of the captured region in pixels
+     * @param height the height of the captured region in pixels
+     * @return the capture that is backed by the given buffer
+     */
+    public static RawCapture wrap(IntBuffer pixels, int width, int height) {
+        Objects.requireNonNull(pixels, "pixels must not be null");
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("width and height must not be negative but were: " +
+                    width + "x" + height);
+        }
+        if (pixels.remaining() < width * height) {
+            throw new IllegalArgumentException("buffer holds " + pixels.remaining() + " pixels but " +
+                    width + "x" + height + " are required");
+        }
+        return new RawCapture(pixels.slice(), width, height);
+    }
+
+    /**
+     * Wraps the given array without copying it.
+     *
+     * @param pixels the premultiplied ARGB pixels, row after row
+     * @param width the width of the captured region in pixels
+     * @param height the height of the captured region in pixels
+     * @return the capture that is backed by the given array
+     */
+    public static RawCapture wrap(int[] pixels, int width, int height) {
+        return wrap(IntBuffer.wrap(pixels), width, height);
+    }
+
+    /**
+     * Reads all pixels of the given image with a single bulk read.
+     *
+     * @param image the image to read
+     * @return the capture holding the pixels of the image
+     */
+    public static RawCapture of(Image image) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        int[] pixels = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), pixels, 0, width);
+        RawCapture capture = wrap(pixels, width, height);
+        capture.image = image;
+        return capture;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns a read-only view of the pixel buffer, positioned at the first pixel.
+     */
+    public IntBuffer getPixels() {
+        return pixels.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the premultiplied ARGB value of the pixel at the given position.
+     */
+    public int getArgb(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IndexOutOfBoundsException("pixel (" + x + ", " + y + ") is outside of " + width + "x" + height);
+        }
+        return pixels.get(y * width + x);
+    }
+
+    /**
+     * Returns the pixels as an {@link Image}, creating it on first use with a single bulk write.
+     */
+    @Override
+    public Image getImage() {
+        if (image == null) {
+            WritableImage writableImage = new WritableImage(width, height);
+            writableImage.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(),
+                    pixels.duplicate(), width);
+            image = writableImage;
+        }
+        return image;
+    }
+
+}
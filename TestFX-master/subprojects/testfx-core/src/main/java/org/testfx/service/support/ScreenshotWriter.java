@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import java.nio.file.Path;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import javafx.scene.image.Image;
+
+/**
+ * Encodes and writes captured images as PNG files in the background so that the thread
+ * running the test does not wait for the (slow) encoding.
+ * <p>
+ * The pixels of a capture are read when it is submitted, so the capture may change afterwards
+ * without affecting the written file. The pending writes of the writer of the shared
+ * {@link org.testfx.api.FxService#serviceContext() service context} are flushed when the JVM shuts down,
+ * other writers have to be closed by their owner.
+ */
+public interface ScreenshotWriter {
+
+    /**
+     * Queues the given image to be written to the given path.
+     *
+     * @return a {@link Future} whose {@link Future#get()} returns the path once the file is written
+     */
+    Future<Path> write(Image image, Path path);
+
+    /**
+     * Queues the given capture to be written to the given path.
+     *
+     * @return a {@link Future} whose {@link Future#get()} returns the path once the file is written
+     */
+    Future<Path> write(RawCapture capture, Path path);
+
+    /**
+     * Waits until all queued writes are finished.
+     *
+     * @throws TimeoutException if the writes are not finished before {@code timeoutInMillis}
+     */
+    void flush(long timeoutInMillis) throws TimeoutException;
+
+    /**
+     * Finishes all queued writes and stops the worker threads. Writes submitted afterwards are
+     * performed on the calling thread.
+     */
+    void close();
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.geometry.Rectangle2D;
+
+/**
+ * A {@link CaptureSession} that reads its frames with {@link CaptureSupport#captureRegionPixels(Rectangle2D)},
+ * splits them into square tiles and compares each tile with the same tile of the previous frame, stopping at the
+ * first differing pixel.
+ * <p>
+ * JavaFX does not expose its dirty regions, so the whole region is read from the screen on each capture (with a
+ * single bulk read); only the comparison is done per tile. The tile size is set by the
+ * {@code testfx.capture.tile_size} system property and defaults to 32 pixels.
+ */
+public class TiledCaptureSession implements CaptureSession {
+
+    private final CaptureSupport captureSupport;
+    private final Rectangle2D region;
+    private final int tileSize;
+
+    private int stepIndex;
+    private RawCapture frame;
+    private int[] framePixels;
+
+    public TiledCaptureSession(CaptureSupport captureSupport, Rectangle2D region) {
+        this(captureSupport, region, Integer.getInteger("testfx.capture.tile_size", 32));
+    }
+
+    public TiledCaptureSession(CaptureSupport captureSupport, Rectangle2D region, int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("tileSize must be positive but was: " + tileSize);
+        }
+        this.captureSupport = captureSupport;
+        this.region = region;
+        this.tileSize = tileSize;
+    }
+
+    @Override
+    public Rectangle2D getRegion() {
+        return region;
+    }
+
+    @Override
+    public synchronized RawCapture getFrame() {
+        return frame;
+    }
+
+    @Override
+    public synchronized CaptureStep capture() {
+        RawCapture capture = captureSupport.captureRegionPixels(region);
+        int width = capture.getWidth();
+        int height = capture.getHeight();
+        int[] pixels = new int[width * height];
+        capture.getPixels().get(pixels);
+
+        boolean sameSize = frame != null && frame.getWidth() == width && frame.getHeight() == height;
+        int tileCount = 0;
+        List<Rectangle2D> changedTiles = new ArrayList<>();
+        for (int tileY = 0; tileY < height; tileY += tileSize) {
+            for (int tileX = 0; tileX < width; tileX += tileSize) {
+                int tileWidth = Math.min(tileSize, width - tileX);
+                int tileHeight = Math.min(tileSize, height - tileY);
+                tileCount += 1;
+                if (!sameSize || !isTileEqual(pixels, framePixels, width, tileX, tileY, tileWidth, tileHeight)) {
+                    changedTiles.add(new Rectangle2D(tileX, tileY, tileWidth, tileHeight));
+                }
+            }
+        }
+
+        frame = RawCapture.wrap(pixels, width, height);
+        framePixels = pixels;
+        return new CaptureStep(stepIndex++, frame, tileCount, changedTiles);
+    }
+
+    private static boolean isTileEqual(int[] pixels, int[] previousPixels, int width,
+                                       int tileX, int tileY, int tileWidth, int tileHeight) {
+        for (int y = tileY; y < tileY + tileHeight; y++) {
+            int rowStart = y * width + tileX;
+            for (int i = rowStart; i < rowStart + tileWidth; i++) {
+                if (pixels[i] != previousPixels[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support.impl;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javafx.scene.image.Image;
+import javax.imageio.ImageIO;
+
+import org.testfx.service.support.BaselineStore;
+import org.testfx.service.support.RawCapture;
+
+import static org.testfx.util.WaitForAsyncUtils.async;
+
+/**
+ * A {@link BaselineStore} with two cache tiers:
+ * <ol>
+ *     <li>an in-heap LRU cache of the most recently used baselines, whose size is set by the
+ *     {@code testfx.baseline.cache_size} system property (defaults to 64 baselines)</li>
+ *     <li>a directory of raw pixel files named after the hash of the PNG file they were decoded from (and the
+ *     byte order they were written in), which are memory-mapped when loaded. The directory is set by the
+ *     {@code testfx.baseline.cache_dir} system property and defaults to "testfx-baselines" in the temporary
+ *     directory. It is shared by all JVMs using the same directory.</li>
+ * </ol>
+ * A raw pixel file is never replaced once published, since it may be mapped by this or another JVM (which Windows
+ * does not allow to replace). Whenever a file is added, the least recently used files are evicted until the
+ * directory fits the size set by the {@code testfx.baseline.cache_dir_size} system property in megabytes
+ * (defaults to 256).
+ */
+public class BaselineStoreImpl implements BaselineStore {
+
+    private static final String PNG_EXTENSION = "." + CaptureSupportImpl.PNG_IMAGE_FORMAT;
+    private static final String CANDIDATE_EXTENSION = ".candidate" + PNG_EXTENSION;
+    private static final String CACHE_FILE_EXTENSION = ".argb";
+    private static final String CACHE_FILE_SUFFIX =
+            (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? "-le" : "-be") + CACHE_FILE_EXTENSION;
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final long STALE_TEMP_FILE_AGE_IN_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long DEFAULT_CACHE_DIRECTORY_SIZE_IN_MEGABYTES = 256;
+
+    /**
+     * Raw pixel files start with this magic number followed by the width and the height of the image,
+     * all in native byte order.
+     */
+    private static final int CACHE_FILE_MAGIC = 0x54465842;
+    private static final int CACHE_FILE_HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final Path cacheDirectory;
+    private final long maxCacheDirectoryBytes;
+    private final Map<Path, CachedBaseline> heapCache;
+
+    public BaselineStoreImpl() {
+        this(Paths.get(System.getProperty("testfx.baseline.cache_dir",
+                Paths.get(System.getProperty("java.io.tmpdir"), "testfx-baselines").toString())),
+            Integer.getInteger("testfx.baseline.cache_size", 64),
+            Long.getLong("testfx.baseline.cache_dir_size", DEFAULT_CACHE_DIRECTORY_SIZE_IN_MEGABYTES) * 1024 * 1024);
+    }
+
+    public BaselineStoreImpl(Path cacheDirectory, int maxCachedBaselines) {
+        this(cacheDirectory, maxCachedBaselines, DEFAULT_CACHE_DIRECTORY_SIZE_IN_MEGABYTES * 1024 * 1024);
+    }
+
+    public BaselineStoreImpl(Path cacheDirectory, int maxCachedBaselines, long maxCacheDirectoryBytes) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxCacheDirectoryBytes = maxCacheDirectoryBytes;
+        this.heapCache = new LinkedHashMap<Path, CachedBaseline>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, CachedBaseline> eldest) {
+                return size() > maxCachedBaselines;
+            }
+        };
+    }
+
+    @Override
+    public RawCapture load(Path baseline) {
+        Path key = baseline.toAbsolutePath().normalize();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+            CachedBaseline cached;
+            synchronized (heapCache) {
+                cached = heapCache.get(key);
+            }
+            if (cached != null && cached.isCurrent(attributes)) {
+                return cached.capture;
+            }
+
+            byte[] content = Files.readAllBytes(key);
+            String hash = hash(content);
+            RawCapture capture = cached != null && cached.hash.equals(hash) ? cached.capture :
+                    loadFromCacheDirectory(hash, content);
+            synchronized (heapCache) {
+                heapCache.put(key, new CachedBaseline(hash, attributes, capture));
+            }
+            return capture;
+        }
+        catch (NoSuchFileException exception) {
+            throw new RuntimeException("File " + baseline.getFileName() + " not found.", exception);
+        }
+        catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public Future<Void> prefetch(Collection<Path> baselines) {
+        List<Path> paths = new ArrayList<>(baselines);
+        return async(() -> paths.forEach(this::load));
+    }
+
+    @Override
+    public Future<Void> prefetch(Class<?> testClass) {
+        String packagePath = testClass.getName().substring(0, testClass.getName().lastIndexOf('.') + 1)
+                .replace('.', '/');
+        List<Path> baselines = new ArrayList<>();
+        try {
+            // Resources usually live in another directory than the compiled classes of the same package.
+            Enumeration<URL> packageUrls = testClass.getClassLoader().getResources(packagePath);
+            while (packageUrls.hasMoreElements()) {
+                URL packageUrl = packageUrls.nextElement();
+                if ("file".equals(packageUrl.getProtocol())) {
+                    baselines.addAll(listBaselines(Paths.get(packageUrl.toURI())));
+                }
+            }
+        }
+        catch (IOException | URISyntaxException exception) {
+            throw new RuntimeException(exception);
+        }
+        return prefetch(baselines);
+    }
+
+    @Override
+    public Path propose(Path baseline, Image actual) {
+        Path candidate = candidatePathFor(baseline);
+        try {
+            ScreenshotWriterImpl.writePng(ScreenshotWriterImpl.readPixels(actual), candidate, -1);
+        }
+        catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        return candidate;
+    }
+
+    @Override
+    public Path candidatePathFor(Path baseline) {
+        String fileName = baseline.getFileName().toString();
+        if (fileName.endsWith(PNG_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - PNG_EXTENSION.length());
+        }
+        return baseline.resolveSibling(fileName + CANDIDATE_EXTENSION);
+    }
+
+    @Override
+    public void approve(Path baseline) {
+        Path candidate = candidatePathFor(baseline);
+        if (!Files.isRegularFile(candidate)) {
+            throw new RuntimeException("No candidate " + candidate.getFileName() + " found for baseline " +
+                    baseline.getFileName() + ".");
+        }
+        try {
+            Files.move(candidate, baseline, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        invalidate(baseline);
+    }
+
+    @Override
+    public void reject(Path baseline) {
+        try {
+            Files.deleteIfExists(candidatePathFor(baseline));
+        }
+        catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public void invalidate(Path baseline) {
+        synchronized (heapCache) {
+            heapCache.remove(baseline.toAbsolutePath().normalize());
+        }
+    }
+
+    private List<Path> listBaselines(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(PNG_EXTENSION))
+                    .filter(file -> !file.getFileName().toString().endsWith(CANDIDATE_EXTENSION))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private RawCapture loadFromCacheDirectory(String hash, byte[] content) throws IOException {
+        Path cacheFile = cacheDirectory.resolve(hash + CACHE_FILE_SUFFIX);
+        boolean invalidCacheFile = false;
+        if (Files.isRegularFile(cacheFile)) {
+            RawCapture capture = mapCacheFile(cacheFile);
+            if (capture != null) {
+                markUsed(cacheFile);
+                return capture;
+            }
+            invalidCacheFile = true;
+        }
+        RawCapture capture = decode(content);
+        try {
+            if (invalidCacheFile) {
+                Files.deleteIfExists(cacheFile);
+            }
+            writeCacheFile(cacheFile, capture);
+            evictCacheFiles();
+        }
+        catch (IOException ignore) {
+            // the cache directory is an optimization only, the decoded pixels are still valid
+        }
+        return capture;
+    }
+
+    private RawCapture mapCacheFile(Path cacheFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < CACHE_FILE_HEADER_SIZE) {
+                return null;
+            }
+            // the header is validated before mapping, so that no mapping keeps an invalid file open.
+            ByteBuffer header = ByteBuffer.allocate(CACHE_FILE_HEADER_SIZE).order(ByteOrder.nativeOrder());
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    return null;
+                }
+            }
+            if (header.getInt(0) != CACHE_FILE_MAGIC) {
+                return null;
+            }
+            int width = header.getInt(Integer.BYTES);
+            int height = header.getInt(2 * Integer.BYTES);
+            if (size != CACHE_FILE_HEADER_SIZE + (long) Integer.BYTES * width * height) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, CACHE_FILE_HEADER_SIZE,
+                    size - CACHE_FILE_HEADER_SIZE);
+            return RawCapture.wrap(buffer.order(ByteOrder.nativeOrder()).asIntBuffer(), width, height);
+        }
+    }
+
+    private void writeCacheFile(Path cacheFile, RawCapture capture) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        ByteBuffer buffer = ByteBuffer.allocate(CACHE_FILE_HEADER_SIZE +
+                Integer.BYTES * capture.getWidth() * capture.getHeight()).order(ByteOrder.nativeOrder());
+        buffer.putInt(CACHE_FILE_MAGIC).putInt(capture.getWidth()).putInt(capture.getHeight());
+        buffer.asIntBuffer().put(capture.getPixels());
+
+        // Other JVMs may read the cache directory concurrently, so only publish complete files. The rename does
+        // not replace an existing file, which another JVM may have published (and mapped) in the meantime.
+        Path tempFile = Files.createTempFile(cacheDirectory, cacheFile.getFileName().toString(),
+                TEMP_FILE_EXTENSION);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(tempFile, cacheFile);
+        }
+        catch (FileAlreadyExistsException ignore) {
+            // published by another JVM, with the same content
+        }
+        finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Deletes the least recently used cache files until the cache directory fits its maximum size, as well as
+     * temporary files left behind by JVMs that died while writing. Files that can not be deleted (e.g. because
+     * they are mapped on Windows) are skipped.
+     */
+    private void evictCacheFiles() throws IOException {
+        List<Path> cacheFiles = new ArrayList<>();
+        Map<Path, BasicFileAttributes> attributes = new HashMap<>();
+        long totalBytes = 0;
+        long staleMillis = System.currentTimeMillis() - STALE_TEMP_FILE_AGE_IN_MILLIS;
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                String fileName = file.getFileName().toString();
+                BasicFileAttributes fileAttributes;
+                try {
+                    fileAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+                }
+                catch (IOException ignore) {
+                    // deleted by another JVM
+                    continue;
+                }
+                if (fileName.endsWith(TEMP_FILE_EXTENSION) &&
+                        fileAttributes.lastModifiedTime().toMillis() < staleMillis) {
+                    deleteQuietly(file);
+                }
+                else if (fileName.endsWith(CACHE_FILE_EXTENSION)) {
+                    cacheFiles.add(file);
+                    attributes.put(file, fileAttributes);
+                    totalBytes += fileAttributes.size();
+                }
+            }
+        }
+        if (totalBytes <= maxCacheDirectoryBytes) {
+            return;
+        }
+        cacheFiles.sort(Comparator.comparing(file -> attributes.get(file).lastModifiedTime()));
+        for (Path file : cacheFiles) {
+            if (totalBytes <= maxCacheDirectoryBytes) {
+                break;
+            }
+            if (deleteQuietly(file)) {
+                totalBytes -= attributes.get(file).size();
+            }
+        }
+    }
+
+    /**
+     * Marks the given cache file as recently used for {@link #evictCacheFiles()}.
+     */
+    private static void markUsed(Path cacheFile) {
+        try {
+            Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+        }
+        catch (IOException ignore) {
+            // e.g. a read-only cache directory, the file is merely evicted earlier
+        }
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        }
+        catch (IOException ignore) {
+            return false;
+        }
+    }
+
+    private RawCapture decode(byte[] content) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(content));
+        if (image == null) {
+            throw new IOException("unsupported image format");
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        for (int i = 0; i < pixels.length; i++) {
+            int alpha = pixels[i] >>> 24;
+            if (alpha != 0xFF) {
+                pixels[i] = premultiply(pixels[i], alpha);
+            }
+        }
+        return RawCapture.wrap(pixels, width, height);
+    }
+
+    private static int premultiply(int argb, int alpha) {
+        int red   = ((argb >> 16) & 0xFF) * alpha / 0xFF;
+        int green = ((argb >>  8) & 0xFF) * alpha / 0xFF;
+        int blue  =  (argb        & 0xFF) * alpha / 0xFF;
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte value : digest) {
+                hex.append(String.format("%02x", value));
+            }
+            return hex.toString();
+        }
+        catch (NoSuchAlgorithmException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static final class CachedBaseline {
+
+        private final String hash;
+        private final long size;
+        private final long lastModifiedMillis;
+        private final RawCapture capture;
+
+        private CachedBaseline(String hash, BasicFileAttributes attributes, RawCapture capture) {
+            this.hash = hash;
+            this.size = attributes.size();
+            this.lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+            this.capture = capture;
+        }
+
+        private boolean isCurrent(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModifiedMillis == attributes.lastModifiedTime().toMillis();
+        }
+
+    }
+
+}
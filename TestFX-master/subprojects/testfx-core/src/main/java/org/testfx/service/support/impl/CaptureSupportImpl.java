@@ -19,7 +19,6 @@ package org.testfx.service.support.impl;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import javafx.embed.swing.SwingFXUtils;
@@ -33,6 +32,7 @@ import org.testfx.robot.BaseRobot;
 import org.testfx.service.support.CaptureSupport;
 import org.testfx.service.support.PixelMatcher;
 import org.testfx.service.support.PixelMatcherResult;
+import org.testfx.service.support.RawCapture;
 
 import static org.testfx.util.WaitForAsyncUtils.asyncFx;
 import static org.testfx.util.WaitForAsyncUtils.waitFor;
@@ -57,6 +57,11 @@ public class CaptureSupportImpl implements CaptureSupport {
         return baseRobot.captureRegion(region);
     }
 
+    @Override
+    public RawCapture captureRegionPixels(Rectangle2D region) {
+        return baseRobot.captureRegionPixels(region);
+    }
+
     @Override
     public Image loadImage(Path path) {
         checkFileExists(path);
@@ -72,8 +77,8 @@ public class CaptureSupportImpl implements CaptureSupport {
     public void saveImage(Image image,
                           Path path) {
         checkParentDirectoryExists(path);
-        try (OutputStream outputStream = Files.newOutputStream(path)) {
-            writeImageToStream(image, outputStream);
+        try {
+            ScreenshotWriterImpl.writePng(ScreenshotWriterImpl.readPixels(image), path, -1);
         }
         catch (IOException exception) {
             throw new RuntimeException(exception);
@@ -114,10 +119,4 @@ public class CaptureSupportImpl implements CaptureSupport {
         return SwingFXUtils.toFXImage(bufferedImage, null);
     }
 
-    private void writeImageToStream(Image image,
-                                    OutputStream outputStream) throws IOException {
-        BufferedImage bufferedImage = SwingFXUtils.fromFXImage(image, null);
-        ImageIO.write(bufferedImage, PNG_IMAGE_FORMAT, outputStream);
-    }
-
 }
@@ -17,43 +17,21 @@
 package org.testfx.service.support.impl;
 
 import javafx.scene.image.Image;
-import javafx.scene.image.WritableImage;
-import javafx.scene.paint.Color;
 
+import org.testfx.service.support.PixelMask;
 import org.testfx.service.support.PixelMatcher;
 import org.testfx.service.support.PixelMatcherResult;
 
+/**
+ * Base class of {@link PixelMatcher}s that compare two images as a
+ * {@link PixelMatcher#match(Image, Image, PixelMask) masked comparison} selecting all pixels.
+ */
 public abstract class PixelMatcherBase implements PixelMatcher {
 
     @Override
     public PixelMatcherResult match(Image image0,
                                     Image image1) {
-        WritableImage matchImage = createEmptyMatchImage(image0, image1);
-        int imageWidth = (int) matchImage.getWidth();
-        int imageHeight = (int) matchImage.getHeight();
-
-        long matchPixels = 0L;
-        long totalPixels = imageWidth * imageHeight;
-
-        for (int imageY = 0; imageY < imageHeight; imageY += 1) {
-            for (int imageX = 0; imageX < imageWidth; imageX += 1) {
-                Color color0 = image0.getPixelReader().getColor(imageX, imageY);
-                Color color1 = image1.getPixelReader().getColor(imageX, imageY);
-                boolean areColorsMatching = matchColors(color0, color1);
-
-                if (areColorsMatching) {
-                    matchPixels += 1;
-                    Color matchColor = createMatchColor(color0, color1);
-                    matchImage.getPixelWriter().setColor(imageX, imageY, matchColor);
-                }
-                else {
-                    Color nonMatchColor = createNonMatchColor(color0, color1);
-                    matchImage.getPixelWriter().setColor(imageX, imageY, nonMatchColor);
-                }
-            }
-        }
-
-        return new PixelMatcherResult(matchImage, matchPixels, totalPixels);
+        return match(image0, image1, PixelMask.all());
     }
 
 }
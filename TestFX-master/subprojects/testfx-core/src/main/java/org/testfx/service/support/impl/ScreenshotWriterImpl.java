@@ -0,0 +1,221 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support.impl;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.testfx.service.support.RawCapture;
+import org.testfx.service.support.ScreenshotWriter;
+
+/**
+ * A {@link ScreenshotWriter} that encodes PNG files on a small pool of daemon threads.
+ * <p>
+ * The pool is configured with the following system properties:
+ * <ul>
+ *     <li>{@code testfx.screenshot.threads}: the number of worker threads, defaults to half
+ *     the available processors</li>
+ *     <li>{@code testfx.screenshot.queue_size}: the number of captures that may wait for a worker,
+ *     defaults to 32. When the queue is full the submitting thread encodes the capture itself.</li>
+ *     <li>{@code testfx.screenshot.compression}: the deflate level from 0 (fastest) to 9 (smallest),
+ *     defaults to the level of the PNG writer. Ignored on Java 8, whose PNG writer can not be tuned.</li>
+ * </ul>
+ * The worker threads are daemon threads, so whoever creates a writer has to {@link #close()} it to make sure that
+ * all queued screenshots are written.
+ */
+public class ScreenshotWriterImpl implements ScreenshotWriter {
+
+    private static final long CLOSE_TIMEOUT_IN_MILLIS = 60000;
+
+    private final ThreadPoolExecutor executor;
+    private final int compressionLevel;
+    private final Queue<Future<Path>> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    public ScreenshotWriterImpl() {
+        this(Integer.getInteger("testfx.screenshot.threads",
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
+            Integer.getInteger("testfx.screenshot.queue_size", 32),
+            Integer.getInteger("testfx.screenshot.compression", -1));
+    }
+
+    public ScreenshotWriterImpl(int workerCount, int queueSize, int compressionLevel) {
+        if (compressionLevel > 9) {
+            throw new IllegalArgumentException("compressionLevel must be between 0 and 9 but was: " +
+                    compressionLevel);
+        }
+        this.compressionLevel = compressionLevel;
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "testfx-screenshot-writer-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, pool) -> runnable.run());
+    }
+
+    @Override
+    public Future<Path> write(Image image, Path path) {
+        return submit(readPixels(image), path);
+    }
+
+    @Override
+    public Future<Path> write(RawCapture capture, Path path) {
+        return submit(readPixels(capture), path);
+    }
+
+    @Override
+    public void flush(long timeoutInMillis) throws TimeoutException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        Iterator<Future<Path>> iterator = pendingWrites.iterator();
+        while (iterator.hasNext()) {
+            try {
+                iterator.next().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+            catch (ExecutionException ignore) {
+                // already reported by the failed write
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(exception);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            flush(CLOSE_TIMEOUT_IN_MILLIS);
+        }
+        catch (TimeoutException exception) {
+            System.err.println("testfx: " + pendingWrites.size() + " screenshots were not written before shutdown");
+        }
+    }
+
+    /**
+     * Writes the given image as a PNG file to the given path on the calling thread.
+     */
+    static void writePng(BufferedImage image, Path path, int compressionLevel) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(CaptureSupportImpl.PNG_IMAGE_FORMAT).next();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             ImageOutputStream outputStream = new MemoryCacheImageOutputStream(Channels.newOutputStream(channel))) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (compressionLevel >= 0 && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(1f - compressionLevel / 9f);
+            }
+            writer.setOutput(outputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        }
+        finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Copies the pixels of the given image into a new {@link BufferedImage} with a single bulk read.
+     */
+    static BufferedImage readPixels(Image image) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(),
+                pixelsOf(bufferedImage), 0, width);
+        return bufferedImage;
+    }
+
+    private static BufferedImage readPixels(RawCapture capture) {
+        BufferedImage bufferedImage = new BufferedImage(capture.getWidth(), capture.getHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = pixelsOf(bufferedImage);
+        capture.getPixels().get(pixels);
+        for (int i = 0; i < pixels.length; i++) {
+            int alpha = pixels[i] >>> 24;
+            if (alpha != 0xFF) {
+                pixels[i] = unpremultiply(pixels[i], alpha);
+            }
+        }
+        return bufferedImage;
+    }
+
+    private static int[] pixelsOf(BufferedImage bufferedImage) {
+        return ((DataBufferInt) bufferedImage.getRaster().getDataBuffer()).getData();
+    }
+
+    private static int unpremultiply(int argb, int alpha) {
+        if (alpha == 0) {
+            return 0;
+        }
+        int red   = Math.min(0xFF, ((argb >> 16) & 0xFF) * 0xFF / alpha);
+        int green = Math.min(0xFF, ((argb >>  8) & 0xFF) * 0xFF / alpha);
+        int blue  = Math.min(0xFF,  (argb        & 0xFF) * 0xFF / alpha);
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    private Future<Path> submit(BufferedImage image, Path path) {
+        FutureTask<Path> task = new FutureTask<Path>(() -> {
+            writePng(image, path, compressionLevel);
+            return path;
+        }) {
+            @Override
+            protected void done() {
+                pendingWrites.remove(this);
+                if (!isCancelled()) {
+                    try {
+                        get();
+                    }
+                    catch (ExecutionException exception) {
+                        System.err.println("testfx: could not write screenshot to " + path.toAbsolutePath());
+                        exception.getCause().printStackTrace();
+                    }
+                    catch (InterruptedException ignore) {
+                        // not possible, the task is done
+                    }
+                }
+            }
+        };
+        pendingWrites.add(task);
+        executor.execute(task);
+        return task;
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * A checkpoint of a running application that tests can be reset to, instead of starting a new instance of the
+ * application for every test.
+ * <p>
+ * A snapshot records, for each given stage, its scene, the scene's root, its title, geometry and window state,
+ * and whether it was showing. Restoring puts these back. The nodes themselves are not copied: changes a test
+ * makes inside the scene graph or to the application's model are only undone by {@link StateHook}s, which
+ * record whatever state the application needs and return an action that restores it.
+ * <p>
+ * Snapshots are captured and restored on the {@code JavaFX Application Thread}, see
+ * {@link org.testfx.api.FxToolkit#snapshotApplication(StateHook...)} and
+ * {@link org.testfx.api.FxToolkit#restoreApplication(ApplicationSnapshot)}.
+ * <pre>{@code
+ * ApplicationSnapshot snapshot = FxToolkit.snapshotApplication(() -> {
+ *     List<Item> items = new ArrayList<>(model.getItems());
+ *     return () -> model.getItems().setAll(items);
+ * });
+ * // ... run a test ...
+ * FxToolkit.restoreApplication(snapshot);
+ * }</pre>
+ */
+public final class ApplicationSnapshot {
+
+    /**
+     * Records part of the application's state.
+     */
+    @FunctionalInterface
+    public interface StateHook {
+
+        /**
+         * Records the state, called on the {@code JavaFX Application Thread}.
+         *
+         * @return the action that restores the recorded state, also run on the {@code JavaFX Application Thread}
+         */
+        Runnable capture() throws Exception;
+
+    }
+
+    private final List<StageState> stageStates;
+    private final List<Runnable> stateRestorers;
+
+    private ApplicationSnapshot(List<StageState> stageStates, List<Runnable> stateRestorers) {
+        this.stageStates = stageStates;
+        this.stateRestorers = stateRestorers;
+    }
+
+    /**
+     * Captures the given stages and runs the given hooks. Must be called on the
+     * {@code JavaFX Application Thread}.
+     */
+    public static ApplicationSnapshot capture(Collection<? extends Stage> stages,
+                                              Collection<? extends StateHook> stateHooks) throws Exception {
+        assertFxApplicationThread();
+        List<StageState> stageStates = new ArrayList<>();
+        for (Stage stage : new LinkedHashSet<>(stages)) {
+            stageStates.add(new StageState(stage));
+        }
+        List<Runnable> stateRestorers = new ArrayList<>();
+        for (StateHook stateHook : stateHooks) {
+            stateRestorers.add(stateHook.capture());
+        }
+        return new ApplicationSnapshot(Collections.unmodifiableList(stageStates),
+                Collections.unmodifiableList(stateRestorers));
+    }
+
+    /**
+     * Restores the captured stages, then runs the actions returned by the hooks in the order the hooks were
+     * given. Must be called on the {@code JavaFX Application Thread}.
+     */
+    public void restore() {
+        assertFxApplicationThread();
+        stageStates.forEach(StageState::restore);
+        stateRestorers.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns whether the given window is one of the captured stages.
+     */
+    public boolean contains(Window window) {
+        for (StageState stageState : stageStates) {
+            if (stageState.stage == window) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertFxApplicationThread() {
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("must be called on the JavaFX Application Thread");
+        }
+    }
+
+    private static final class StageState {
+
+        private final Stage stage;
+        private final Scene scene;
+        private final Parent root;
+        private final String title;
+        private final double x;
+        private final double y;
+        private final double width;
+        private final double height;
+        private final boolean maximized;
+        private final boolean fullScreen;
+        private final boolean iconified;
+        private final boolean showing;
+
+        private StageState(Stage stage) {
+            this.stage = stage;
+            this.scene = stage.getScene();
+            this.root = scene != null ? scene.getRoot() : null;
+            this.title = stage.getTitle();
+            this.x = stage.getX();
+            this.y = stage.getY();
+            this.width = stage.getWidth();
+            this.height = stage.getHeight();
+            this.maximized = stage.isMaximized();
+            this.fullScreen = stage.isFullScreen();
+            this.iconified = stage.isIconified();
+            this.showing = stage.isShowing();
+        }
+
+        private void restore() {
+            if (stage.getScene() != scene) {
+                stage.setScene(scene);
+            }
+            if (scene != null && scene.getRoot() != root) {
+                scene.setRoot(root);
+            }
+            stage.setTitle(title);
+            stage.setFullScreen(fullScreen);
+            stage.setMaximized(maximized);
+            stage.setIconified(iconified);
+            if (!maximized && !fullScreen) {
+                stage.setX(x);
+                stage.setY(y);
+                stage.setWidth(width);
+                stage.setHeight(height);
+            }
+            if (showing && !stage.isShowing()) {
+                stage.show();
+            }
+            else if (!showing && stage.isShowing()) {
+                stage.hide();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javafx.animation.AnimationTimer;
+
+import static org.testfx.util.WaitForAsyncUtils.asyncFx;
+import static org.testfx.util.WaitForAsyncUtils.waitFor;
+
+/**
+ * Measures the intervals between pulses of the JavaFX toolkit, e.g. to compare {@link HeadlessProfile}s.
+ * <p>
+ * The timings are taken by an {@link AnimationTimer}, which keeps the toolkit pulsing while it runs, so the
+ * measurement itself costs one full pulse rate; stop it as soon as the interesting part is over.
+ */
+public final class FrameTimings {
+
+    private static final long TIMEOUT_IN_SECONDS = 5;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            recordFrame(now);
+        }
+    };
+
+    private long lastFrameNanos = -1;
+    private long frameCount;
+    private long totalIntervalNanos;
+    private long maxIntervalNanos;
+
+    private FrameTimings() {}
+
+    /**
+     * Starts measuring, returning once the timer is registered with the toolkit.
+     */
+    public static FrameTimings start() throws TimeoutException {
+        FrameTimings frameTimings = new FrameTimings();
+        waitFor(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS, asyncFx(frameTimings.timer::start));
+        return frameTimings;
+    }
+
+    /**
+     * Stops measuring; the statistics stay available.
+     */
+    public FrameTimings stop() throws TimeoutException {
+        waitFor(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS, asyncFx(timer::stop));
+        return this;
+    }
+
+    /**
+     * Returns the number of pulses seen so far.
+     */
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the mean time between two pulses in milliseconds, or 0 if fewer than two pulses were seen.
+     */
+    public synchronized double getMeanFrameIntervalMillis() {
+        return frameCount < 2 ? 0 : toMillis(totalIntervalNanos) / (frameCount - 1);
+    }
+
+    /**
+     * Returns the longest time between two pulses in milliseconds.
+     */
+    public synchronized double getMaxFrameIntervalMillis() {
+        return toMillis(maxIntervalNanos);
+    }
+
+    /**
+     * Returns the measured pulse frequency, or 0 if fewer than two pulses were seen.
+     */
+    public synchronized double getFramesPerSecond() {
+        double meanFrameIntervalMillis = getMeanFrameIntervalMillis();
+        return meanFrameIntervalMillis == 0 ? 0 : 1000 / meanFrameIntervalMillis;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d frames, %.1f fps, mean %.2f ms, max %.2f ms", frameCount, getFramesPerSecond(),
+                getMeanFrameIntervalMillis(), getMaxFrameIntervalMillis());
+    }
+
+    private synchronized void recordFrame(long nowNanos) {
+        if (lastFrameNanos >= 0) {
+            long intervalNanos = nowNanos - lastFrameNanos;
+            totalIntervalNanos += intervalNanos;
+            maxIntervalNanos = Math.max(maxIntervalNanos, intervalNanos);
+        }
+        lastFrameNanos = nowNanos;
+        frameCount++;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
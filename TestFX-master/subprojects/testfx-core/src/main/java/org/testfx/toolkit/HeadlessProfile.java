@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Rendering settings for headless (Monocle) test runs, selected with the {@code testfx.headless.profile} system
+ * property ({@code throughput} or {@code fidelity}) together with {@code testfx.headless=true}.
+ * <p>
+ * A profile sets the Prism pipeline, the pulse frequency and the geometry of the headless screen, all of which
+ * are read once when the toolkit starts, so the profile is applied just before Monocle is installed. Properties
+ * that are already set (e.g. {@code -Dprism.order=es2}) are left alone. The headless screen always reports
+ * {@value #HEADLESS_SCREEN_DPI} DPI at a scale of 1; the profiles only decide whether Prism may render at a
+ * higher scale. Use {@link FrameTimings} to see what the chosen pulse frequency costs.
+ */
+public enum HeadlessProfile {
+
+    /**
+     * Software pipeline at 30 pulses per second on a 1280x800 screen, without LCD text or HiDPI rendering. Layout
+     * and CSS are applied at most every 33 ms, which is well within what the robots wait for anyway.
+     */
+    THROUGHPUT(30, 1280, 800, false),
+
+    /**
+     * Software pipeline at the default 60 pulses per second on a 1920x1080 screen, with LCD text and HiDPI
+     * rendering, for tests that compare pixels or depend on animation timing.
+     */
+    FIDELITY(60, 1920, 1080, true);
+
+    public static final String PROFILE_PROPERTY = "testfx.headless.profile";
+
+    /**
+     * The resolution Monocle's headless screen reports, whatever the profile.
+     */
+    public static final int HEADLESS_SCREEN_DPI = 96;
+
+    private static final int SCREEN_DEPTH = 32;
+
+    private final int pulseFrequency;
+    private final int screenWidth;
+    private final int screenHeight;
+    private final boolean highFidelityText;
+
+    HeadlessProfile(int pulseFrequency, int screenWidth, int screenHeight, boolean highFidelityText) {
+        this.pulseFrequency = pulseFrequency;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.highFidelityText = highFidelityText;
+    }
+
+    /**
+     * Returns the profile named by the {@code testfx.headless.profile} system property, if any. An unknown name
+     * is reported on {@code System.err} and ignored.
+     */
+    public static Optional<HeadlessProfile> fromSystemProperties() {
+        String profileName = System.getProperty(PROFILE_PROPERTY);
+        if (profileName == null || profileName.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(valueOf(profileName.trim().toUpperCase(Locale.US)));
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println("\"" + PROFILE_PROPERTY + "\" property must be one of \"throughput\" or " +
+                    "\"fidelity\" but was: \"" + profileName + "\".\nUsing the toolkit defaults.");
+            return Optional.empty();
+        }
+    }
+
+    public int getPulseFrequency() {
+        return pulseFrequency;
+    }
+
+    public int getScreenWidth() {
+        return screenWidth;
+    }
+
+    public int getScreenHeight() {
+        return screenHeight;
+    }
+
+    /**
+     * Returns the system properties this profile sets, in the order they are applied.
+     */
+    public Map<String, String> getSystemProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("prism.order", "sw");
+        properties.put("prism.vsync", "false");
+        properties.put("prism.lcdtext", String.valueOf(highFidelityText));
+        properties.put("prism.allowhidpi", String.valueOf(highFidelityText));
+        properties.put("javafx.animation.pulse", String.valueOf(pulseFrequency));
+        properties.put("headless.geometry", screenWidth + "x" + screenHeight + "-" + SCREEN_DEPTH);
+        return properties;
+    }
+
+    /**
+     * Sets those of {@link #getSystemProperties()} that are not set yet. Has no effect once the toolkit has
+     * started.
+     */
+    public void apply() {
+        apply(System.getProperties());
+    }
+
+    /**
+     * Sets those of {@link #getSystemProperties()} that are not set yet in the given properties.
+     */
+    public void apply(Properties target) {
+        getSystemProperties().forEach((key, value) -> {
+            if (target.getProperty(key) == null) {
+                target.setProperty(key, value);
+            }
+        });
+    }
+
+}
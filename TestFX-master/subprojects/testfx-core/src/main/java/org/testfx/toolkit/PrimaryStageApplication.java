@@ -31,9 +31,15 @@ public class PrimaryStageApplication extends Application {
 
     @Override
     public void start(Stage primaryStage) {
+        ToolkitState.markStarted();
         primaryStage.initStyle(StageStyle.UNDECORATED);
         primaryStage.setTitle(getClass().getSimpleName());
         PRIMARY_STAGE_FUTURE.complete(primaryStage);
     }
 
+    @Override
+    public void stop() {
+        ToolkitState.markStopped();
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.concurrent.TimeoutException;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+import javafx.stage.Window;
+
+/**
+ * Interface that hands out pre-created, already shown stages to tests and takes them back afterwards, so that
+ * stages need not be created, shown and hidden for every test.
+ * <p>
+ * A stage's owner, style and modality cannot change once it has been shown, so pooled stages are never owned,
+ * not modal, and kept in a separate pool per {@link StageStyle}. Idle stages stay shown with an empty scene
+ * and zero opacity, off-screen, so that they do not get in the way of an OS robot, and
+ * {@link org.testfx.api.FxToolkit#cleanupStages()} leaves them alone. Idle stages that were hidden in the meantime
+ * anyway are shown again when acquired. All methods may be called from any thread, including the
+ * {@code JavaFX Application Thread}.
+ */
+public interface StagePool {
+
+    /**
+     * Creates and shows stages of the given style on the {@code JavaFX Application Thread} until at least
+     * {@code count} of them are idle, e.g. one per test that is going to run concurrently.
+     */
+    void prewarm(int count, StageStyle style) throws TimeoutException;
+
+    /**
+     * Takes an idle {@link StageStyle#DECORATED decorated} stage from the pool (creating one if none is idle),
+     * centers it on the screen, makes it opaque and moves it to the front.
+     */
+    Stage acquire() throws TimeoutException;
+
+    /**
+     * Takes an idle stage of the given style from the pool (creating one if none is idle), centers it on the
+     * screen, makes it opaque and moves it to the front. The stage shows an empty placeholder scene; call
+     * {@link Stage#sizeToScene()} after setting another scene to fit the stage to it.
+     */
+    Stage acquire(StageStyle style) throws TimeoutException;
+
+    /**
+     * Returns the given stage to the pool: resets its scene, size, title and state, shows it again if it was
+     * hidden, makes it transparent and moves it off-screen.
+     *
+     * @throws IllegalArgumentException if the stage was not acquired from this pool
+     */
+    void release(Stage stage) throws TimeoutException;
+
+    /**
+     * Returns all acquired stages to the pool.
+     */
+    void releaseAll() throws TimeoutException;
+
+    /**
+     * Returns whether the given window is a stage that is currently idle in this pool.
+     */
+    boolean isIdle(Window window);
+
+    /**
+     * Returns the number of idle stages of the given style.
+     */
+    int idleCount(StageStyle style);
+
+}
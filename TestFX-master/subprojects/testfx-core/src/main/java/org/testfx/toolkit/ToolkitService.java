@@ -34,7 +34,7 @@ public interface ToolkitService {
 
     /**
      * If the given {@link CompletableFuture#isDone()}, returns that future; otherwise, launches the given application
-     * with its arguments.
+     * with its arguments (unless an earlier call already did so) in the background.
      */
     Future<Stage> setupPrimaryStage(CompletableFuture<Stage> primaryStageFuture,
                                     Class<? extends Application> applicationClass,
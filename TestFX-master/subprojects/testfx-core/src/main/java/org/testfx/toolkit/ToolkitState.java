@@ -0,0 +1,132 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.application.Platform;
+
+/**
+ * Tracks whether the JavaFX toolkit is running, so that asking for it does not require scanning all threads.
+ * <p>
+ * The state is driven by the toolkit's lifecycle: {@link PrimaryStageApplication} reports its start and stop,
+ * and launchers that start the toolkit by other means call {@link #markStarted()} from their startup callback and
+ * {@link #markStopped()} when the toolkit is asked to exit, whatever application they launched.
+ * Should the toolkit have been started by code that reports nothing (e.g. by creating a {@code JFXPanel}), the
+ * {@code JavaFX Application Thread} is looked up once by name and remembered from then on.
+ */
+public final class ToolkitState {
+
+    private static final String FX_APPLICATION_THREAD_NAME = "JavaFX Application Thread";
+    private static final long POLL_INTERVAL_IN_MILLIS = 250;
+
+    private static final CompletableFuture<Thread> READY_FUTURE = new CompletableFuture<>();
+    private static final AtomicReference<Thread> FX_APPLICATION_THREAD = new AtomicReference<>();
+    private static volatile boolean stopped;
+
+    private ToolkitState() {}
+
+    /**
+     * Records that the toolkit has started. Must be called on the {@code JavaFX Application Thread}.
+     */
+    public static void markStarted() {
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("markStarted() must be called on the JavaFX Application Thread");
+        }
+        register(Thread.currentThread());
+    }
+
+    /**
+     * Records that the toolkit is shutting down; the toolkit cannot be started again in the same JVM.
+     */
+    public static void markStopped() {
+        stopped = true;
+    }
+
+    /**
+     * Returns whether the {@code JavaFX Application Thread} is running. Once the thread is known, this is a
+     * volatile read and an {@link Thread#isAlive()} check.
+     */
+    public static boolean isRunning() {
+        Thread thread = FX_APPLICATION_THREAD.get();
+        if (thread == null) {
+            thread = findFxApplicationThread();
+            if (thread == null) {
+                return false;
+            }
+            register(thread);
+        }
+        return !stopped && thread.isAlive();
+    }
+
+    /**
+     * Waits until the toolkit has started.
+     *
+     * @param timeout the maximum time to wait
+     * @param timeUnit the unit of {@code timeout}
+     * @throws TimeoutException if the toolkit has not started within the given time
+     */
+    public static void awaitReady(long timeout, TimeUnit timeUnit) throws TimeoutException {
+        long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        while (!isRunning()) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || stopped) {
+                throw new TimeoutException("JavaFX toolkit was not started within " + timeUnit.toMillis(timeout) +
+                        " ms");
+            }
+            try {
+                // Completed by markStarted(); the interval only bounds how late an unreported start is noticed.
+                READY_FUTURE.get(Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_IN_MILLIS)),
+                        TimeUnit.NANOSECONDS);
+            }
+            catch (TimeoutException ignored) {
+                // check again.
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("interrupted while waiting for the JavaFX toolkit");
+            }
+            catch (ExecutionException exception) {
+                throw new IllegalStateException(exception.getCause());
+            }
+        }
+    }
+
+    private static void register(Thread thread) {
+        FX_APPLICATION_THREAD.compareAndSet(null, thread);
+        READY_FUTURE.complete(thread);
+    }
+
+    private static Thread findFxApplicationThread() {
+        ThreadGroup rootGroup = Thread.currentThread().getThreadGroup();
+        while (rootGroup.getParent() != null) {
+            rootGroup = rootGroup.getParent();
+        }
+        Thread[] threads = new Thread[rootGroup.activeCount() + 16];
+        int count = rootGroup.enumerate(threads, true);
+        for (int index = 0; index < count; index++) {
+            if (FX_APPLICATION_THREAD_NAME.equals(threads[index].getName())) {
+                return threads[index];
+            }
+        }
+        return null;
+    }
+
+}
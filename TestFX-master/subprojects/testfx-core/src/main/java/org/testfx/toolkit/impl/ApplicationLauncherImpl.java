@@ -16,68 +16,183 @@
  */
 package org.testfx.toolkit.impl;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.stage.Stage;
 
+import com.sun.javafx.application.ParametersImpl;
+import com.sun.javafx.application.PlatformImpl;
 import org.testfx.toolkit.ApplicationLauncher;
+import org.testfx.toolkit.ToolkitState;
 
+/**
+ * Launches the toolkit and the given application.
+ * <p>
+ * Where available (Java 9 and later), the toolkit is brought up with {@code Platform.startup(Runnable)} and the
+ * application is constructed, initialized and started the way {@link Application#launch(Class, String...)}
+ * would do it, so {@link #launch(Class, String...)} returns once the application has started instead of
+ * blocking until the toolkit exits. Like {@code Application.launch}, it takes over the toolkit's exit: once
+ * {@link Platform#exit()} is called (or the last window is closed while {@link Platform#isImplicitExit()}), the
+ * application's {@link Application#stop()} is called on the {@code JavaFX Application Thread} before the toolkit
+ * shuts down. On Java 8 it falls back to {@link Application#launch(Class, String...)}.
+ * If {@code testfx.verbose} is set, the time taken by each startup phase is printed.
+ */
 public class ApplicationLauncherImpl implements ApplicationLauncher {
 
+    private static final long STARTUP_TIMEOUT_IN_MILLIS = Long.getLong("testfx.launch.timeout", 60000);
+    private static final Method PLATFORM_STARTUP = lookupPlatformStartup();
+
     @Override
     public void launch(Class<? extends Application> appClass, String... appArgs) {
-        initMonocleHeadless();
-        Application.launch(appClass, appArgs);
+        long launchNanos = System.nanoTime();
+        MonocleHeadless.prepareIfRequested();
+        long preparedNanos = System.nanoTime();
+        if (PLATFORM_STARTUP == null) {
+            reportPhases(new String[] {"monocle"}, launchNanos, preparedNanos);
+            // Blocks until the toolkit exits.
+            Application.launch(appClass, appArgs);
+            return;
+        }
+
+        startupPlatform();
+        long platformNanos = System.nanoTime();
+        Application application = callFx(() -> appClass.getDeclaredConstructor().newInstance());
+        ParametersImpl.registerParameters(application, new ParametersImpl(appArgs));
+        try {
+            application.init();
+        }
+        catch (Exception exception) {
+            throw new RuntimeException("Exception in Application init method", exception);
+        }
+        long initNanos = System.nanoTime();
+        stopOnExit(application);
+        callFx(() -> {
+            application.start(new Stage());
+            return null;
+        });
+        long startNanos = System.nanoTime();
+        reportPhases(new String[] {"monocle", "platform startup", "application init", "application start"},
+                launchNanos, preparedNanos, platformNanos, initNanos, startNanos);
     }
 
-    private void initMonocleHeadless() {
-        if (Boolean.getBoolean("testfx.headless")) {
-            if (Boolean.getBoolean("testfx.verbose")) {
-                System.out.println("testfx: headless mode requested");
+    private static Method lookupPlatformStartup() {
+        try {
+            return Platform.class.getMethod("startup", Runnable.class);
+        }
+        catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+    private void startupPlatform() {
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        Runnable onStartup = () -> {
+            ToolkitState.markStarted();
+            started.complete(null);
+        };
+        try {
+            PLATFORM_STARTUP.invoke(null, onStartup);
+        }
+        catch (InvocationTargetException exception) {
+            if (!(exception.getCause() instanceof IllegalStateException)) {
+                throw new RuntimeException(exception.getCause());
             }
-            try {
-                assignMonoclePlatform();
-                assignHeadlessPlatform();
+            // The toolkit is already running, e.g. because it was started by a JFXPanel.
+            Platform.runLater(onStartup);
+        }
+        catch (IllegalAccessException exception) {
+            throw new RuntimeException(exception);
+        }
+        await(started);
+    }
+
+    /**
+     * Calls the application's {@link Application#stop()} and then shuts the toolkit down when it is asked to exit,
+     * as {@code Application.launch} does. Registering a listener makes the toolkit leave its exit to the listener.
+     */
+    private static void stopOnExit(Application application) {
+        AtomicBoolean exited = new AtomicBoolean();
+        PlatformImpl.addListener(new PlatformImpl.FinishListener() {
+            @Override
+            public void idle(boolean implicitExit) {
+                if (implicitExit) {
+                    exit();
+                }
             }
-            catch (ClassNotFoundException exception) {
-                throw new IllegalStateException("monocle headless platform not found - did you forget to add " +
-                        "a dependency on monocle (https://github.com/TestFX/Monocle)?", exception);
+
+            @Override
+            public void exitCalled() {
+                exit();
             }
-            catch (Exception exception) {
-                throw new RuntimeException(exception);
+
+            private void exit() {
+                if (!exited.compareAndSet(false, true)) {
+                    return;
+                }
+                PlatformImpl.removeListener(this);
+                ToolkitState.markStopped();
+                // Runs inline if called on the JavaFX Application Thread.
+                PlatformImpl.runAndWait(() -> {
+                    try {
+                        application.stop();
+                    }
+                    catch (Throwable throwable) {
+                        throwable.printStackTrace();
+                    }
+                });
+                PlatformImpl.tkExit();
             }
-        }
+        });
     }
 
-    private void assignMonoclePlatform() throws Exception {
-        Class<?> platformFactoryClass = Class.forName("com.sun.glass.ui.PlatformFactory");
-        Object platformFactoryImpl = Class.forName("com.sun.glass.ui.monocle.MonoclePlatformFactory")
-                .getDeclaredConstructor().newInstance();
-        assignPrivateStaticField(platformFactoryClass, "instance", platformFactoryImpl);
+    private static <T> T callFx(Callable<T> callable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(callable.call());
+            }
+            catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        });
+        return await(future);
     }
 
-    private void assignHeadlessPlatform() throws Exception {
-        Class<?> nativePlatformFactoryClass = Class.forName("com.sun.glass.ui.monocle.NativePlatformFactory");
+    private static <T> T await(CompletableFuture<T> future) {
         try {
-            Constructor<?> nativePlatformCtor = Class.forName(
-                    "com.sun.glass.ui.monocle.HeadlessPlatform").getDeclaredConstructor();
-            nativePlatformCtor.setAccessible(true);
-            assignPrivateStaticField(nativePlatformFactoryClass, "platform", nativePlatformCtor.newInstance());
+            return future.get(STARTUP_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
         }
-        catch (ClassNotFoundException exception) {
-            // Before Java 8u40 HeadlessPlatform was located inside of a "headless" package.
-            Constructor<?> nativePlatformCtor = Class.forName(
-                    "com.sun.glass.ui.monocle.headless.HeadlessPlatform").getDeclaredConstructor();
-            nativePlatformCtor.setAccessible(true);
-            assignPrivateStaticField(nativePlatformFactoryClass, "platform", nativePlatformCtor.newInstance());
+        catch (ExecutionException exception) {
+            throw new RuntimeException(exception.getCause());
+        }
+        catch (Exception exception) {
+            throw new RuntimeException(exception);
         }
     }
 
-    private void assignPrivateStaticField(Class<?> clazz, String name, Object value) throws Exception {
-        Field field = clazz.getDeclaredField(name);
-        field.setAccessible(true);
-        field.set(clazz, value);
-        field.setAccessible(false);
+    /**
+     * Prints the duration of each named phase; {@code nanos} holds the start time followed by the end time of
+     * each phase.
+     */
+    private static void reportPhases(String[] phases, long... nanos) {
+        if (!Boolean.getBoolean("testfx.verbose")) {
+            return;
+        }
+        StringBuilder report = new StringBuilder("testfx: toolkit startup phases:");
+        for (int index = 0; index < phases.length; index++) {
+            report.append(String.format(" %s %d ms,", phases[index],
+                    TimeUnit.NANOSECONDS.toMillis(nanos[index + 1] - nanos[index])));
+        }
+        report.append(String.format(" total %d ms",
+                TimeUnit.NANOSECONDS.toMillis(nanos[phases.length] - nanos[0])));
+        System.out.println(report);
     }
 
 }
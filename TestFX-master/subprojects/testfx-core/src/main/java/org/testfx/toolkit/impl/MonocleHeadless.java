@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit.impl;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+import org.testfx.toolkit.HeadlessProfile;
+
+/**
+ * Installs Monocle's headless platform if {@code testfx.headless} is set, after applying the
+ * {@link HeadlessProfile} named by {@code testfx.headless.profile}, if any. The platform can only be installed
+ * before the toolkit starts, and the toolkit starts only once per JVM, so the reflective lookups and field
+ * writes are done once and later calls return immediately.
+ */
+final class MonocleHeadless {
+
+    private static volatile boolean prepared;
+
+    private MonocleHeadless() {}
+
+    static void prepareIfRequested() {
+        if (prepared || !Boolean.getBoolean("testfx.headless")) {
+            return;
+        }
+        synchronized (MonocleHeadless.class) {
+            if (prepared) {
+                return;
+            }
+            Optional<HeadlessProfile> profile = HeadlessProfile.fromSystemProperties();
+            profile.ifPresent(HeadlessProfile::apply);
+            if (Boolean.getBoolean("testfx.verbose")) {
+                System.out.println("testfx: headless mode requested" + profile.map(headlessProfile ->
+                        " with profile " + headlessProfile + " " + headlessProfile.getSystemProperties()).orElse(""));
+            }
+            try {
+                assignMonoclePlatform();
+                assignHeadlessPlatform();
+            }
+            catch (ClassNotFoundException exception) {
+                throw new IllegalStateException("monocle headless platform not found - did you forget to add " +
+                        "a dependency on monocle (https://github.com/TestFX/Monocle)?", exception);
+            }
+            catch (Exception exception) {
+                throw new RuntimeException(exception);
+            }
+            prepared = true;
+        }
+    }
+
+    private static void assignMonoclePlatform() throws Exception {
+        Class<?> platformFactoryClass = Class.forName("com.sun.glass.ui.PlatformFactory");
+        Object platformFactoryImpl = Class.forName("com.sun.glass.ui.monocle.MonoclePlatformFactory")
+                .getDeclaredConstructor().newInstance();
+        assignPrivateStaticField(platformFactoryClass, "instance", platformFactoryImpl);
+    }
+
+    private static void assignHeadlessPlatform() throws Exception {
+        Class<?> nativePlatformFactoryClass = Class.forName("com.sun.glass.ui.monocle.NativePlatformFactory");
+        Constructor<?> nativePlatformCtor;
+        try {
+            nativePlatformCtor = Class.forName("com.sun.glass.ui.monocle.HeadlessPlatform").getDeclaredConstructor();
+        }
+        catch (ClassNotFoundException exception) {
+            // Before Java 8u40 HeadlessPlatform was located inside of a "headless" package.
+            nativePlatformCtor = Class.forName("com.sun.glass.ui.monocle.headless.HeadlessPlatform")
+                    .getDeclaredConstructor();
+        }
+        nativePlatformCtor.setAccessible(true);
+        assignPrivateStaticField(nativePlatformFactoryClass, "platform", nativePlatformCtor.newInstance());
+    }
+
+    private static void assignPrivateStaticField(Class<?> clazz, String name, Object value) throws Exception {
+        Field field = clazz.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(clazz, value);
+        field.setAccessible(false);
+    }
+
+}
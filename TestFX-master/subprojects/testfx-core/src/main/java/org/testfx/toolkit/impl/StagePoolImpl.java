@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit.impl;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeoutException;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.stage.Screen;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+import javafx.stage.Window;
+
+import org.testfx.toolkit.StagePool;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.testfx.internal.JavaVersionAdapter.getWindows;
+import static org.testfx.util.WaitForAsyncUtils.asyncFx;
+import static org.testfx.util.WaitForAsyncUtils.waitFor;
+
+public class StagePoolImpl implements StagePool {
+
+    private static final double PLACEHOLDER_WIDTH = 400;
+    private static final double PLACEHOLDER_HEIGHT = 300;
+    private static final double OFF_SCREEN_MARGIN = 100;
+
+    private final long timeoutInMillis;
+    private final Map<StageStyle, Deque<Stage>> idleStages = new EnumMap<>(StageStyle.class);
+    private final Set<Stage> idleStageSet = ConcurrentHashMap.newKeySet();
+    private final Set<Stage> acquiredStages = ConcurrentHashMap.newKeySet();
+
+    public StagePoolImpl() {
+        this(Long.getLong("testfx.setup.timeout", 30000));
+    }
+
+    public StagePoolImpl(long timeoutInMillis) {
+        this.timeoutInMillis = timeoutInMillis;
+        for (StageStyle style : StageStyle.values()) {
+            idleStages.put(style, new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    @Override
+    public void prewarm(int count, StageStyle style) throws TimeoutException {
+        int missing = count - idleCount(style);
+        if (missing <= 0) {
+            return;
+        }
+        List<Stage> stages = waitFor(timeoutInMillis, MILLISECONDS, asyncFx(() -> {
+            List<Stage> created = new ArrayList<>(missing);
+            for (int index = 0; index < missing; index++) {
+                Stage stage = new Stage(style);
+                resetStage(stage);
+                created.add(stage);
+            }
+            return created;
+        }));
+        stages.forEach(this::offerIdle);
+    }
+
+    @Override
+    public Stage acquire() throws TimeoutException {
+        return acquire(StageStyle.DECORATED);
+    }
+
+    @Override
+    public Stage acquire(StageStyle style) throws TimeoutException {
+        Stage idleStage = idleStages.get(style).pollFirst();
+        if (idleStage != null) {
+            idleStageSet.remove(idleStage);
+        }
+        Stage stage = waitFor(timeoutInMillis, MILLISECONDS, asyncFx(() -> {
+            Stage acquired = idleStage;
+            if (acquired == null) {
+                acquired = new Stage(style);
+                resetStage(acquired);
+            }
+            else if (!acquired.isShowing()) {
+                // e.g. hidden by the application under test while idle.
+                resetStage(acquired);
+            }
+            acquired.centerOnScreen();
+            acquired.setOpacity(1);
+            acquired.toFront();
+            return acquired;
+        }));
+        acquiredStages.add(stage);
+        return stage;
+    }
+
+    @Override
+    public void release(Stage stage) throws TimeoutException {
+        if (!acquiredStages.remove(stage)) {
+            throw new IllegalArgumentException("stage was not acquired from this pool: " + stage);
+        }
+        waitFor(timeoutInMillis, MILLISECONDS, asyncFx(() -> resetStage(stage)));
+        offerIdle(stage);
+    }
+
+    @Override
+    public void releaseAll() throws TimeoutException {
+        for (Stage stage : new ArrayList<>(acquiredStages)) {
+            release(stage);
+        }
+    }
+
+    @Override
+    public boolean isIdle(Window window) {
+        return idleStageSet.contains(window);
+    }
+
+    @Override
+    public int idleCount(StageStyle style) {
+        return idleStages.get(style).size();
+    }
+
+    private void offerIdle(Stage stage) {
+        idleStageSet.add(stage);
+        idleStages.get(stage.getStyle()).offerFirst(stage);
+    }
+
+    /**
+     * Puts the stage into the idle state: an empty, mouse-transparent placeholder scene, the default size, no title,
+     * handlers or window state, shown but fully transparent and parked beyond the right edge of all screens, so that
+     * neither the mouse nor clicks of an OS robot can reach it. Showing a stage focuses it, so the focus is handed
+     * back to the window that had it before. Called on the {@code JavaFX Application Thread}.
+     */
+    private static void resetStage(Stage stage) {
+        Group placeholder = new Group();
+        placeholder.setMouseTransparent(true);
+        stage.setScene(new Scene(placeholder, PLACEHOLDER_WIDTH, PLACEHOLDER_HEIGHT));
+        stage.setTitle("");
+        stage.setFullScreen(false);
+        stage.setMaximized(false);
+        stage.setIconified(false);
+        stage.setAlwaysOnTop(false);
+        stage.setResizable(true);
+        stage.setMinWidth(0);
+        stage.setMinHeight(0);
+        stage.setMaxWidth(Double.MAX_VALUE);
+        stage.setMaxHeight(Double.MAX_VALUE);
+        stage.getIcons().clear();
+        stage.setOnCloseRequest(null);
+        stage.setOnShowing(null);
+        stage.setOnShown(null);
+        stage.setOnHiding(null);
+        stage.setOnHidden(null);
+        stage.setOpacity(0);
+        stage.sizeToScene();
+        stage.setX(Screen.getScreens().stream().mapToDouble(screen -> screen.getBounds().getMaxX()).max()
+                .orElse(0) + OFF_SCREEN_MARGIN);
+        stage.setY(Screen.getScreens().stream().mapToDouble(screen -> screen.getBounds().getMinY()).min()
+                .orElse(0));
+        if (!stage.isShowing()) {
+            Window focusedWindow = getWindows().stream().filter(Window::isFocused).findFirst().orElse(null);
+            stage.show();
+            if (focusedWindow != null) {
+                focusedWindow.requestFocus();
+            }
+        }
+        stage.toBack();
+    }
+
+}
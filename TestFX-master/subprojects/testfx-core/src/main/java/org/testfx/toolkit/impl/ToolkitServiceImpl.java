@@ -19,6 +19,7 @@ package org.testfx.toolkit.impl;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javafx.application.Application;
@@ -38,6 +39,7 @@ public class ToolkitServiceImpl implements ToolkitService {
 
     private final ApplicationLauncher applicationLauncher;
     private final ApplicationService applicationService;
+    private final AtomicBoolean launched = new AtomicBoolean();
 
     public ToolkitServiceImpl(ApplicationLauncher applicationLauncher,
                               ApplicationService applicationService) {
@@ -49,7 +51,8 @@ public class ToolkitServiceImpl implements ToolkitService {
     public Future<Stage> setupPrimaryStage(CompletableFuture<Stage> primaryStageFuture,
                                            Class<? extends Application> applicationClass,
                                            String... applicationArgs) {
-        if (!primaryStageFuture.isDone()) {
+        // The toolkit can only be launched once, even if this is called again before the future is done.
+        if (!primaryStageFuture.isDone() && launched.compareAndSet(false, true)) {
             async(() -> {
                 try {
                     applicationLauncher.launch(applicationClass, applicationArgs);
@@ -16,6 +16,8 @@
  */
 package org.testfx.util;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -541,7 +543,9 @@ public final class DebugUtils {
     }
 
     /**
-     * Saves the captured image to the supplied path.
+     * Saves the captured image to the supplied path, creating its parent directories if needed. The image is
+     * encoded and written in the background by the {@link org.testfx.service.support.ScreenshotWriter} of
+     * {@link FxService#serviceContext()}, so the file may not exist yet when the error message is read.
      */
     public static Function<StringBuilder, StringBuilder> saveTestImage(Function<CaptureSupport, Image> captureImage,
                                                                        Supplier<Path> capturedImagePath,
@@ -551,8 +555,14 @@ public final class DebugUtils {
             Image errorImage = captureImage.apply(captureSupport);
 
             Path path = capturedImagePath.get();
-            captureSupport.saveImage(errorImage, path);
-            insertContent("Test image saved at:", path.toAbsolutePath().toString(), indent).apply(sb);
+            try {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            catch (IOException exception) {
+                throw new RuntimeException(exception);
+            }
+            FxService.serviceContext().getScreenshotWriter().write(errorImage, path);
+            insertContent("Test image queued for saving at:", path.toAbsolutePath().toString(), indent).apply(sb);
             return sb;
         };
     }
@@ -34,6 +34,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableBooleanValue;
@@ -442,6 +443,35 @@ public final class WaitForAsyncUtils {
         return waitForMillis(millis, future);
     }
 
+    /**
+     * Calls the given {@link Callable} on the JavaFX Application Thread at some unspecified time
+     * in the future and waits {@code millis} milliseconds for it to finish, like
+     * {@link #waitForAsyncFx(long, Callable)}. A {@link RuntimeException} thrown by the {@code Callable}
+     * is rethrown unchanged on the calling thread, instead of being wrapped and registered as an unhandled
+     * exception, so that callers see the same exception as if they had called it themselves.
+     *
+     * @param millis number of milliseconds to wait
+     * @param callable the {@code Callable} to call
+     * @param <T> the type returned by the {@code Callable}
+     * @return the result returned by the {@code Callable}
+     */
+    public static <T> T waitForAsyncFxUnwrapped(long millis, Callable<T> callable) {
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        T result = waitForAsyncFx(millis, () -> {
+            try {
+                return callable.call();
+            }
+            catch (RuntimeException exception) {
+                failure.set(exception);
+                return null;
+            }
+        });
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return result;
+    }
+
     /**
      * Checks if an exception in an async task occurred that has not been checked currently.
      * If so, the first exception will be removed and thrown by this method.
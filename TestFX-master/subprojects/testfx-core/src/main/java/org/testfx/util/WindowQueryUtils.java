@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.util;
+
+import java.util.function.Predicate;
+import javafx.stage.PopupWindow;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+public final class WindowQueryUtils {
+
+    private WindowQueryUtils() {}
+
+    /**
+     * Creates a {@link Predicate} that returns true if the given window is {@code ownerWindow} or is owned by it,
+     * directly or through other windows (e.g. a popup of a dialog owned by {@code ownerWindow}).
+     */
+    public static Predicate<Window> isOwnedBy(Window ownerWindow) {
+        return window -> {
+            Window current = window;
+            while (current != null) {
+                if (current == ownerWindow) {
+                    return true;
+                }
+                current = ownerOf(current);
+            }
+            return false;
+        };
+    }
+
+    private static Window ownerOf(Window window) {
+        if (window instanceof Stage) {
+            return ((Stage) window).getOwner();
+        }
+        if (window instanceof PopupWindow) {
+            return ((PopupWindow) window).getOwnerWindow();
+        }
+        return null;
+    }
+
+}
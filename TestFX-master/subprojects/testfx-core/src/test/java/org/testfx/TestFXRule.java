@@ -18,13 +18,12 @@ package org.testfx;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.rules.TestWatcher;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
 import org.testfx.api.FxToolkit;
-import org.testfx.util.WaitForAsyncUtils;
 
 /**
  * Optional JUnit rule that can be used to ensure the JavaFX platform has
@@ -94,21 +93,13 @@ public class TestFXRule extends TestWatcher {
     @Override
     protected void starting(Description description) {
         if (!initialized) {
-            Callable<Boolean> waitForFXThread = () -> {
-                for (int i = 0; i < WAIT_MILLIS / 250; i++) {
-                    if (FxToolkit.isFXApplicationThreadRunning()) {
-                        return true;
-                    } else {
-                        Thread.sleep(250);
-                    }
-                }
-                return false;
-            };
-
-            initialized = WaitForAsyncUtils.waitForAsync(WAIT_MILLIS, waitForFXThread);
-            if (!initialized) {
-                throw new RuntimeException("JavaFX platform was not initialized in time");
+            try {
+                FxToolkit.awaitToolkitReady(WAIT_MILLIS);
+            }
+            catch (TimeoutException exception) {
+                throw new RuntimeException("JavaFX platform was not initialized in time", exception);
             }
+            initialized = true;
         }
     }
 
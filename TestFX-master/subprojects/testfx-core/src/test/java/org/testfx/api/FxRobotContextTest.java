@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.api;
+
+import javafx.stage.Stage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.testfx.TestFXRule;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class FxRobotContextTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    @Test
+    public void contexts_share_stateless_services() {
+        // when:
+        FxRobotContext context = new FxRobotContext();
+        FxRobotContext otherContext = new FxRobotContext();
+
+        // then:
+        assertThat(context.getBaseRobot(), sameInstance(otherContext.getBaseRobot()));
+        assertThat(context.getSleepRobot(), sameInstance(otherContext.getSleepRobot()));
+        assertThat(context.getBoundsLocator(), sameInstance(otherContext.getBoundsLocator()));
+        assertThat(context.getPointLocator(), sameInstance(otherContext.getPointLocator()));
+        assertThat(context.getCaptureSupport(), sameInstance(otherContext.getCaptureSupport()));
+        assertThat(context.getBaseRobot(), sameInstance(FxService.serviceContext().getBaseRobot()));
+    }
+
+    @Test
+    public void contexts_have_their_own_input_state() {
+        // when:
+        FxRobotContext context = new FxRobotContext();
+        FxRobotContext otherContext = new FxRobotContext();
+
+        // then:
+        assertThat(context.getKeyboardRobot(), not(sameInstance(otherContext.getKeyboardRobot())));
+        assertThat(context.getMouseRobot(), not(sameInstance(otherContext.getMouseRobot())));
+    }
+
+    @Test
+    public void isolated_context_has_its_own_base_robot() throws Exception {
+        // given:
+        FxToolkit.registerPrimaryStage();
+        Stage stage = FxToolkit.setupFixture(Stage::new);
+
+        // when:
+        FxRobotContext context = FxRobotContext.isolatedTo(stage);
+
+        // then:
+        assertThat(context.getBaseRobot(), not(sameInstance(FxService.serviceContext().getBaseRobot())));
+        assertThat(context.getSleepRobot(), sameInstance(FxService.serviceContext().getSleepRobot()));
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.testfx.cases.acceptance;
 
+import javafx.application.Application;
 import javafx.stage.Stage;
 
 import org.junit.AfterClass;
@@ -23,11 +24,18 @@ import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.testfx.TestFXRule;
+import org.testfx.api.FxRobot;
+import org.testfx.api.FxRobotContext;
 import org.testfx.api.FxToolkit;
 import org.testfx.cases.TestCaseBase;
+import org.testfx.robot.KeyboardRobot;
+import org.testfx.robot.MouseRobot;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.testfx.api.FxAssert.verifyThat;
 
 public class FxToolkitBasicTest extends TestCaseBase {
@@ -115,4 +123,25 @@ public class FxToolkitBasicTest extends TestCaseBase {
         verifyThat(stage.isShowing(), is(false));
     }
 
+    @Test
+    public void cleanupAfterTest_should_release_input_and_stop_the_application() throws Exception {
+        // given:
+        KeyboardRobot keyboardRobot = mock(KeyboardRobot.class);
+        MouseRobot mouseRobot = mock(MouseRobot.class);
+        FxRobotContext robotContext = mock(FxRobotContext.class);
+        given(robotContext.getKeyboardRobot()).willReturn(keyboardRobot);
+        given(robotContext.getMouseRobot()).willReturn(mouseRobot);
+        FxRobot robot = mock(FxRobot.class);
+        given(robot.robotContext()).willReturn(robotContext);
+        Application application = mock(Application.class);
+
+        // when:
+        FxToolkit.cleanupAfterTest(robot, true, application);
+
+        // then:
+        verify(keyboardRobot).releaseNoWait();
+        verify(mouseRobot).releaseNoWait();
+        verify(application).stop();
+    }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.cases.integration;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.testfx.TestFXRule;
+import org.testfx.api.FxRobot;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.testfx.api.FxAssert.verifyThat;
+import static org.testfx.util.DebugUtils.informedErrorMessage;
+
+public class ScrollPaneTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    FxRobot fxRobot = new FxRobot();
+    Stage scrollStage;
+    ScrollPane scrollPane;
+    Button button;
+
+    @BeforeClass
+    public static void setupSpec() throws Exception {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws Exception {
+        scrollStage = FxToolkit.registerStage(Stage::new);
+        FxToolkit.setupStage(stage -> {
+            Region spacer = new Region();
+            spacer.setMinHeight(2000);
+            button = new Button("bottom");
+            scrollPane = new ScrollPane(new VBox(spacer, button));
+            stage.setScene(new Scene(scrollPane, 200, 300));
+            stage.show();
+        });
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        FxToolkit.setupFixture(() -> scrollStage.close());
+        FxToolkit.registerPrimaryStage();
+        WaitForAsyncUtils.checkException();
+    }
+
+    @Test
+    public void should_scroll_until_button_is_visible() {
+        // when:
+        fxRobot.scrollUntilVisible(button);
+
+        // then:
+        Bounds viewportBounds = scrollPane.localToScreen(scrollPane.getLayoutBounds());
+        Bounds buttonBounds = button.localToScreen(button.getLayoutBounds());
+        verifyThat(viewportBounds.contains(buttonBounds), is(true), informedErrorMessage(fxRobot));
+    }
+
+}
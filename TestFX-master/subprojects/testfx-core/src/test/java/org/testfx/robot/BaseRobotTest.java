@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot;
+
+import javafx.geometry.Point2D;
+import javafx.scene.input.KeyCode;
+
+import org.junit.Test;
+import org.testfx.service.query.PointQuery;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BaseRobotTest {
+
+    @Test
+    public void default_moveMouseTo_moves_mouse_to_queried_point() {
+        // given:
+        BaseRobot baseRobot = mock(BaseRobot.class, CALLS_REAL_METHODS);
+        PointQuery pointQuery = mock(PointQuery.class);
+        when(pointQuery.query()).thenReturn(new Point2D(10, 20));
+
+        // when:
+        Point2D point = baseRobot.moveMouseTo(pointQuery);
+
+        // then:
+        assertThat(point, is(new Point2D(10, 20)));
+        verify(baseRobot).moveMouse(new Point2D(10, 20));
+    }
+
+    @Test
+    public void default_typeText_types_characters_one_by_one() {
+        // given:
+        BaseRobot baseRobot = mock(BaseRobot.class, CALLS_REAL_METHODS);
+
+        // when:
+        baseRobot.typeText(null, "a\n");
+
+        // then:
+        verify(baseRobot).typeKeyboard(null, KeyCode.UNDEFINED, "a");
+        verify(baseRobot).typeKeyboard(null, KeyCode.ENTER, "\n");
+    }
+
+}
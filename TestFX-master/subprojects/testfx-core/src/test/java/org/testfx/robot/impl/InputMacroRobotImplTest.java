@@ -0,0 +1,181 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot.impl;
+
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.StackPane;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.testfx.TestFXRule;
+import org.testfx.api.FxRobotException;
+import org.testfx.api.FxService;
+import org.testfx.api.FxToolkit;
+import org.testfx.robot.BaseRobot;
+import org.testfx.robot.InputMacro;
+import org.testfx.robot.InputMacroRobot;
+import org.testfx.robot.KeyboardRobot;
+import org.testfx.robot.SleepRobot;
+import org.testfx.service.locator.impl.BoundsLocatorImpl;
+import org.testfx.service.locator.impl.PointLocatorImpl;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class InputMacroRobotImplTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    InputMacroRobot inputMacroRobot;
+    Scene scene;
+    BaseRobot baseRobot;
+    KeyboardRobot keyboardRobot;
+    SleepRobot sleepRobot;
+
+    @BeforeClass
+    public static void setupSpec() throws Exception {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws Exception {
+        scene = FxToolkit.setupScene(() -> {
+            Button button = new Button("button");
+            button.setId("button");
+            return new Scene(new StackPane(button), 200, 100);
+        });
+        FxToolkit.showStage();
+
+        baseRobot = mock(BaseRobot.class);
+        sleepRobot = mock(SleepRobot.class);
+        keyboardRobot = new KeyboardRobotImpl(baseRobot);
+        inputMacroRobot = new InputMacroRobotImpl(baseRobot, keyboardRobot, new MouseRobotImpl(baseRobot), sleepRobot,
+                FxService.serviceContext().getNodeFinder(), new PointLocatorImpl(new BoundsLocatorImpl()),
+                FxService.serviceContext().getWindowFinder());
+    }
+
+    @Test
+    public void record() {
+        // when:
+        InputMacro macro = InputMacro.record()
+                .clickOn("#button")
+                .type(KeyCode.A)
+                .write("text")
+                .write("text")
+                .build();
+
+        // then:
+        assertThat(macro.getOperationCount(), equalTo(7));
+        assertThat(macro.getCodeSize(), equalTo(4 + 2 + 2 + 3 + 3 + 3 + 3));
+    }
+
+    @Test
+    public void play_operations_in_order() {
+        // given:
+        given(baseRobot.retrieveMouse()).willReturn(new Point2D(0, 0));
+        InputMacro macro = InputMacro.record()
+                .moveTo(new Point2D(10, 20))
+                .moveBy(5, 5)
+                .press(MouseButton.SECONDARY)
+                .release(MouseButton.SECONDARY)
+                .type(KeyCode.A)
+                .scroll(2)
+                .sleep(50)
+                .build();
+
+        // when:
+        inputMacroRobot.play(macro);
+
+        // then:
+        InOrder inOrder = inOrder(baseRobot, sleepRobot);
+        inOrder.verify(baseRobot).moveMouse(new Point2D(10, 20));
+        inOrder.verify(baseRobot).moveMouse(new Point2D(15, 25));
+        inOrder.verify(baseRobot).pressMouse(MouseButton.SECONDARY);
+        inOrder.verify(baseRobot).releaseMouse(MouseButton.SECONDARY);
+        inOrder.verify(baseRobot).pressKeyboard(KeyCode.A);
+        inOrder.verify(baseRobot).releaseKeyboard(KeyCode.A);
+        inOrder.verify(baseRobot).scrollMouse(2);
+        inOrder.verify(sleepRobot).sleep(50);
+        verify(baseRobot, never()).retrieveMouse();
+    }
+
+    @Test
+    public void play_resolves_query_and_writes_text() {
+        // given:
+        InputMacro macro = InputMacro.record()
+                .clickOn("#button")
+                .write("text")
+                .build();
+
+        // when:
+        inputMacroRobot.play(macro);
+
+        // then:
+        InOrder inOrder = inOrder(baseRobot);
+        inOrder.verify(baseRobot).moveMouse(any(Point2D.class));
+        inOrder.verify(baseRobot).pressMouse(MouseButton.PRIMARY);
+        inOrder.verify(baseRobot).releaseMouse(MouseButton.PRIMARY);
+        inOrder.verify(baseRobot).typeText(eq(scene), eq("text"));
+    }
+
+    @Test
+    public void play_with_unknown_query() {
+        // given:
+        InputMacro macro = InputMacro.record()
+                .clickOn("#unknown")
+                .build();
+
+        // when/then:
+        assertThrows(FxRobotException.class, () -> inputMacroRobot.play(macro));
+        verify(baseRobot, never()).pressMouse(any());
+    }
+
+    @Test
+    public void play_failing_macro_leaves_pressed_keys_known_to_the_keyboard_robot() {
+        // given:
+        InputMacro macro = InputMacro.record()
+                .press(KeyCode.SHIFT)
+                .clickOn("#unknown")
+                .build();
+
+        // when:
+        assertThrows(FxRobotException.class, () -> inputMacroRobot.play(macro));
+
+        // then:
+        assertThat(keyboardRobot.getPressedKeys(), hasItem(KeyCode.SHIFT));
+        keyboardRobot.releaseNoWait();
+        verify(baseRobot).releaseKeyboard(KeyCode.SHIFT);
+    }
+
+}
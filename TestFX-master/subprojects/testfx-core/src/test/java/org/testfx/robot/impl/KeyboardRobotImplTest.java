@@ -21,13 +21,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.junit.rules.Timeout;
+import org.mockito.InOrder;
 import org.testfx.TestFXRule;
 import org.testfx.robot.BaseRobot;
+import org.testfx.robot.KeySequence;
 import org.testfx.robot.KeyboardRobot;
 
 import static javafx.scene.input.KeyCode.A;
 import static javafx.scene.input.KeyCode.B;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -125,4 +130,21 @@ public class KeyboardRobotImplTest {
         verifyNoMoreInteractions(baseRobot);
     }
 
+    @Test
+    public void push_sequence() {
+        // when:
+        keyboardRobot.pushSequence(KeySequence.of(3, A).then(B, A));
+
+        // then:
+        InOrder inOrder = inOrder(baseRobot);
+        inOrder.verify(baseRobot, times(3)).pressKeyboard(A);
+        inOrder.verify(baseRobot).pressKeyboard(B);
+        inOrder.verify(baseRobot).pressKeyboard(A);
+        inOrder.verify(baseRobot).releaseKeyboard(A);
+        inOrder.verify(baseRobot).releaseKeyboard(B);
+        verify(baseRobot, times(4)).releaseKeyboard(A);
+        verifyNoMoreInteractions(baseRobot);
+        assertThat(keyboardRobot.getPressedKeys().isEmpty(), is(true));
+    }
+
 }
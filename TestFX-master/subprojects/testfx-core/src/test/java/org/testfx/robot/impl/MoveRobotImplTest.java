@@ -24,16 +24,19 @@ import org.junit.Test;
 import org.testfx.TestFXRule;
 import org.testfx.robot.BaseRobot;
 import org.testfx.robot.Motion;
+import org.testfx.robot.MotionGranularity;
 import org.testfx.robot.MouseRobot;
 import org.testfx.robot.MoveRobot;
 import org.testfx.robot.SleepRobot;
 import org.testfx.service.query.PointQuery;
 
 import static org.mockito.AdditionalMatchers.not;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -72,7 +75,7 @@ public class MoveRobotImplTest {
         // then:
         verify(mouseRobot, times(199)).moveNoWait(
                 argThat(argument -> sourcePoint.getY() != argument.getY() || targetPoint.getX() != argument.getX()));
-        verify(mouseRobot, times(2)).move(targetPoint);
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
     }
 
     @Test
@@ -92,7 +95,7 @@ public class MoveRobotImplTest {
         // then:
         verify(mouseRobot, times(199)).moveNoWait(
                 argThat(argument -> sourcePoint.getY() == argument.getY() || targetPoint.getX() == argument.getX()));
-        verify(mouseRobot, times(2)).move(targetPoint);
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
     }
 
     @Test
@@ -112,7 +115,47 @@ public class MoveRobotImplTest {
         // then:
         verify(mouseRobot, times(199)).moveNoWait(
                 argThat(argument -> sourcePoint.getX() == argument.getX() || targetPoint.getY() == argument.getY()));
-        verify(mouseRobot, times(2)).move(targetPoint);
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
+    }
+
+    @Test
+    public void moveTo_a_point_with_motion_TELEPORT() {
+        // given:
+        Point2D sourcePoint = new Point2D(0, 0);
+        given(baseRobot.retrieveMouse()).willReturn(sourcePoint);
+
+        // and:
+        Point2D targetPoint = new Point2D(300, 100);
+        PointQuery pointQuery = mock(PointQuery.class);
+        given(pointQuery.query()).willReturn(targetPoint);
+
+        // when:
+        moveRobot.moveTo(pointQuery, Motion.TELEPORT);
+
+        // then:
+        verify(mouseRobot, never()).moveNoWait(any());
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
+    }
+
+    @Test
+    public void moveTo_a_point_with_fixed_steps() {
+        // given:
+        moveRobot = new MoveRobotImpl(baseRobot, mouseRobot, sleepRobot, MotionGranularity.FIXED_STEPS);
+        Point2D sourcePoint = new Point2D(0, 0);
+        given(baseRobot.retrieveMouse()).willReturn(sourcePoint);
+
+        // and:
+        Point2D targetPoint = new Point2D(1000, 0);
+        PointQuery pointQuery = mock(PointQuery.class);
+        given(pointQuery.query()).willReturn(targetPoint);
+
+        // when:
+        moveRobot.moveTo(pointQuery);
+
+        // then:
+        verify(mouseRobot, times(9)).moveNoWait(not(eq(targetPoint)));
+        verify(mouseRobot, times(1)).moveNoWait(new Point2D(500, 0));
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
     }
 
     @Test
@@ -133,7 +176,7 @@ public class MoveRobotImplTest {
         for (double x = 1.0; x <= 9.0; x++) {
             verify(mouseRobot, times(1)).moveNoWait(new Point2D(x, 0));
         }
-        verify(mouseRobot, times(2)).move(new Point2D(10, 0));
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
     }
 
     @Test
@@ -152,7 +195,7 @@ public class MoveRobotImplTest {
 
         // then:
         verify(mouseRobot, times(199)).moveNoWait(not(eq(targetPoint)));
-        verify(mouseRobot, times(2)).move(targetPoint);
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
     }
 
     @Test
@@ -171,8 +214,25 @@ public class MoveRobotImplTest {
         moveRobot.moveTo(pointQuery);
 
         // then:
-        verify(mouseRobot, times(1)).move(targetPoint);
-        verify(mouseRobot, times(1)).move(movedTargetPoint);
+        verify(mouseRobot, times(9)).moveNoWait(argThat(argument -> argument.getX() < targetPoint.getX()));
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
+        verify(mouseRobot, never()).move(any());
+    }
+
+    @Test
+    public void moveTo_a_point_with_motion_TELEPORT_resolves_the_point_only_once() {
+        // given:
+        given(baseRobot.retrieveMouse()).willReturn(new Point2D(0, 0));
+
+        // and:
+        PointQuery pointQuery = mock(PointQuery.class);
+
+        // when:
+        moveRobot.moveTo(pointQuery, Motion.TELEPORT);
+
+        // then:
+        verify(pointQuery, never()).query();
+        verify(mouseRobot, times(1)).moveTo(pointQuery);
     }
 
     @Test
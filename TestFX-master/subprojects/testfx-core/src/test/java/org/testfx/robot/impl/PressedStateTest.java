@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.robot.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+public class PressedStateTest {
+
+    @Test
+    public void press_and_release_report_transitions() {
+        // given:
+        PressedState<MouseButton> state = new PressedState<>(MouseButton.class);
+
+        // expect:
+        assertThat(state.press(MouseButton.PRIMARY), is(true));
+        assertThat(state.press(MouseButton.PRIMARY), is(false));
+        assertThat(state.release(MouseButton.PRIMARY), is(true));
+        assertThat(state.release(MouseButton.PRIMARY), is(false));
+    }
+
+    @Test
+    public void snapshot_contains_pressed_keys_beyond_the_first_word() {
+        // given:
+        PressedState<KeyCode> state = new PressedState<>(KeyCode.class);
+        state.press(KeyCode.A);
+        state.press(KeyCode.SHIFT);
+        state.press(KeyCode.COMMAND);
+
+        // when:
+        state.release(KeyCode.SHIFT);
+
+        // then:
+        assertThat(state.snapshot(), containsInAnyOrder(KeyCode.A, KeyCode.COMMAND));
+    }
+
+    @Test
+    public void concurrent_presses_are_counted_once() throws InterruptedException {
+        // given:
+        PressedState<KeyCode> state = new PressedState<>(KeyCode.class);
+        AtomicInteger transitions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int index = 0; index < 4; index++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException ignored) {
+                    return;
+                }
+                for (KeyCode keyCode : KeyCode.values()) {
+                    if (state.press(keyCode)) {
+                        transitions.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        // when:
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then:
+        assertThat(transitions.get(), is(KeyCode.values().length));
+        assertThat(state.snapshot().size(), is(KeyCode.values().length));
+        for (KeyCode keyCode : KeyCode.values()) {
+            state.release(keyCode);
+        }
+        assertThat(state.snapshot(), is(empty()));
+    }
+
+}
@@ -25,6 +25,7 @@ import org.junit.Test;
 import org.testfx.TestFXRule;
 import org.testfx.robot.MouseRobot;
 import org.testfx.robot.ScrollRobot;
+import org.testfx.robot.ScrollUnit;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -50,7 +51,7 @@ public class ScrollRobotImplTest {
         // when:
         scrollRobot.scroll(5);
 
-        verify(mouseRobot, times(5)).scroll(eq(1));
+        verify(mouseRobot, times(1)).scroll(eq(5));
     }
 
     @Test
@@ -58,7 +59,7 @@ public class ScrollRobotImplTest {
         // when:
         scrollRobot.scroll(-5);
 
-        verify(mouseRobot, times(5)).scroll(eq(-1));
+        verify(mouseRobot, times(1)).scroll(eq(-5));
     }
 
     @Test
@@ -67,7 +68,7 @@ public class ScrollRobotImplTest {
         scrollRobot.scrollUp(5);
 
         // then:
-        verify(mouseRobot, times(5)).scroll(eq(-1));
+        verify(mouseRobot, times(1)).scroll(eq(-5));
     }
 
     @Test
@@ -76,7 +77,7 @@ public class ScrollRobotImplTest {
         scrollRobot.scroll(3, VerticalDirection.UP);
 
         // then:
-        verify(mouseRobot, times(3)).scroll(eq(-1));
+        verify(mouseRobot, times(1)).scroll(eq(-3));
     }
 
     @Test
@@ -85,7 +86,7 @@ public class ScrollRobotImplTest {
         scrollRobot.scroll(3, VerticalDirection.DOWN);
 
         // then:
-        verify(mouseRobot, times(3)).scroll(eq(1));
+        verify(mouseRobot, times(1)).scroll(eq(3));
     }
 
     @Test
@@ -94,7 +95,7 @@ public class ScrollRobotImplTest {
         scrollRobot.scroll(4, HorizontalDirection.LEFT);
 
         // then:
-        verify(mouseRobot, times(4)).scroll(eq(-1));
+        verify(mouseRobot, times(1)).scroll(eq(-12.0), eq(0.0), eq(ScrollUnit.LINES));
     }
 
     @Test
@@ -103,7 +104,7 @@ public class ScrollRobotImplTest {
         scrollRobot.scroll(6, HorizontalDirection.RIGHT);
 
         // then:
-        verify(mouseRobot, times(6)).scroll(eq(1));
+        verify(mouseRobot, times(1)).scroll(eq(18.0), eq(0.0), eq(ScrollUnit.LINES));
     }
 
     @Test
@@ -112,7 +113,7 @@ public class ScrollRobotImplTest {
         scrollRobot.scrollDown(5);
 
         // then:
-        verify(mouseRobot, times(5)).scroll(eq(1));
+        verify(mouseRobot, times(1)).scroll(eq(5));
     }
 
     @Test
@@ -121,7 +122,7 @@ public class ScrollRobotImplTest {
         scrollRobot.scrollLeft(5);
 
         // then:
-        verify(mouseRobot, times(5)).scroll(eq(-1));
+        verify(mouseRobot, times(1)).scroll(eq(-15.0), eq(0.0), eq(ScrollUnit.LINES));
     }
 
     @Test
@@ -130,6 +131,16 @@ public class ScrollRobotImplTest {
         scrollRobot.scrollRight(5);
 
         // then:
-        verify(mouseRobot, times(5)).scroll(eq(1));
+        verify(mouseRobot, times(1)).scroll(eq(15.0), eq(0.0), eq(ScrollUnit.LINES));
     }
+
+    @Test
+    public void scrollBy() {
+        // when:
+        scrollRobot.scrollBy(0, 2.5, ScrollUnit.PAGES);
+
+        // then:
+        verify(mouseRobot, times(1)).scroll(eq(0.0), eq(2.5), eq(ScrollUnit.PAGES));
+    }
+
 }
@@ -22,6 +22,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.testfx.TestFXRule;
+import org.testfx.robot.KeySequence;
 import org.testfx.robot.KeyboardRobot;
 import org.testfx.robot.SleepRobot;
 import org.testfx.robot.TypeRobot;
@@ -40,6 +41,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class TypeRobotImplTest {
 
@@ -147,4 +149,18 @@ public class TypeRobotImplTest {
         verifyNoMoreInteractions(keyboardRobot);
     }
 
+    @Test
+    public void type_with_sequence() {
+        // given:
+        KeySequence sequence = KeySequence.of(500, A).then(SHIFT, B);
+
+        // when:
+        typeRobot.type(sequence);
+
+        // then:
+        verify(keyboardRobot, times(1)).pushSequence(eq(sequence));
+        verifyNoMoreInteractions(keyboardRobot);
+        verifyZeroInteractions(sleepRobot);
+    }
+
 }
@@ -16,7 +16,9 @@
  */
 package org.testfx.robot.impl;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import javafx.scene.Scene;
+import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Region;
 import javafx.stage.Stage;
@@ -32,9 +34,13 @@ import org.testfx.robot.SleepRobot;
 import org.testfx.robot.WriteRobot;
 import org.testfx.service.finder.WindowFinder;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -105,4 +111,52 @@ public class WriteRobotImplTest {
         verify(baseRobot, times(1)).typeKeyboard(eq(scene), eq(KeyCode.UNDEFINED), eq("e"));
     }
 
+    @Test
+    public void write_bulk() {
+        // given:
+        given(windowFinder.targetWindow()).willReturn(stage);
+
+        // when:
+        writeRobot.writeBulk("ae");
+
+        // then:
+        verify(baseRobot, times(1)).typeText(eq(scene), eq("ae"));
+        verify(sleepRobot, never()).sleep(anyLong());
+    }
+
+    @Test
+    public void insert_text_without_focused_text_input() {
+        // given:
+        given(windowFinder.targetWindow()).willReturn(stage);
+
+        // when:
+        writeRobot.insertText("ae");
+
+        // then:
+        verify(baseRobot, times(1)).typeText(eq(scene), eq("ae"));
+    }
+
+    @Test
+    public void insert_text_into_focused_text_input_without_toggling_editable() throws Exception {
+        // given:
+        TextField textField = FxToolkit.setupFixture(() -> {
+            TextField field = new TextField("x");
+            scene.setRoot(field);
+            field.requestFocus();
+            field.end();
+            return field;
+        });
+        AtomicInteger editableChanges = new AtomicInteger();
+        textField.editableProperty().addListener((observable, oldValue, newValue) -> editableChanges.incrementAndGet());
+        given(windowFinder.targetWindow()).willReturn(stage);
+
+        // when:
+        writeRobot.insertText("ae");
+
+        // then:
+        verify(baseRobot, times(1)).typeText(eq(scene), eq("ae"));
+        assertThat(textField.getText(), is("xae"));
+        assertThat(editableChanges.get(), is(0));
+    }
+
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.adapter.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.testfx.TestFXRule;
+import org.testfx.api.FxToolkit;
+import org.testfx.matcher.control.TextInputControlMatchers;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testfx.api.FxAssert.verifyThat;
+
+public class InjectingRobotAdapterTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    InjectingRobotAdapter robotAdapter;
+    Stage targetStage;
+    Button button;
+    TextField textField;
+    List<String> buttonEvents;
+
+    @BeforeClass
+    public static void setupSpec() throws Exception {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws Exception {
+        buttonEvents = new ArrayList<>();
+        targetStage = FxToolkit.setupStage(stage -> {
+            button = new Button("click me");
+            button.setOnAction(event -> buttonEvents.add("action"));
+            button.addEventHandler(MouseEvent.MOUSE_ENTERED, event -> buttonEvents.add("entered"));
+            button.addEventHandler(MouseEvent.MOUSE_EXITED, event -> buttonEvents.add("exited"));
+            button.addEventHandler(MouseEvent.DRAG_DETECTED, event -> buttonEvents.add("drag detected"));
+            button.addEventHandler(ScrollEvent.SCROLL, event -> buttonEvents.add("scroll " + event.getDeltaY()));
+            textField = new TextField();
+
+            VBox box = new VBox(button, textField);
+            box.setPadding(new Insets(10));
+            box.setSpacing(10);
+            stage.setScene(new Scene(box, 300, 300));
+            stage.show();
+        });
+        robotAdapter = new InjectingRobotAdapter();
+    }
+
+    @Test
+    public void mouseMove_fires_entered_and_exited() {
+        // when:
+        robotAdapter.mouseMove(centerOf(button.localToScreen(button.getBoundsInLocal())));
+        robotAdapter.mouseMove(centerOf(textField.localToScreen(textField.getBoundsInLocal())));
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // then:
+        assertThat(buttonEvents, equalTo(Arrays.asList("entered", "exited")));
+    }
+
+    @Test
+    public void mousePress_and_mouseRelease_click_button() {
+        // given:
+        robotAdapter.mouseMove(centerOf(button.localToScreen(button.getBoundsInLocal())));
+
+        // when:
+        robotAdapter.mousePress(MouseButton.PRIMARY);
+        robotAdapter.mouseRelease(MouseButton.PRIMARY);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // then:
+        assertThat(buttonEvents, hasItems("action"));
+        assertThat(robotAdapter.getMouseLocation(),
+                equalTo(centerOf(button.localToScreen(button.getBoundsInLocal()))));
+    }
+
+    @Test
+    public void keyPress_types_into_focused_text_field() {
+        // given:
+        robotAdapter.mouseMove(centerOf(textField.localToScreen(textField.getBoundsInLocal())));
+        robotAdapter.mousePress(MouseButton.PRIMARY);
+        robotAdapter.mouseRelease(MouseButton.PRIMARY);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // when:
+        robotAdapter.keyPress(KeyCode.SHIFT);
+        robotAdapter.keyPress(KeyCode.A);
+        robotAdapter.keyRelease(KeyCode.A);
+        robotAdapter.keyRelease(KeyCode.SHIFT);
+        robotAdapter.keyPress(KeyCode.B);
+        robotAdapter.keyRelease(KeyCode.B);
+        robotAdapter.keyPress(KeyCode.DIGIT1);
+        robotAdapter.keyRelease(KeyCode.DIGIT1);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // then:
+        assertThat(textField.isFocused(), is(true));
+        verifyThat(textField, TextInputControlMatchers.hasText("Ab1"));
+    }
+
+    @Test
+    public void mouseWheel_scrolls_node_under_mouse() {
+        // given:
+        robotAdapter.mouseMove(centerOf(button.localToScreen(button.getBoundsInLocal())));
+
+        // when:
+        robotAdapter.mouseWheel(1);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // then:
+        assertThat(buttonEvents, hasItems("scroll -40.0"));
+    }
+
+    @Test
+    public void mouseMove_with_pressed_button_fires_drag_detected_beyond_hysteresis() {
+        // given:
+        Point2D center = centerOf(button.localToScreen(button.getBoundsInLocal()));
+        robotAdapter.mouseMove(center);
+        robotAdapter.mousePress(MouseButton.PRIMARY);
+
+        // when:
+        robotAdapter.mouseMove(center.add(2, 0));
+        WaitForAsyncUtils.waitForFxEvents();
+        List<String> eventsWithinHysteresis = new ArrayList<>(buttonEvents);
+        robotAdapter.mouseMove(center.add(20, 0));
+        robotAdapter.mouseMove(center.add(30, 0));
+        robotAdapter.mouseRelease(MouseButton.PRIMARY);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // then:
+        assertThat(eventsWithinHysteresis.contains("drag detected"), is(false));
+        assertThat(buttonEvents.stream().filter("drag detected"::equals).count(), is(1L));
+    }
+
+    @Test
+    public void getCapturePixelColor_returns_color_of_scene() throws Exception {
+        // given:
+        FxToolkit.setupFixture(() -> targetStage.getScene().setFill(Color.RED));
+        Point2D location = targetStage.getScene().getRoot().localToScreen(150, 280);
+
+        // when:
+        Color color = robotAdapter.getCapturePixelColor(location);
+
+        // then:
+        assertThat(color, equalTo(Color.RED));
+    }
+
+    private static Point2D centerOf(Bounds bounds) {
+        return new Point2D(bounds.getMinX() + bounds.getWidth() / 2, bounds.getMinY() + bounds.getHeight() / 2);
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.locator.impl;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.testfx.TestFXRule;
+import org.testfx.api.FxToolkit;
+import org.testfx.service.locator.BoundsLocator;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
+
+public class CachingBoundsLocatorTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    BoundsLocator delegate;
+    BoundsLocator boundsLocator;
+    Stage stage;
+    Pane pane;
+    Rectangle rectangle;
+
+    @BeforeClass
+    public static void setupSpec() throws Exception {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws Exception {
+        stage = FxToolkit.registerStage(Stage::new);
+        FxToolkit.setupStage(stage -> {
+            rectangle = new Rectangle(10, 10, 50, 50);
+            pane = new Pane(rectangle);
+            stage.setScene(new Scene(pane, 200, 200));
+            stage.setX(100);
+            stage.setY(100);
+            stage.show();
+        });
+        delegate = spy(new BoundsLocatorImpl());
+        boundsLocator = new CachingBoundsLocator(delegate);
+    }
+
+    @Test
+    public void boundsOnScreenFor_node_is_memoized() throws Exception {
+        // when:
+        Bounds bounds = waitForAsyncFx(1000, () -> boundsLocator.boundsOnScreenFor(rectangle));
+
+        // then:
+        assertThat(waitForAsyncFx(1000, () -> boundsLocator.boundsOnScreenFor(rectangle)), sameInstance(bounds));
+        verify(delegate, times(1)).boundsOnScreenFor(rectangle);
+    }
+
+    @Test
+    public void boundsOnScreenFor_node_is_invalidated_by_layout() throws Exception {
+        // given:
+        Bounds bounds = waitForAsyncFx(1000, () -> boundsLocator.boundsOnScreenFor(rectangle));
+
+        // when:
+        Bounds movedBounds = waitForAsyncFx(1000, () -> {
+            pane.setTranslateX(20);
+            return boundsLocator.boundsOnScreenFor(rectangle);
+        });
+
+        // then:
+        assertThat(movedBounds.getMinX(), equalTo(bounds.getMinX() + 20));
+        assertThat(movedBounds, equalTo(delegate.boundsOnScreenFor(rectangle)));
+    }
+
+    @Test
+    public void boundsOnScreenFor_node_is_invalidated_by_size() throws Exception {
+        // given:
+        Bounds bounds = waitForAsyncFx(1000, () -> boundsLocator.boundsOnScreenFor(rectangle));
+
+        // when:
+        Bounds resizedBounds = waitForAsyncFx(1000, () -> {
+            rectangle.setWidth(80);
+            return boundsLocator.boundsOnScreenFor(rectangle);
+        });
+
+        // then:
+        assertThat(resizedBounds, not(equalTo(bounds)));
+        assertThat(resizedBounds.getWidth(), equalTo(80.0));
+    }
+
+    @Test
+    public void boundsOnScreenFor_node_is_invalidated_by_window_move() throws Exception {
+        // given:
+        Bounds bounds = waitForAsyncFx(1000, () -> boundsLocator.boundsOnScreenFor(rectangle));
+
+        // when:
+        Bounds movedBounds = waitForAsyncFx(1000, () -> {
+            stage.setX(stage.getX() + 30);
+            return boundsLocator.boundsOnScreenFor(rectangle);
+        });
+
+        // then:
+        assertThat(movedBounds.getMinX(), equalTo(bounds.getMinX() + 30));
+    }
+
+    @Test
+    public void boundsOnScreenFor_node_is_invalidated_repeatedly() throws Exception {
+        // given:
+        Bounds bounds = waitForAsyncFx(1000, () -> boundsLocator.boundsOnScreenFor(rectangle));
+        waitForAsyncFx(1000, () -> {
+            pane.setTranslateX(20);
+            return boundsLocator.boundsOnScreenFor(rectangle);
+        });
+
+        // when:
+        Bounds movedBounds = waitForAsyncFx(1000, () -> {
+            pane.setTranslateX(40);
+            return boundsLocator.boundsOnScreenFor(rectangle);
+        });
+
+        // then:
+        assertThat(movedBounds.getMinX(), equalTo(bounds.getMinX() + 40));
+    }
+
+    @Test
+    public void boundsOnScreenFor_node_is_not_memoized_off_fx_thread() {
+        // when:
+        Bounds bounds = boundsLocator.boundsOnScreenFor(rectangle);
+
+        // then:
+        assertThat(boundsLocator.boundsOnScreenFor(rectangle), equalTo(bounds));
+        verify(delegate, times(2)).boundsOnScreenFor(rectangle);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import java.util.BitSet;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Rectangle2D;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PixelMaskTest {
+
+    @Test
+    public void all_selects_every_pixel() {
+        // when:
+        BitSet pixels = PixelMask.all().selectedPixels(10, 5);
+
+        // then:
+        assertThat(pixels.cardinality(), equalTo(50));
+    }
+
+    @Test
+    public void include_selects_only_included_pixels() {
+        // when:
+        BitSet pixels = PixelMask.all().include(new Rectangle2D(2, 1, 3, 2)).selectedPixels(10, 5);
+
+        // then:
+        assertThat(pixels.cardinality(), equalTo(6));
+        assertThat(pixels.get(10 + 2), is(true));
+        assertThat(pixels.get(2 * 10 + 4), is(true));
+        assertThat(pixels.get(2 * 10 + 5), is(false));
+    }
+
+    @Test
+    public void exclude_deselects_partially_covered_pixels() {
+        // when:
+        BitSet pixels = PixelMask.all().exclude(new BoundingBox(0.5, 0, 1, 5)).selectedPixels(10, 5);
+
+        // then:
+        assertThat(pixels.cardinality(), equalTo(40));
+        assertThat(pixels.get(0), is(false));
+        assertThat(pixels.get(1), is(false));
+        assertThat(pixels.get(2), is(true));
+    }
+
+    @Test
+    public void exclude_takes_precedence_over_include() {
+        // when:
+        BitSet pixels = PixelMask.all()
+                .include(new Rectangle2D(0, 0, 4, 4))
+                .exclude(new Rectangle2D(2, 2, 20, 20))
+                .selectedPixels(10, 5);
+
+        // then:
+        assertThat(pixels.cardinality(), equalTo(12));
+    }
+
+    @Test
+    public void selectsAll_only_without_areas() {
+        // expect:
+        assertThat(PixelMask.all().selectsAll(), is(true));
+        assertThat(PixelMask.all().exclude(new Rectangle2D(0, 0, 1, 1)).selectsAll(), is(false));
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support;
+
+import javafx.geometry.Rectangle2D;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TiledCaptureSessionTest {
+
+    static final Rectangle2D REGION = new Rectangle2D(0, 0, 10, 10);
+
+    CaptureSupport captureSupport;
+    CaptureSession session;
+
+    @Before
+    public void setup() {
+        captureSupport = mock(CaptureSupport.class);
+        session = new TiledCaptureSession(captureSupport, REGION, 4);
+    }
+
+    @Test
+    public void first_capture_changes_all_tiles() {
+        // given:
+        when(captureSupport.captureRegionPixels(REGION)).thenReturn(RawCapture.wrap(new int[10 * 10], 10, 10));
+
+        // when:
+        CaptureStep step = session.capture();
+
+        // then:
+        assertThat(step.getStepIndex(), equalTo(0));
+        assertThat(step.getTileCount(), equalTo(9));
+        assertThat(step.getChangedTiles().size(), equalTo(9));
+    }
+
+    @Test
+    public void default_capture_session_is_tiled() {
+        // given:
+        when(captureSupport.startCaptureSession(REGION)).thenCallRealMethod();
+
+        // expect:
+        assertThat(captureSupport.startCaptureSession(REGION) instanceof TiledCaptureSession, is(true));
+    }
+
+    @Test
+    public void capture_reports_changed_tiles() {
+        // given:
+        int[] pixels = new int[10 * 10];
+        int[] changedPixels = new int[10 * 10];
+        changedPixels[5 * 10 + 9] = 0xFFFFFFFF;
+        when(captureSupport.captureRegionPixels(REGION))
+                .thenReturn(RawCapture.wrap(pixels, 10, 10))
+                .thenReturn(RawCapture.wrap(changedPixels, 10, 10))
+                .thenReturn(RawCapture.wrap(changedPixels, 10, 10));
+        session.capture();
+
+        // when:
+        CaptureStep changedStep = session.capture();
+        CaptureStep unchangedStep = session.capture();
+
+        // then:
+        assertThat(changedStep.getChangedTiles().size(), equalTo(1));
+        assertThat(changedStep.getChangedTiles().get(0), equalTo(new Rectangle2D(8, 4, 2, 4)));
+        assertThat(changedStep.toMask().selectedPixels(10, 10).cardinality(), equalTo(8));
+        assertThat(unchangedStep.hasChanges(), is(false));
+        assertThat(unchangedStep.toMask().selectedPixels(10, 10).isEmpty(), is(true));
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support.impl;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.testfx.service.support.BaselineStore;
+import org.testfx.service.support.RawCapture;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BaselineStoreImplTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    Path cacheDirectory;
+    Path baseline;
+    BaselineStore store;
+
+    @Before
+    public void setup() throws Exception {
+        cacheDirectory = testFolder.newFolder("cache").toPath();
+        baseline = testFolder.getRoot().toPath().resolve("acme-login-expected.png");
+        try (InputStream inputStream = getClass().getResourceAsStream("acme-login-expected.png")) {
+            Files.copy(inputStream, baseline);
+        }
+        store = new BaselineStoreImpl(cacheDirectory, 4);
+    }
+
+    @Test
+    public void load() {
+        // when:
+        RawCapture capture = store.load(baseline);
+
+        // then:
+        assertThat(capture.getWidth(), equalTo(300));
+        assertThat(capture.getHeight(), equalTo(384));
+        assertThat(store.load(baseline), sameInstance(capture));
+    }
+
+    @Test
+    public void load_from_cache_directory() throws Exception {
+        // given:
+        RawCapture capture = store.load(baseline);
+
+        // when:
+        RawCapture cachedCapture = new BaselineStoreImpl(cacheDirectory, 4).load(baseline);
+
+        // then:
+        try (Stream<Path> cacheFiles = Files.list(cacheDirectory)) {
+            assertThat(cacheFiles.count(), equalTo(1L));
+        }
+        assertThat(cachedCapture.getWidth(), equalTo(capture.getWidth()));
+        assertThat(cachedCapture.getHeight(), equalTo(capture.getHeight()));
+        assertThat(cachedCapture.getPixels(), equalTo(capture.getPixels()));
+    }
+
+    @Test
+    public void load_evicts_cache_files_beyond_cache_directory_size() throws Exception {
+        // given:
+        Path staleTempFile = Files.createFile(cacheDirectory.resolve("stale.argb.tmp"));
+        Files.setLastModifiedTime(staleTempFile, FileTime.fromMillis(0));
+        store = new BaselineStoreImpl(cacheDirectory, 4, 1);
+
+        // when:
+        RawCapture capture = store.load(baseline);
+
+        // then:
+        try (Stream<Path> cacheFiles = Files.list(cacheDirectory)) {
+            assertThat(cacheFiles.count(), equalTo(0L));
+        }
+        assertThat(capture.getWidth(), equalTo(300));
+    }
+
+    @Test
+    public void prefetch() throws Exception {
+        // when:
+        store.prefetch(Collections.singletonList(baseline)).get();
+
+        // then:
+        try (Stream<Path> cacheFiles = Files.list(cacheDirectory)) {
+            assertThat(cacheFiles.count(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void approve_replaces_baseline() throws Exception {
+        // given:
+        store.load(baseline);
+        Path candidate = store.candidatePathFor(baseline);
+        ImageIO.write(new BufferedImage(10, 20, BufferedImage.TYPE_INT_ARGB), "png", candidate.toFile());
+
+        // when:
+        store.approve(baseline);
+
+        // then:
+        assertThat(Files.exists(candidate), is(false));
+        RawCapture capture = store.load(baseline);
+        assertThat(capture.getWidth(), equalTo(10));
+        assertThat(capture.getHeight(), equalTo(20));
+    }
+
+    @Test
+    public void reject_discards_candidate() throws Exception {
+        // given:
+        Path candidate = store.candidatePathFor(baseline);
+        ImageIO.write(new BufferedImage(10, 20, BufferedImage.TYPE_INT_ARGB), "png", candidate.toFile());
+
+        // when:
+        store.reject(baseline);
+
+        // then:
+        assertThat(Files.exists(candidate), is(false));
+        assertThat(store.load(baseline).getWidth(), equalTo(300));
+    }
+
+}
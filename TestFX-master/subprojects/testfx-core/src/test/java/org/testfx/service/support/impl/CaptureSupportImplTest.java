@@ -28,8 +28,10 @@ import javafx.geometry.Rectangle2D;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
 import org.junit.Before;
@@ -42,7 +44,10 @@ import org.testfx.api.FxRobot;
 import org.testfx.api.FxToolkit;
 import org.testfx.robot.impl.BaseRobotImpl;
 import org.testfx.service.support.CaptureSupport;
+import org.testfx.service.support.PixelMask;
+import org.testfx.service.support.PixelMatcher;
 import org.testfx.service.support.PixelMatcherResult;
+import org.testfx.service.support.RawCapture;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -102,6 +107,19 @@ public class CaptureSupportImplTest extends FxRobot {
         assertThat(image.getHeight(), equalTo(200.0));
     }
 
+    @Test
+    public void capture_region_pixels() {
+        // when:
+        RawCapture capture = capturer.captureRegionPixels(new Rectangle2D(0, 0, 100, 200));
+
+        // then:
+        assertThat(capture.getWidth(), equalTo(100));
+        assertThat(capture.getHeight(), equalTo(200));
+        assertThat(capture.getPixels().remaining(), equalTo(100 * 200));
+        assertThat(capture.getImage().getWidth(), equalTo(100.0));
+        assertThat(capture.getImage().getHeight(), equalTo(200.0));
+    }
+
     @Test
     public void load_image() {
         // when:
@@ -141,6 +159,62 @@ public class CaptureSupportImplTest extends FxRobot {
         verifyThat(result.getNonMatchFactor(), closeTo(0.02, /* tolerance */ 0.01));
     }
 
+    @Test
+    public void match_images_with_mask() {
+        // given:
+        Image image0 = capturer.loadImage(resourcePath(getClass(), "acme-login-expected.png"));
+        Image image1 = capturer.loadImage(resourcePath(getClass(), "acme-login-actual.png"));
+        PixelMask mask = PixelMask.all().exclude(new Rectangle2D(0, 0, 300, 192));
+
+        // when:
+        PixelMatcherResult result = capturer.matchImages(image0, image1, new PixelMatcherRgb(), mask);
+        PixelMatcherResult unmaskedResult = capturer.matchImages(image0, image1, new PixelMatcherRgb());
+
+        // then:
+        assertThat(result.getTotalPixels(), equalTo(300L * 192));
+        assertThat(result.getMaskedPixels(), equalTo(300L * 192));
+        assertThat(result.getNonMatchPixels() <= unmaskedResult.getNonMatchPixels(), is(true));
+    }
+
+    @Test
+    public void match_images_with_mask_without_pixel_matcher_base() {
+        // given:
+        Image image0 = capturer.loadImage(resourcePath(getClass(), "acme-login-expected.png"));
+        Image image1 = capturer.loadImage(resourcePath(getClass(), "acme-login-actual.png"));
+        PixelMask mask = PixelMask.all().exclude(new Rectangle2D(0, 0, 300, 192));
+        PixelMatcherRgb rgbMatcher = new PixelMatcherRgb();
+        PixelMatcher matcher = new PixelMatcher() {
+            @Override
+            public PixelMatcherResult match(Image image0, Image image1) {
+                throw new AssertionError("unmasked match is not expected");
+            }
+
+            @Override
+            public boolean matchColors(Color color0, Color color1) {
+                return rgbMatcher.matchColors(color0, color1);
+            }
+
+            @Override
+            public WritableImage createEmptyMatchImage(Image image0, Image image1) {
+                return rgbMatcher.createEmptyMatchImage(image0, image1);
+            }
+
+            @Override
+            public Color createMatchColor(Color color0, Color color1) {
+                return rgbMatcher.createMatchColor(color0, color1);
+            }
+        };
+
+        // when:
+        PixelMatcherResult result = capturer.matchImages(image0, image1, matcher, mask);
+        PixelMatcherResult baseResult = capturer.matchImages(image0, image1, rgbMatcher, mask);
+
+        // then:
+        assertThat(result.getTotalPixels(), equalTo(300L * 192));
+        assertThat(result.getMaskedPixels(), equalTo(300L * 192));
+        assertThat(result.getNonMatchPixels(), equalTo(baseResult.getNonMatchPixels()));
+    }
+
     @Test
     public void matchImagesFromScene() throws IOException {
         // given:
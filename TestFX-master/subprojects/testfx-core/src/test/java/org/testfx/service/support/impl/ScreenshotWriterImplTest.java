@@ -0,0 +1,89 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.service.support.impl;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.testfx.service.support.RawCapture;
+import org.testfx.service.support.ScreenshotWriter;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ScreenshotWriterImplTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    ScreenshotWriter writer;
+
+    @Before
+    public void setup() {
+        writer = new ScreenshotWriterImpl(2, 4, 1);
+    }
+
+    @After
+    public void cleanup() {
+        writer.close();
+    }
+
+    @Test
+    public void write_capture() throws Exception {
+        // given:
+        int[] pixels = new int[10 * 20];
+        Arrays.fill(pixels, 0xFF336699);
+        RawCapture capture = RawCapture.wrap(pixels, 10, 20);
+        Path path = testFolder.getRoot().toPath().resolve("capture.png");
+
+        // when:
+        Path writtenPath = writer.write(capture, path).get();
+
+        // then:
+        assertThat(writtenPath, equalTo(path));
+        BufferedImage image = ImageIO.read(path.toFile());
+        assertThat(image.getWidth(), equalTo(10));
+        assertThat(image.getHeight(), equalTo(20));
+        assertThat(image.getRGB(5, 5), equalTo(0xFF336699));
+    }
+
+    @Test
+    public void flush_writes_all_captures() throws Exception {
+        // given:
+        RawCapture capture = RawCapture.wrap(new int[100 * 100], 100, 100);
+
+        // when:
+        for (int i = 0; i < 10; i++) {
+            writer.write(capture, testFolder.getRoot().toPath().resolve("capture-" + i + ".png"));
+        }
+        writer.flush(10000);
+
+        // then:
+        for (int i = 0; i < 10; i++) {
+            assertThat(testFolder.getRoot().toPath().resolve("capture-" + i + ".png").toFile().isFile(), is(true));
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.Collections;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.testfx.TestFXRule;
+import org.testfx.api.FxToolkit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ApplicationSnapshotTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    Stage stage;
+    Label label;
+    Parent root;
+
+    @Before
+    public void setup() throws Exception {
+        stage = FxToolkit.registerPrimaryStage();
+        root = FxToolkit.setupSceneRoot(() -> {
+            label = new Label("initial");
+            return new StackPane(label);
+        });
+        FxToolkit.showStage();
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        FxToolkit.cleanupStages();
+    }
+
+    @Test
+    public void restore_resets_scene_title_and_hooked_state() throws Exception {
+        // given:
+        ApplicationSnapshot snapshot = FxToolkit.snapshotApplication(() -> {
+            String text = label.getText();
+            return () -> label.setText(text);
+        });
+        Scene scene = stage.getScene();
+        String title = stage.getTitle();
+
+        // when:
+        FxToolkit.setupStage(stage -> {
+            stage.setScene(new Scene(new Label("other")));
+            stage.setTitle("changed");
+            label.setText("changed");
+        });
+        FxToolkit.restoreApplication(snapshot);
+
+        // then:
+        assertThat(stage.getScene(), sameInstance(scene));
+        assertThat(scene.getRoot(), sameInstance(root));
+        assertThat(stage.getTitle(), is(title));
+        assertThat(label.getText(), is("initial"));
+    }
+
+    @Test
+    public void restore_shows_hidden_stage_and_hides_new_windows() throws Exception {
+        // given:
+        ApplicationSnapshot snapshot = FxToolkit.snapshotApplication();
+        Stage otherStage = FxToolkit.setupFixture(() -> {
+            Stage newStage = new Stage();
+            newStage.setScene(new Scene(new Label("other")));
+            newStage.show();
+            return newStage;
+        });
+        FxToolkit.hideStage();
+
+        // when:
+        FxToolkit.restoreApplication(snapshot);
+
+        // then:
+        assertThat(stage.isShowing(), is(true));
+        assertThat(otherStage.isShowing(), is(false));
+        assertThat(snapshot.contains(otherStage), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void capture_outside_the_fx_application_thread() throws Exception {
+        // expect:
+        ApplicationSnapshot.capture(Collections.singletonList(stage), Collections.emptyList());
+    }
+
+}
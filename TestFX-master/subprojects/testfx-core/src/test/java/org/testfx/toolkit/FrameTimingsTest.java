@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.testfx.TestFXRule;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class FrameTimingsTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    @Before
+    public void setup() throws Exception {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Test
+    public void measures_pulses_while_running() throws Exception {
+        // given:
+        FrameTimings frameTimings = FrameTimings.start();
+
+        // when:
+        WaitForAsyncUtils.sleep(500, TimeUnit.MILLISECONDS);
+        frameTimings.stop();
+
+        // then:
+        assertThat(frameTimings.getFrameCount(), greaterThan(1L));
+        assertThat(frameTimings.getFramesPerSecond(), greaterThan(0.0));
+        assertThat(frameTimings.getMaxFrameIntervalMillis(), greaterThanOrEqualTo(
+                frameTimings.getMeanFrameIntervalMillis()));
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class HeadlessProfileTest {
+
+    private static final String PULSE_PROPERTY = "javafx.animation.pulse";
+
+    private final String profileProperty = System.getProperty(HeadlessProfile.PROFILE_PROPERTY);
+
+    @After
+    public void cleanup() {
+        if (profileProperty == null) {
+            System.clearProperty(HeadlessProfile.PROFILE_PROPERTY);
+        }
+        else {
+            System.setProperty(HeadlessProfile.PROFILE_PROPERTY, profileProperty);
+        }
+    }
+
+    @Test
+    public void fromSystemProperties_ignores_case() {
+        // given:
+        System.setProperty(HeadlessProfile.PROFILE_PROPERTY, "Throughput");
+
+        // expect:
+        assertThat(HeadlessProfile.fromSystemProperties(), is(Optional.of(HeadlessProfile.THROUGHPUT)));
+    }
+
+    @Test
+    public void fromSystemProperties_without_profile() {
+        // given:
+        System.clearProperty(HeadlessProfile.PROFILE_PROPERTY);
+
+        // expect:
+        assertThat(HeadlessProfile.fromSystemProperties(), is(Optional.empty()));
+    }
+
+    @Test
+    public void fromSystemProperties_with_unknown_profile() {
+        // given:
+        System.setProperty(HeadlessProfile.PROFILE_PROPERTY, "fastest");
+
+        // expect:
+        assertThat(HeadlessProfile.fromSystemProperties(), is(Optional.empty()));
+    }
+
+    @Test
+    public void getSystemProperties_of_throughput_profile() {
+        // expect:
+        assertThat(HeadlessProfile.THROUGHPUT.getSystemProperties().get("prism.order"), is("sw"));
+        assertThat(HeadlessProfile.THROUGHPUT.getSystemProperties().get(PULSE_PROPERTY), is("30"));
+        assertThat(HeadlessProfile.THROUGHPUT.getSystemProperties().get("headless.geometry"), is("1280x800-32"));
+    }
+
+    @Test
+    public void apply_sets_missing_properties() {
+        // given:
+        Properties properties = new Properties();
+
+        // when:
+        HeadlessProfile.FIDELITY.apply(properties);
+
+        // then:
+        assertThat(properties.getProperty("prism.order"), is("sw"));
+        assertThat(properties.getProperty("prism.lcdtext"), is("true"));
+        assertThat(properties.getProperty(PULSE_PROPERTY), is("60"));
+        assertThat(properties.getProperty("headless.geometry"), is("1920x1080-32"));
+    }
+
+    @Test
+    public void apply_keeps_properties_that_are_already_set() {
+        // given:
+        Properties properties = new Properties();
+        properties.setProperty(PULSE_PROPERTY, "45");
+
+        // when:
+        HeadlessProfile.THROUGHPUT.apply(properties);
+
+        // then:
+        assertThat(properties.getProperty(PULSE_PROPERTY), is("45"));
+        assertThat(properties.getProperty("prism.order"), is("sw"));
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.testfx.TestFXRule;
+import org.testfx.api.FxToolkit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
+
+public class ToolkitStateTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    @Before
+    public void setup() throws Exception {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Test
+    public void isRunning_after_launch() {
+        // expect:
+        assertThat(ToolkitState.isRunning(), is(true));
+        assertThat(FxToolkit.isFXApplicationThreadRunning(), is(true));
+    }
+
+    @Test
+    public void awaitReady_returns_once_launched() throws Exception {
+        // expect:
+        ToolkitState.awaitReady(1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void markStarted_on_the_fx_application_thread() {
+        // when:
+        waitForAsyncFx(2000, ToolkitState::markStarted);
+
+        // then:
+        assertThat(ToolkitState.isRunning(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void markStarted_outside_the_fx_application_thread() {
+        // expect:
+        ToolkitState.markStarted();
+    }
+
+}
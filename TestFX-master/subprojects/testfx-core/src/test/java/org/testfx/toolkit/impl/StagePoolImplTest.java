@@ -0,0 +1,183 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.toolkit.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.stage.Screen;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+import javafx.stage.WindowEvent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.testfx.TestFXRule;
+import org.testfx.api.FxRobot;
+import org.testfx.api.FxToolkit;
+import org.testfx.toolkit.StagePool;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testfx.util.WaitForAsyncUtils.waitForAsyncFx;
+
+public class StagePoolImplTest {
+
+    @Rule
+    public TestFXRule testFXRule = new TestFXRule();
+
+    StagePool stagePool;
+
+    @Before
+    public void setup() throws Exception {
+        FxToolkit.registerPrimaryStage();
+        stagePool = new StagePoolImpl();
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        FxToolkit.toolkitContext().setStagePoolEnabled(false);
+        FxToolkit.releasePooledStages();
+        stagePool.releaseAll();
+        FxToolkit.cleanupStages();
+    }
+
+    @Test
+    public void prewarm_creates_shown_idle_stages() throws Exception {
+        // when:
+        stagePool.prewarm(2, StageStyle.UNDECORATED);
+
+        // then:
+        assertThat(stagePool.idleCount(StageStyle.UNDECORATED), is(2));
+        assertThat(stagePool.idleCount(StageStyle.DECORATED), is(0));
+    }
+
+    @Test
+    public void acquire_returns_shown_opaque_stage() throws Exception {
+        // given:
+        stagePool.prewarm(1, StageStyle.DECORATED);
+
+        // when:
+        Stage stage = stagePool.acquire();
+
+        // then:
+        assertThat(stagePool.idleCount(StageStyle.DECORATED), is(0));
+        assertThat(stagePool.isIdle(stage), is(false));
+        assertThat(stage.isShowing(), is(true));
+        assertThat(stage.getOpacity(), is(1.0));
+    }
+
+    @Test
+    public void release_resets_stage_and_reuses_it() throws Exception {
+        // given:
+        Stage stage = stagePool.acquire();
+        Scene scene = waitForAsyncFx(2000, () -> {
+            Scene testScene = new Scene(new Label("test"), 200, 100);
+            stage.setScene(testScene);
+            stage.setTitle("test");
+            stage.hide();
+            return testScene;
+        });
+
+        // when:
+        stagePool.release(stage);
+
+        // then:
+        assertThat(stagePool.isIdle(stage), is(true));
+        assertThat(stage.isShowing(), is(true));
+        assertThat(stage.getScene(), not(sameInstance(scene)));
+        assertThat(stage.getTitle(), is(""));
+        assertThat(stage.getOpacity(), is(0.0));
+        assertThat(stagePool.acquire(), sameInstance(stage));
+    }
+
+    @Test
+    public void idle_stage_is_parked_off_screen() throws Exception {
+        // when:
+        stagePool.prewarm(1, StageStyle.DECORATED);
+        Stage stage = stagePool.acquire();
+        stagePool.release(stage);
+
+        // then:
+        double screensMaxX = waitForAsyncFx(2000, () -> Screen.getScreens().stream()
+                .mapToDouble(screen -> screen.getBounds().getMaxX()).max().getAsDouble());
+        assertThat(stage.getX() > screensMaxX, is(true));
+    }
+
+    @Test
+    public void acquire_shows_idle_stage_hidden_while_idle() throws Exception {
+        // given:
+        Stage idleStage = stagePool.acquire();
+        stagePool.release(idleStage);
+        waitForAsyncFx(2000, idleStage::hide);
+
+        // when:
+        Stage stage = stagePool.acquire();
+
+        // then:
+        assertThat(stage, sameInstance(idleStage));
+        assertThat(stage.isShowing(), is(true));
+        assertThat(stage.getOpacity(), is(1.0));
+    }
+
+    @Test
+    public void cleanup_stages_keeps_idle_pooled_stages_shown() throws Exception {
+        // given:
+        Stage stage = FxToolkit.registerPooledStage();
+        FxToolkit.releasePooledStages();
+
+        // when:
+        FxToolkit.cleanupStages();
+
+        // then:
+        assertThat(FxToolkit.stagePool().isIdle(stage), is(true));
+        assertThat(stage.isShowing(), is(true));
+    }
+
+    @Test
+    public void pooled_test_stage_survives_test_cleanup_without_being_shown_again() throws Exception {
+        // given:
+        FxToolkit.toolkitContext().setStagePoolEnabled(true);
+        Stage stage = FxToolkit.registerTestStage();
+        AtomicInteger shownCount = new AtomicInteger();
+        FxToolkit.setupFixture(() -> stage.addEventHandler(WindowEvent.WINDOW_SHOWN,
+                event -> shownCount.incrementAndGet()));
+
+        // when:
+        FxToolkit.cleanupAfterTest(new FxRobot(), true, null);
+        FxToolkit.cleanupStages();
+        Stage nextStage = FxToolkit.registerTestStage();
+        FxToolkit.cleanupAfterTest(new FxRobot(), true, null);
+
+        // then:
+        assertThat(nextStage, sameInstance(stage));
+        assertThat(FxToolkit.stagePool().isIdle(stage), is(true));
+        assertThat(stage.isShowing(), is(true));
+        assertThat(shownCount.get(), is(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void release_rejects_foreign_stage() throws Exception {
+        // expect:
+        stagePool.release(FxToolkit.toolkitContext().getRegisteredStage());
+    }
+
+}
@@ -16,10 +16,13 @@
  */
 package org.testfx.util;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.Scene;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
 import javafx.scene.layout.Region;
@@ -31,7 +34,9 @@ import org.hamcrest.Matcher;
 import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.testfx.TestFXRule;
+import org.testfx.api.FxService;
 import org.testfx.api.FxToolkit;
 import org.testfx.cases.TestCaseBase;
 import org.testfx.service.support.FiredEvents;
@@ -45,6 +50,7 @@ import static org.testfx.api.FxAssert.verifyThat;
 import static org.testfx.util.DebugUtils.compose;
 import static org.testfx.util.DebugUtils.insertHeader;
 import static org.testfx.util.DebugUtils.runCode;
+import static org.testfx.util.DebugUtils.saveTestImage;
 import static org.testfx.util.DebugUtils.showFiredEvents;
 import static org.testfx.util.DebugUtils.showKeysPressedAtTestFailure;
 import static org.testfx.util.DebugUtils.showMouseButtonsPressedAtTestFailure;
@@ -59,12 +65,30 @@ public class DebugUtilsTest extends TestCaseBase {
     @Rule
     public TestFXRule testFXRule = new TestFXRule();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @After
     public void cleanup() {
         release(KEY);
         release(MOUSE_BUTTON);
     }
 
+    @Test
+    public void saveTestImage_creates_parent_directory_and_queues_image() throws Exception {
+        // given:
+        Path path = testFolder.getRoot().toPath().resolve("screenshots").resolve("image.png");
+
+        // when:
+        StringBuilder message = saveTestImage(captureSupport -> new WritableImage(2, 2), () -> path, INDENT)
+                .apply(new StringBuilder());
+        FxService.serviceContext().getScreenshotWriter().flush(5000);
+
+        // then:
+        assertThat(message.toString(), containsString("Test image queued for saving at:"));
+        assertThat(Files.exists(path), is(true));
+    }
+
     @Test
     public void composingMessageWithNoArgs() {
         // when:
@@ -118,6 +118,26 @@ public class WaitForAsyncUtilsFxTest {
         waitForThreads(future);
     }
 
+    @Test
+    public void waitForAsyncFxUnwrapped_rethrows_runtime_exception_unchanged() throws Throwable {
+        // given:
+        WaitForAsyncUtils.clearExceptions();
+        UnsupportedOperationException failure = new UnsupportedOperationException();
+
+        // when:
+        try {
+            WaitForAsyncUtils.waitForAsyncFxUnwrapped(TIME_TO_WAIT * 10, () -> {
+                throw failure;
+            });
+            fail("waitForAsyncFxUnwrapped didn't rethrow the exception");
+        }
+        catch (UnsupportedOperationException e) {
+            // then:
+            assertTrue(e == failure);
+        }
+        WaitForAsyncUtils.checkException();
+    }
+
     void waitForException(Future<?> f) throws InterruptedException {
         Thread.sleep(TIME_TO_WAIT);
         assertTrue(f.isDone());
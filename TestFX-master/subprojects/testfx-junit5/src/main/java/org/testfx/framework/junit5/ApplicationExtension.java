@@ -16,14 +16,10 @@
  */
 package org.testfx.framework.junit5;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-import javafx.scene.input.KeyCode;
-import javafx.scene.input.MouseButton;
+import java.lang.invoke.MethodHandle;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import javafx.stage.Window;
 
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
@@ -32,136 +28,213 @@ import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 import org.testfx.api.FxRobot;
+import org.testfx.api.FxRobotContext;
 import org.testfx.api.FxToolkit;
-import org.testfx.util.WaitForAsyncUtils;
+import org.testfx.service.support.FiredEvents;
+import org.testfx.toolkit.ApplicationSnapshot;
 
 public class ApplicationExtension extends FxRobot implements BeforeEachCallback, AfterEachCallback,
         TestInstancePostProcessor, ParameterResolver {
 
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(ApplicationExtension.class);
+
     private ApplicationFixture applicationFixture;
 
     @Override
     public void postProcessTestInstance(Object testInstance, ExtensionContext context) throws Exception {
-        List<Method> init = new ArrayList<>();
-        List<Method> start = new ArrayList<>();
-        List<Method> stop = new ArrayList<>();
-        Class<?> testClass = testInstance.getClass();
-        Method[] methods = testClass.getDeclaredMethods();
-        for (Method method : methods) {
-            method.setAccessible(true);
-            if (method.isAnnotationPresent(Init.class)) {
-                init.add(validateInitMethod(method));
-            }
-            if (method.isAnnotationPresent(Start.class)) {
-                start.add(validateStartMethod(method));
-            }
-            if (method.isAnnotationPresent(Stop.class)) {
-                stop.add(validateStopMethod(method));
-            }
-        }
-        Field[] fields = testClass.getDeclaredFields();
-        for (Field field : fields) {
-            if (field.getType().isAssignableFrom(FxRobot.class)) {
-                setField(testInstance, field, this);
-            }
-        }
-        applicationFixture = new AnnotationBasedApplicationFixture(testInstance, init, start, stop);
+        setRobotFields(testInstance, this);
+        applicationFixture = createApplicationFixture(testInstance);
+    }
+
+    private ApplicationFixture createApplicationFixture(Object testInstance) {
+        return new AnnotationBasedApplicationFixture(testInstance, FixtureMetadata.of(testInstance.getClass()));
+    }
+
+    private void setRobotFields(Object testInstance, FxRobot robot) throws Exception {
+        FixtureMetadata.of(testInstance.getClass()).injectRobot(testInstance, robot);
     }
 
     @Override
     public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
-        return parameterContext.getParameter().getType().isAssignableFrom(FxRobot.class);
+        Class<?> type = parameterContext.getParameter().getType();
+        return type.isAssignableFrom(FxRobot.class) ||
+                type == FiredEvents.class && isIsolated(extensionContext);
     }
 
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
-        return this;
+        IsolatedTest isolatedTest = extensionContext.getStore(NAMESPACE).get(IsolatedTest.class, IsolatedTest.class);
+        if (isolatedTest == null) {
+            return this;
+        }
+        return parameterContext.getParameter().getType() == FiredEvents.class ?
+                isolatedTest.firedEvents : isolatedTest.robot;
     }
 
     @Override
     public void beforeEach(ExtensionContext context) throws Exception {
+        if (isIsolated(context)) {
+            beforeEachIsolated(context);
+            return;
+        }
+        ReuseApplication reuseApplication = findReuseApplication(context);
+        if (reuseApplication == null) {
+            // the primary stage, or a pooled stage that afterEach releases if enabled by testfx.stage_pool
+            FxToolkit.registerTestStage();
+            FxToolkit.setupApplication(() -> new ApplicationAdapter(applicationFixture));
+            return;
+        }
+        // a reused application keeps its stage, so it is not released to the stage pool after each test
         FxToolkit.registerPrimaryStage();
-        FxToolkit.setupApplication(() -> new ApplicationAdapter(applicationFixture));
+        Object testInstance = context.getRequiredTestInstance();
+        ExtensionContext.Store store = reuseApplication.value() == ReuseApplication.Scope.JVM ?
+                context.getRoot().getStore(NAMESPACE) : context.getParent().orElse(context).getStore(NAMESPACE);
+        Object key = reuseApplication.value() == ReuseApplication.Scope.JVM && !reuseApplication.key().isEmpty() ?
+                reuseApplication.key() : context.getRequiredTestClass().getName();
+        ReusedApplication reusedApplication = store.get(key, ReusedApplication.class);
+        if (reusedApplication == null) {
+            ApplicationAdapter applicationAdapter = new ApplicationAdapter(applicationFixture);
+            FxToolkit.setupApplication(() -> applicationAdapter);
+            ApplicationSnapshot snapshot = testInstance instanceof ApplicationSnapshot.StateHook ?
+                    FxToolkit.snapshotApplication((ApplicationSnapshot.StateHook) testInstance) :
+                    FxToolkit.snapshotApplication();
+            store.put(key, new ReusedApplication(applicationAdapter, snapshot));
+        }
+        else {
+            FxToolkit.restoreApplication(reusedApplication.snapshot);
+        }
     }
 
     @Override
     public void afterEach(ExtensionContext context) throws Exception {
-        FxToolkit.cleanupApplication(new ApplicationAdapter(applicationFixture));
+        if (isIsolated(context)) {
+            afterEachIsolated(context);
+            return;
+        }
         // Cleaning the remaining UI events (e.g. a mouse press that is still waiting for a mouse release)
         // Not cleaning these events may have side-effects on the next UI tests
-        release(new KeyCode[0]);
-        release(new MouseButton[0]);
-        // Required to wait for the end of the UI events processing
-        WaitForAsyncUtils.waitForFxEvents();
+        FxToolkit.cleanupAfterTest(this, false,
+                findReuseApplication(context) == null ? new ApplicationAdapter(applicationFixture) : null);
     }
 
-    private Method validateInitMethod(Method initMethod) {
-        if (initMethod.getParameterCount() != 0) {
-            throw new IllegalStateException("Method annotated with @Init should have no arguments");
-        }
-        return initMethod;
+    /**
+     * Sets up the application on a stage of its own, without touching the registered stage of {@link FxToolkit},
+     * so that other tests may do the same at the same time.
+     */
+    private void beforeEachIsolated(ExtensionContext context) throws Exception {
+        FxToolkit.prestartToolkit();
+        FxToolkit.awaitToolkitReady(FxToolkit.toolkitContext().getLaunchTimeoutInMillis());
+        Platform.setImplicitExit(false);
+        Object testInstance = context.getRequiredTestInstance();
+        Stage stage = FxToolkit.stagePool().acquire();
+        FxRobot robot = new FxRobot(FxRobotContext.isolatedTo(stage));
+        FiredEvents firedEvents = FxToolkit.setupFixture(() -> FiredEvents.beginStoringFiredEventsOf(stage));
+        IsolatedTest isolatedTest = new IsolatedTest(stage, robot, firedEvents,
+                new ApplicationAdapter(createApplicationFixture(testInstance)));
+        context.getStore(NAMESPACE).put(IsolatedTest.class, isolatedTest);
+        setRobotFields(testInstance, robot);
+        FxToolkit.setupApplication(stage, () -> isolatedTest.application);
+        FxToolkit.setupFixture(stage::sizeToScene);
     }
 
-    private Method validateStartMethod(Method startMethod) {
-        Class<?>[] parameterTypes = startMethod.getParameterTypes();
-        if (parameterTypes.length != 1 || !parameterTypes[0].isAssignableFrom(javafx.stage.Stage.class)) {
-            throw new IllegalStateException("Method annotated with @Start should have one argument of type " +
-                    "javafx.stage.Stage");
+    private void afterEachIsolated(ExtensionContext context) throws Exception {
+        IsolatedTest isolatedTest = context.getStore(NAMESPACE).remove(IsolatedTest.class, IsolatedTest.class);
+        if (isolatedTest == null) {
+            return;
+        }
+        try {
+            FxToolkit.cleanupAfterTest(isolatedTest.robot, false, isolatedTest.application);
+        }
+        finally {
+            FxToolkit.setupFixture(() -> {
+                isolatedTest.firedEvents.stopStoringFiredEvents();
+                isolatedTest.robot.listWindows().stream()
+                        .filter(window -> window != isolatedTest.stage)
+                        .forEach(Window::hide);
+            });
+            FxToolkit.stagePool().release(isolatedTest.stage);
         }
-        return startMethod;
     }
 
-    private Method validateStopMethod(Method stopMethod) {
-        if (stopMethod.getParameterCount() != 0) {
-            throw new IllegalStateException("Method annotated with @Stop should have no arguments");
+    private static boolean isIsolated(ExtensionContext context) {
+        return context.getTestClass().map(testClass -> testClass.isAnnotationPresent(IsolatedStages.class))
+                .orElse(false);
+    }
+
+    private static ReuseApplication findReuseApplication(ExtensionContext context) {
+        return context.getTestClass().map(testClass -> testClass.getAnnotation(ReuseApplication.class)).orElse(null);
+    }
+
+    /**
+     * The stage, robot, fired events and application of a single test in {@link IsolatedStages} mode.
+     */
+    private static class IsolatedTest {
+
+        private final Stage stage;
+        private final FxRobot robot;
+        private final FiredEvents firedEvents;
+        private final ApplicationAdapter application;
+
+        private IsolatedTest(Stage stage, FxRobot robot, FiredEvents firedEvents, ApplicationAdapter application) {
+            this.stage = stage;
+            this.robot = robot;
+            this.firedEvents = firedEvents;
+            this.application = application;
         }
-        return stopMethod;
+
     }
 
-    private void setField(Object instance, Field field, Object val) throws IllegalAccessException {
-        boolean wasAccessible = field.isAccessible();
-        try {
-            field.setAccessible(true);
-            field.set(instance, val);
+    /**
+     * An application that is kept across tests, stopped when the JUnit store that holds it is closed.
+     */
+    private static class ReusedApplication implements ExtensionContext.Store.CloseableResource {
+
+        private final ApplicationAdapter applicationAdapter;
+        private final ApplicationSnapshot snapshot;
+
+        private ReusedApplication(ApplicationAdapter applicationAdapter, ApplicationSnapshot snapshot) {
+            this.applicationAdapter = applicationAdapter;
+            this.snapshot = snapshot;
         }
-        finally {
-            field.setAccessible(wasAccessible);
+
+        @Override
+        public void close() throws Throwable {
+            if (FxToolkit.isFXApplicationThreadRunning()) {
+                FxToolkit.cleanupApplication(applicationAdapter);
+            }
         }
+
     }
 
     private static class AnnotationBasedApplicationFixture implements ApplicationFixture {
 
         private final Object testInstance;
-        private final List<Method> init;
-        private final List<Method> start;
-        private final List<Method> stop;
+        private final FixtureMetadata metadata;
 
-        private AnnotationBasedApplicationFixture(Object testInstance, List<Method> init,
-                                                  List<Method> start, List<Method> stop) {
+        private AnnotationBasedApplicationFixture(Object testInstance, FixtureMetadata metadata) {
             this.testInstance = testInstance;
-            this.init = init;
-            this.start = start;
-            this.stop = stop;
+            this.metadata = metadata;
         }
 
         @Override
-        public void init() throws InvocationTargetException, IllegalAccessException {
-            for (Method method : init) {
-                method.invoke(testInstance);
+        public void init() throws Exception {
+            for (MethodHandle method : metadata.getInitMethods()) {
+                FixtureMetadata.invoke(method, testInstance);
             }
         }
 
         @Override
-        public void start(Stage stage) throws InvocationTargetException, IllegalAccessException {
-            for (Method method : start) {
-                method.invoke(testInstance, stage);
+        public void start(Stage stage) throws Exception {
+            for (MethodHandle method : metadata.getStartMethods()) {
+                FixtureMetadata.invoke(method, testInstance, stage);
             }
         }
 
         @Override
-        public void stop() throws InvocationTargetException, IllegalAccessException {
-            for (Method method : stop) {
-                method.invoke(testInstance);
+        public void stop() throws Exception {
+            for (MethodHandle method : metadata.getStopMethods()) {
+                FixtureMetadata.invoke(method, testInstance);
             }
         }
 
@@ -20,8 +20,6 @@ import javafx.application.Application;
 import javafx.application.Application.Parameters;
 import javafx.application.HostServices;
 import javafx.application.Preloader.PreloaderNotification;
-import javafx.scene.input.KeyCode;
-import javafx.scene.input.MouseButton;
 import javafx.stage.Stage;
 
 import org.junit.jupiter.api.AfterEach;
@@ -38,18 +36,16 @@ public abstract class ApplicationTest extends FxRobot implements ApplicationFixt
 
     @BeforeEach
     public final void internalBefore() throws Exception {
-        FxToolkit.registerPrimaryStage();
+        // the primary stage, or a pooled stage if enabled by the testfx.stage_pool property
+        FxToolkit.registerTestStage();
         FxToolkit.setupApplication(() -> new ApplicationAdapter(this));
     }
 
     @AfterEach
     public final void internalAfter() throws Exception {
-        // release all keys
-        release(new KeyCode[0]);
-        // release all mouse buttons
-        release(new MouseButton[0]);
-        FxToolkit.cleanupStages();
-        FxToolkit.cleanupApplication(new ApplicationAdapter(this));
+        // release all keys and mouse buttons, hide all windows (release a pooled stage instead) and stop the
+        // application in one go
+        FxToolkit.cleanupAfterTest(this, true, new ApplicationAdapter(this));
     }
 
     @Override
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.junit5;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javafx.stage.Stage;
+
+import org.testfx.api.FxRobot;
+
+/**
+ * The {@link Init @Init}, {@link Start @Start} and {@link Stop @Stop} methods and the {@link FxRobot} fields of a
+ * test class, including those inherited from its superclasses, resolved once per class to {@link MethodHandle}s.
+ * <p>
+ * Superclass members come before subclass members. A method that is overridden is only taken from the most
+ * specific class, and only if it is annotated there.
+ */
+final class FixtureMetadata {
+
+    private static final MethodType NO_ARGUMENTS = MethodType.methodType(void.class, Object.class);
+    private static final MethodType STAGE_ARGUMENT = MethodType.methodType(void.class, Object.class, Stage.class);
+    private static final MethodType VALUE_ARGUMENT = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<FixtureMetadata> CACHE = new ClassValue<FixtureMetadata>() {
+        @Override
+        protected FixtureMetadata computeValue(Class<?> testClass) {
+            return new FixtureMetadata(testClass);
+        }
+    };
+
+    private final List<MethodHandle> initMethods = new ArrayList<>();
+    private final List<MethodHandle> startMethods = new ArrayList<>();
+    private final List<MethodHandle> stopMethods = new ArrayList<>();
+    private final List<MethodHandle> robotFieldSetters = new ArrayList<>();
+
+    private FixtureMetadata(Class<?> testClass) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Set<String> overriddenSignatures = new HashSet<>();
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> type = testClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            hierarchy.push(type);
+        }
+        // Walk up from the test class, so that an overriding method hides the methods it overrides.
+        List<Method> methods = new ArrayList<>();
+        for (Class<?> type = testClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            List<Method> declaredMethods = new ArrayList<>();
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+                boolean overridable = !Modifier.isPrivate(method.getModifiers()) &&
+                        !Modifier.isStatic(method.getModifiers());
+                if (overridable && !overriddenSignatures.add(signature)) {
+                    continue;
+                }
+                declaredMethods.add(method);
+            }
+            methods.addAll(0, declaredMethods);
+        }
+        try {
+            for (Method method : methods) {
+                if (method.isAnnotationPresent(Init.class)) {
+                    initMethods.add(unreflect(lookup, validateInitMethod(method), NO_ARGUMENTS));
+                }
+                if (method.isAnnotationPresent(Start.class)) {
+                    startMethods.add(unreflect(lookup, validateStartMethod(method), STAGE_ARGUMENT));
+                }
+                if (method.isAnnotationPresent(Stop.class)) {
+                    stopMethods.add(unreflect(lookup, validateStopMethod(method), NO_ARGUMENTS));
+                }
+            }
+            for (Class<?> type : hierarchy) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (field.getType().isAssignableFrom(FxRobot.class)) {
+                        robotFieldSetters.add(unreflectSetter(lookup, field));
+                    }
+                }
+            }
+        }
+        catch (IllegalAccessException exception) {
+            throw new IllegalStateException("cannot access the fixture members of " + testClass.getName(), exception);
+        }
+    }
+
+    /**
+     * Returns the (cached) metadata of the given test class.
+     */
+    static FixtureMetadata of(Class<?> testClass) {
+        return CACHE.get(testClass);
+    }
+
+    List<MethodHandle> getInitMethods() {
+        return Collections.unmodifiableList(initMethods);
+    }
+
+    List<MethodHandle> getStartMethods() {
+        return Collections.unmodifiableList(startMethods);
+    }
+
+    List<MethodHandle> getStopMethods() {
+        return Collections.unmodifiableList(stopMethods);
+    }
+
+    /**
+     * Assigns the given robot to all {@link FxRobot} fields of the given test instance.
+     */
+    void injectRobot(Object testInstance, FxRobot robot) throws Exception {
+        for (MethodHandle setter : robotFieldSetters) {
+            invoke(setter, testInstance, robot);
+        }
+    }
+
+    /**
+     * Invokes the given handle, rethrowing what the underlying member throws as is.
+     */
+    static void invoke(MethodHandle handle, Object... arguments) throws Exception {
+        try {
+            handle.invokeWithArguments(arguments);
+        }
+        catch (Exception | Error exception) {
+            throw exception;
+        }
+        catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method, MethodType type)
+            throws IllegalAccessException {
+        method.setAccessible(true);
+        MethodHandle handle = lookup.unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    private static MethodHandle unreflectSetter(MethodHandles.Lookup lookup, Field field)
+            throws IllegalAccessException {
+        field.setAccessible(true);
+        MethodHandle handle = lookup.unreflectSetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(VALUE_ARGUMENT);
+    }
+
+    private static Method validateInitMethod(Method initMethod) {
+        if (initMethod.getParameterCount() != 0) {
+            throw new IllegalStateException("Method annotated with @Init should have no arguments");
+        }
+        return initMethod;
+    }
+
+    private static Method validateStartMethod(Method startMethod) {
+        Class<?>[] parameterTypes = startMethod.getParameterTypes();
+        if (parameterTypes.length != 1 || !parameterTypes[0].isAssignableFrom(javafx.stage.Stage.class)) {
+            throw new IllegalStateException("Method annotated with @Start should have one argument of type " +
+                    "javafx.stage.Stage");
+        }
+        return startMethod;
+    }
+
+    private static Method validateStopMethod(Method stopMethod) {
+        if (stopMethod.getParameterCount() != 0) {
+            throw new IllegalStateException("Method annotated with @Stop should have no arguments");
+        }
+        return stopMethod;
+    }
+
+}
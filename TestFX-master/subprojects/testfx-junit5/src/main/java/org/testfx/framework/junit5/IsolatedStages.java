@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.junit5;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+
+/**
+ * Makes {@link ApplicationExtension} give every test its own stage from {@link org.testfx.api.FxToolkit#stagePool()},
+ * its own {@link org.testfx.api.FxRobot} (see {@link org.testfx.api.FxRobotContext#isolatedTo(javafx.stage.Window)})
+ * and its own {@link org.testfx.service.support.FiredEvents}, so that the tests of the class can run concurrently,
+ * e.g. with {@code @Execution(ExecutionMode.CONCURRENT)}.
+ * <p>
+ * The robot and fired events are passed as test method parameters, and assigned to {@code FxRobot} fields of
+ * the test instance before each test; with {@code @TestInstance(Lifecycle.PER_CLASS)} use parameters, since
+ * concurrent tests share the instance. The robot injects input as JavaFX events into the test's windows, so
+ * it does not move the OS cursor or take keyboard focus.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(TYPE)
+public @interface IsolatedStages { }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.junit5;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+
+/**
+ * Makes {@link ApplicationExtension} set up the application once and reset it to an
+ * {@link org.testfx.toolkit.ApplicationSnapshot} before every further test, instead of setting it up and
+ * stopping it for every test. If the test instance implements
+ * {@link org.testfx.toolkit.ApplicationSnapshot.StateHook}, it is used to record and restore model state.
+ * <p>
+ * Only the test instance that set up the application has its fields assigned by {@code @Start} methods; use
+ * {@code @TestInstance(Lifecycle.PER_CLASS)} or look nodes up through the robot if tests need them.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(TYPE)
+public @interface ReuseApplication {
+
+    /**
+     * How long the application is kept.
+     */
+    Scope value() default Scope.CLASS;
+
+    /**
+     * For {@link Scope#JVM}, test classes that use the same key share one application. Defaults to the name of
+     * the test class, so that a class only shares its application with others that name the same key explicitly.
+     */
+    String key() default "";
+
+    enum Scope {
+
+        /**
+         * The application is set up for the first test of the class and stopped after its last test.
+         */
+        CLASS,
+
+        /**
+         * The application is set up for the first test class with the same {@link #key()} (by default, only the
+         * class itself) and stopped once all tests have run.
+         */
+        JVM
+
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.junit5;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testfx.api.FxAssert.verifyThat;
+import static org.testfx.matcher.control.LabeledMatchers.hasText;
+
+@ExtendWith(ApplicationExtension.class)
+class InheritedFixtureTest extends InheritedFixtureTest.BaseFixture {
+
+    private FxRobot ownRobot;
+
+    @Init
+    void subclassInit() {
+        calls.add("subclass init");
+    }
+
+    @Override
+    void overriddenInit() {
+        calls.add("overridden init without annotation");
+    }
+
+    @Test
+    void should_call_inherited_fixture_methods_superclass_first() {
+        // then:
+        assertThat(calls, is(Arrays.asList("base init", "subclass init", "base start")));
+        verifyThat(".button", hasText("base"));
+    }
+
+    @Test
+    void should_inject_inherited_robot_fields() {
+        // then:
+        assertThat(baseRobot, notNullValue());
+        assertThat(ownRobot, notNullValue());
+    }
+
+    abstract static class BaseFixture {
+
+        final List<String> calls = new ArrayList<>();
+        FxRobot baseRobot;
+
+        @Init
+        void baseInit() {
+            calls.add("base init");
+        }
+
+        @Init
+        void overriddenInit() {
+            calls.add("overridden init");
+        }
+
+        @Start
+        void baseStart(Stage stage) {
+            calls.add("base start");
+            stage.setScene(new Scene(new StackPane(new Button("base")), 100, 100));
+            stage.show();
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.junit5;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.testfx.api.FxRobot;
+import org.testfx.service.support.FiredEvents;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testfx.api.FxAssert.verifyThat;
+import static org.testfx.matcher.control.LabeledMatchers.hasText;
+
+@ExtendWith(ApplicationExtension.class)
+@IsolatedStages
+@Execution(ExecutionMode.CONCURRENT)
+class IsolatedStagesTest {
+
+    // the first two repetitions only pass if they are running at the same time.
+    private static final CountDownLatch OVERLAPPING_REPETITIONS = new CountDownLatch(2);
+
+    private Stage stage;
+
+    @Start
+    void onStart(Stage stage) {
+        this.stage = stage;
+        Button button = new Button("click me!");
+        button.setOnAction(actionEvent -> button.setText("clicked!"));
+        stage.setScene(new Scene(new StackPane(button), 100, 100));
+        stage.show();
+    }
+
+    @RepeatedTest(4)
+    void should_click_on_own_button(FxRobot robot, FiredEvents firedEvents) throws InterruptedException {
+        // given:
+        OVERLAPPING_REPETITIONS.countDown();
+        assertThat(OVERLAPPING_REPETITIONS.await(10, TimeUnit.SECONDS), is(true));
+
+        // when:
+        robot.clickOn(".button");
+
+        // then:
+        verifyThat(robot.lookup(".button").queryButton(), hasText("clicked!"));
+        assertThat(robot.listWindows().contains(stage), is(true));
+        assertThat(firedEvents.getEvents().stream()
+                .anyMatch(event -> event.getEventType() == MouseEvent.MOUSE_CLICKED), is(true));
+    }
+
+}
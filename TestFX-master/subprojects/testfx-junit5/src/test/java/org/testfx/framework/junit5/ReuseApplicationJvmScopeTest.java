@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.junit5;
+
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.testfx.api.FxAssert.verifyThat;
+import static org.testfx.matcher.control.LabeledMatchers.hasText;
+
+@ExtendWith(ApplicationExtension.class)
+class ReuseApplicationJvmScopeTest {
+
+    private static void showLabel(Stage stage, String text) {
+        Label label = new Label(text);
+        label.setId("owner");
+        stage.setScene(new Scene(new StackPane(label), 100, 100));
+        stage.show();
+    }
+
+    @Nested
+    @ReuseApplication(ReuseApplication.Scope.JVM)
+    class FirstClassWithoutKey {
+
+        @Start
+        void onStart(Stage stage) {
+            showLabel(stage, "first");
+        }
+
+        @Test
+        void should_not_share_application_without_key() {
+            // expect:
+            verifyThat("#owner", hasText("first"));
+        }
+
+    }
+
+    @Nested
+    @ReuseApplication(ReuseApplication.Scope.JVM)
+    class SecondClassWithoutKey {
+
+        @Start
+        void onStart(Stage stage) {
+            showLabel(stage, "second");
+        }
+
+        @Test
+        void should_not_share_application_without_key() {
+            // expect:
+            verifyThat("#owner", hasText("second"));
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.junit5;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.toolkit.ApplicationSnapshot;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testfx.api.FxAssert.verifyThat;
+import static org.testfx.matcher.control.LabeledMatchers.hasText;
+
+@ExtendWith(ApplicationExtension.class)
+@ReuseApplication
+class ReuseApplicationTest implements ApplicationSnapshot.StateHook {
+
+    private static final AtomicInteger START_COUNT = new AtomicInteger();
+
+    private Button button;
+
+    @Start
+    void onStart(Stage stage) {
+        START_COUNT.incrementAndGet();
+        button = new Button("click me!");
+        button.setOnAction(actionEvent -> button.setText("clicked!"));
+        stage.setScene(new Scene(new StackPane(button), 100, 100));
+        stage.show();
+    }
+
+    @Override
+    public Runnable capture() {
+        Button capturedButton = button;
+        String text = capturedButton.getText();
+        return () -> capturedButton.setText(text);
+    }
+
+    @Test
+    void should_click_on_button(FxRobot robot) {
+        // when:
+        robot.clickOn(".button");
+
+        // then:
+        verifyThat(".button", hasText("clicked!"));
+        assertThat(START_COUNT.get(), is(1));
+    }
+
+    @Test
+    void should_click_on_restored_button(FxRobot robot) {
+        // given:
+        verifyThat(".button", hasText("click me!"));
+
+        // when:
+        robot.clickOn(".button");
+
+        // then:
+        verifyThat(".button", hasText("clicked!"));
+        assertThat(START_COUNT.get(), is(1));
+    }
+
+}
@@ -16,12 +16,12 @@
  */
 package org.testfx.framework.spock
 
+import java.util.concurrent.ConcurrentHashMap
 import javafx.application.Application
-import javafx.scene.input.KeyCode
-import javafx.scene.input.MouseButton
 import javafx.stage.Stage
 import org.testfx.api.FxRobot
 import org.testfx.api.FxToolkit
+import org.testfx.toolkit.ApplicationSnapshot
 import spock.lang.Specification
 
 /**
@@ -50,6 +50,8 @@ import spock.lang.Specification
  */
 abstract class ApplicationSpec extends Specification implements ApplicationFixture {
 
+    private static final Map<Class<?>, ReusedApplication> REUSED_APPLICATIONS = new ConcurrentHashMap<>()
+
     @Delegate
     private final FxRobot robot = new FxRobot()
 
@@ -67,17 +69,47 @@ abstract class ApplicationSpec extends Specification implements ApplicationFixtu
         internalAfter()
     }
 
+    void cleanupSpec() {
+        ReusedApplication reusedApplication = REUSED_APPLICATIONS.remove(getClass())
+        if (reusedApplication != null) {
+            FxToolkit.cleanupApplication(reusedApplication.applicationAdapter)
+        }
+    }
+
     final void internalBefore() throws Exception {
         FxToolkit.registerPrimaryStage()
-        FxToolkit.setupApplication { new ApplicationAdapter(this) }
+        if (!reuseApplication()) {
+            FxToolkit.setupApplication { new ApplicationAdapter(this) }
+            return
+        }
+        ReusedApplication reusedApplication = REUSED_APPLICATIONS.get(getClass())
+        if (reusedApplication == null) {
+            ApplicationAdapter applicationAdapter = new ApplicationAdapter(this)
+            FxToolkit.setupApplication { applicationAdapter }
+            ApplicationSnapshot snapshot = this instanceof ApplicationSnapshot.StateHook ?
+                    FxToolkit.snapshotApplication((ApplicationSnapshot.StateHook) this) :
+                    FxToolkit.snapshotApplication()
+            REUSED_APPLICATIONS.put(getClass(), new ReusedApplication(applicationAdapter, snapshot))
+        }
+        else {
+            FxToolkit.restoreApplication(reusedApplication.snapshot)
+        }
     }
 
     final void internalAfter() throws Exception {
-        // release all keys
-        release(new KeyCode[0])
-        // release all mouse buttons
-        release(new MouseButton[0])
-        FxToolkit.cleanupApplication(new ApplicationAdapter(this))
+        // release all keys and mouse buttons and stop the application (unless it is reused) in one go
+        FxToolkit.cleanupAfterTest(robot, false, reuseApplication() ? null : new ApplicationAdapter(this))
+    }
+
+    /**
+     * Returns whether the application is started once for all features of this specification and reset to an
+     * {@link ApplicationSnapshot} before each further feature, instead of being started and stopped for every
+     * feature. If the specification implements {@link ApplicationSnapshot.StateHook}, it is used to record and
+     * restore model state. Only the specification instance that started the application has its fields
+     * assigned by {@link #start(Stage)}; use {@code @Shared} fields or look nodes up through the robot.
+     */
+    boolean reuseApplication() {
+        false
     }
 
     @Override
@@ -90,4 +122,15 @@ abstract class ApplicationSpec extends Specification implements ApplicationFixtu
     @Override
     void stop() throws Exception {
     }
+
+    private static class ReusedApplication {
+
+        final ApplicationAdapter applicationAdapter
+        final ApplicationSnapshot snapshot
+
+        ReusedApplication(ApplicationAdapter applicationAdapter, ApplicationSnapshot snapshot) {
+            this.applicationAdapter = applicationAdapter
+            this.snapshot = snapshot
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+/**
+ * The outcome of running one test class on a worker.
+ */
+public final class ClassResult {
+
+    private final String className;
+    private final int workerId;
+    private final int runCount;
+    private final int failureCount;
+    private final int ignoreCount;
+    private final long durationMillis;
+
+    public ClassResult(String className, int workerId, int runCount, int failureCount, int ignoreCount,
+                       long durationMillis) {
+        this.className = className;
+        this.workerId = workerId;
+        this.runCount = runCount;
+        this.failureCount = failureCount;
+        this.ignoreCount = ignoreCount;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Returns the result of a class whose worker died before reporting back.
+     */
+    static ClassResult crashed(String className, int workerId, long durationMillis) {
+        return new ClassResult(className, workerId, 0, 1, 0, durationMillis);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public int getWorkerId() {
+        return workerId;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public int getIgnoreCount() {
+        return ignoreCount;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public boolean isSuccessful() {
+        return failureCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return className + ": " + runCount + " run, " + failureCount + " failed, " + ignoreCount + " ignored in " +
+                durationMillis + " ms on worker " + workerId;
+    }
+
+}
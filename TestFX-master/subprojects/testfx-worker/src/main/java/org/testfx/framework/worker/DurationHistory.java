@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The durations of earlier runs of each test class, used by {@link WorkerPool} to hand out the longest classes
+ * first so that no worker is left with a long class at the end of the run. Kept in a properties file of class
+ * names and milliseconds between runs.
+ */
+public class DurationHistory {
+
+    /**
+     * The estimate for classes that were never run, if no class was.
+     */
+    static final long DEFAULT_ESTIMATE_MILLIS = 1000;
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a history kept in the given file, loading it if it exists.
+     */
+    public DurationHistory(Path file) throws IOException {
+        this.file = file;
+        if (file != null && Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(file)) {
+                properties.load(input);
+            }
+            for (String className : properties.stringPropertyNames()) {
+                try {
+                    durations.put(className, Long.parseLong(properties.getProperty(className)));
+                }
+                catch (NumberFormatException ignore) {
+                    // A damaged entry only costs the estimate of one class.
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the expected duration of the given class: its last recorded duration, or the mean of all recorded
+     * durations if it has none.
+     */
+    public long estimateMillis(String className) {
+        Long duration = durations.get(className);
+        if (duration != null) {
+            return duration;
+        }
+        return (long) durations.values().stream().mapToLong(Long::longValue).average()
+                .orElse(DEFAULT_ESTIMATE_MILLIS);
+    }
+
+    public void record(String className, long durationMillis) {
+        durations.put(className, durationMillis);
+    }
+
+    /**
+     * Returns the given classes ordered by descending expected duration.
+     */
+    public List<String> sortLongestFirst(Collection<String> classNames) {
+        List<String> sortedClassNames = new ArrayList<>(classNames);
+        Map<String, Long> estimates = new HashMap<>();
+        sortedClassNames.forEach(className -> estimates.put(className, estimateMillis(className)));
+        sortedClassNames.sort(Comparator.comparing(estimates::get, Comparator.reverseOrder()));
+        return sortedClassNames;
+    }
+
+    /**
+     * Writes the recorded durations back to the file this history was loaded from.
+     */
+    public void save() throws IOException {
+        if (file == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        durations.forEach((className, duration) -> properties.setProperty(className, String.valueOf(duration)));
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        try (OutputStream output = Files.newOutputStream(file)) {
+            properties.store(output, "TestFX test class durations in milliseconds");
+        }
+    }
+
+}
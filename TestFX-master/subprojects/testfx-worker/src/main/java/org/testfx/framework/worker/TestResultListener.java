@@ -0,0 +1,31 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+/**
+ * Receives the results of a {@link WorkerPool} run as they are streamed back by the workers. The methods are
+ * called from the threads that talk to the workers, possibly at the same time.
+ */
+public interface TestResultListener {
+
+    default void testStarted(int workerId, String testName) {}
+
+    default void testFailed(int workerId, String testName, String trace) {}
+
+    default void classFinished(ClassResult result) {}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import javafx.application.Platform;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.testfx.api.FxToolkit;
+
+/**
+ * A worker JVM of a {@link WorkerPool}. It starts the JavaFX toolkit once, connects back to the pool and then runs
+ * the JUnit 4 test classes it is sent, one at a time, streaming the results back as they happen.
+ */
+public final class Worker {
+
+    private final DataInputStream input;
+    private final DataOutputStream output;
+
+    private Worker(Socket socket) throws IOException {
+        input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    /**
+     * Expects the port of the pool on the loopback interface as the only argument.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("usage: Worker <port>");
+        }
+        // Start the toolkit before reporting ready, so that no test class pays for it.
+        FxToolkit.registerPrimaryStage();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]))) {
+            new Worker(socket).serve();
+        }
+        finally {
+            Platform.exit();
+        }
+        System.exit(0);
+    }
+
+    private void serve() throws IOException {
+        WorkerProtocol.write(output, WorkerProtocol.READY);
+        while (true) {
+            String[] message = WorkerProtocol.read(input);
+            if (WorkerProtocol.EXIT.equals(message[0])) {
+                return;
+            }
+            if (WorkerProtocol.RUN.equals(message[0])) {
+                runTestClass(message[1]);
+            }
+        }
+    }
+
+    private void runTestClass(String className) throws IOException {
+        long startNanos = System.nanoTime();
+        Result result;
+        try {
+            JUnitCore junit = new JUnitCore();
+            junit.addListener(new StreamingListener());
+            result = junit.run(Class.forName(className, true, Thread.currentThread().getContextClassLoader()));
+        }
+        catch (ClassNotFoundException | LinkageError exception) {
+            WorkerProtocol.write(output, WorkerProtocol.TEST_FAILED, className, stackTraceOf(exception));
+            WorkerProtocol.write(output, WorkerProtocol.CLASS_FINISHED, "0", "1", "0", elapsedMillis(startNanos));
+            return;
+        }
+        try {
+            // Leave no window of this class behind for the next one.
+            FxToolkit.cleanupStages();
+        }
+        catch (Exception exception) {
+            exception.printStackTrace();
+        }
+        WorkerProtocol.write(output, WorkerProtocol.CLASS_FINISHED, String.valueOf(result.getRunCount()),
+                String.valueOf(result.getFailureCount()), String.valueOf(result.getIgnoreCount()),
+                elapsedMillis(startNanos));
+    }
+
+    private static String elapsedMillis(long startNanos) {
+        return String.valueOf((System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private static String stackTraceOf(Throwable throwable) {
+        StringWriter writer = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    private class StreamingListener extends RunListener {
+
+        @Override
+        public void testStarted(Description description) {
+            send(WorkerProtocol.TEST_STARTED, description.getDisplayName());
+        }
+
+        @Override
+        public void testFailure(Failure failure) {
+            send(WorkerProtocol.TEST_FAILED, failure.getTestHeader(), failure.getTrace());
+        }
+
+        private void send(String type, String... fields) {
+            try {
+                WorkerProtocol.write(output, type, fields);
+            }
+            catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+    }
+
+}
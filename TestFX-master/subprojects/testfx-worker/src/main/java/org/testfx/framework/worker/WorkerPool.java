@@ -0,0 +1,349 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Runs JUnit 4 test classes on a pool of forked worker JVMs, each of which starts the JavaFX toolkit once and then
+ * runs many classes. Since there is one toolkit per JVM, this is how UI tests run in parallel.
+ * <p>
+ * Each worker talks to the pool over its own socket on the loopback interface. Workers take the next class as
+ * soon as they are done with the previous one, and classes are handed out longest first according to the
+ * {@link DurationHistory}, which is updated with the durations of this run. A worker that dies fails the class it
+ * was running and is replaced by a new one. So does a worker that does not finish a class within the class timeout
+ * (the {@code testfx.workers.class_timeout} system property in milliseconds, ten minutes by default and none if
+ * {@code 0}): it is destroyed, and the class is reported as crashed. A worker that fails to start (it exits or
+ * does not report ready within a minute) fails the next pending class instead, so that a broken worker setup
+ * cannot stall the run. If the run is aborted, all workers that are still alive are destroyed.
+ * <p>
+ * Workers inherit the classpath and JVM arguments of the pool (except for debugger agents). Unless the pool sets
+ * {@code testfx.headless} itself, workers run headless with the {@code throughput} headless profile.
+ */
+public class WorkerPool {
+
+    public static final String WORKERS_PROPERTY = "testfx.workers";
+    public static final String HISTORY_PROPERTY = "testfx.workers.history";
+    public static final String CLASS_TIMEOUT_PROPERTY = "testfx.workers.class_timeout";
+
+    private static final String DEFAULT_HISTORY_FILE = "build/testfx-durations.properties";
+    private static final long CONNECT_TIMEOUT_IN_MILLIS = 60_000;
+    private static final int ACCEPT_POLL_INTERVAL_IN_MILLIS = 500;
+    private static final long EXIT_TIMEOUT_IN_SECONDS = 10;
+    private static final long DEFAULT_CLASS_TIMEOUT_IN_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final int workerCount;
+    private final long classTimeoutInMillis;
+    private final DurationHistory history;
+    private final TestResultListener listener;
+    private final String workerClassName;
+    private final Set<Process> workerProcesses = ConcurrentHashMap.newKeySet();
+
+    public WorkerPool(int workerCount, DurationHistory history, TestResultListener listener) {
+        this(workerCount, Long.getLong(CLASS_TIMEOUT_PROPERTY, DEFAULT_CLASS_TIMEOUT_IN_MILLIS), history, listener);
+    }
+
+    /**
+     * Creates a pool whose workers are destroyed when they take longer than {@code classTimeoutInMillis} for a
+     * single class, or never if it is {@code 0}.
+     */
+    public WorkerPool(int workerCount, long classTimeoutInMillis, DurationHistory history,
+                      TestResultListener listener) {
+        this(workerCount, classTimeoutInMillis, history, listener, Worker.class.getName());
+    }
+
+    /**
+     * Creates a pool whose workers run the main method of the given class instead of {@link Worker}'s.
+     */
+    WorkerPool(int workerCount, long classTimeoutInMillis, DurationHistory history, TestResultListener listener,
+               String workerClassName) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be at least 1 but was: " + workerCount);
+        }
+        if (classTimeoutInMillis < 0) {
+            throw new IllegalArgumentException("classTimeoutInMillis must not be negative but was: " +
+                    classTimeoutInMillis);
+        }
+        this.workerCount = workerCount;
+        this.classTimeoutInMillis = classTimeoutInMillis;
+        this.history = history;
+        this.listener = listener;
+        this.workerClassName = workerClassName;
+    }
+
+    /**
+     * Runs the given test classes, the number of workers being the {@code testfx.workers} system property
+     * (defaults to the number of processors), and exits with status 1 if any test failed.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("usage: WorkerPool <test class>...");
+            System.exit(2);
+        }
+        int workerCount = Integer.getInteger(WORKERS_PROPERTY, Runtime.getRuntime().availableProcessors());
+        DurationHistory history = new DurationHistory(Paths.get(System.getProperty(HISTORY_PROPERTY,
+                DEFAULT_HISTORY_FILE)));
+        List<ClassResult> results = new WorkerPool(workerCount, history, new ConsoleListener())
+                .run(Arrays.asList(args));
+        System.exit(results.stream().allMatch(ClassResult::isSuccessful) ? 0 : 1);
+    }
+
+    /**
+     * Runs the given test classes and returns their results once all have finished.
+     */
+    public List<ClassResult> run(Collection<String> classNames) throws IOException, InterruptedException {
+        Queue<String> pendingClassNames = new ConcurrentLinkedQueue<>(history.sortLongestFirst(classNames));
+        List<ClassResult> results = Collections.synchronizedList(new ArrayList<>());
+        int threadCount = Math.max(1, Math.min(workerCount, classNames.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int workerId = 1; workerId <= threadCount; workerId++) {
+                int id = workerId;
+                futures.add(executor.submit(() -> {
+                    serveWorkers(id, pendingClassNames, results);
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        }
+        catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IOException) {
+                throw (IOException) exception.getCause();
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+            // threads that are blocked reading from their workers only return once those are gone.
+            workerProcesses.forEach(Process::destroyForcibly);
+            history.save();
+        }
+        return results;
+    }
+
+    /**
+     * Feeds classes to a worker until there are none left, starting a new worker whenever the current one dies.
+     */
+    private void serveWorkers(int workerId, Queue<String> pendingClassNames, List<ClassResult> results)
+            throws IOException, InterruptedException {
+        while (!pendingClassNames.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+                Process process = startWorker(serverSocket.getLocalPort());
+                workerProcesses.add(process);
+                try {
+                    serveWorker(workerId, pendingClassNames, results, serverSocket, process);
+                }
+                finally {
+                    if (!process.waitFor(EXIT_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                    workerProcesses.remove(process);
+                }
+            }
+        }
+    }
+
+    /**
+     * Connects to a started worker and runs classes on it. A worker that fails to start is destroyed and fails
+     * the next pending class.
+     */
+    private void serveWorker(int workerId, Queue<String> pendingClassNames, List<ClassResult> results,
+                             ServerSocket serverSocket, Process process) {
+        boolean ready = false;
+        try (Socket socket = acceptWorker(workerId, serverSocket, process)) {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            socket.setSoTimeout((int) CONNECT_TIMEOUT_IN_MILLIS);
+            if (!WorkerProtocol.READY.equals(WorkerProtocol.read(input)[0])) {
+                throw new IOException("worker " + workerId + " did not report ready");
+            }
+            socket.setSoTimeout(0);
+            ready = true;
+            if (runClasses(workerId, pendingClassNames, results, process, socket, input, output)) {
+                WorkerProtocol.write(output, WorkerProtocol.EXIT);
+            }
+        }
+        catch (IOException exception) {
+            process.destroyForcibly();
+            // a worker that dies after its last class has already reported all results.
+            if (!ready) {
+                failStartup(workerId, pendingClassNames, results, exception);
+            }
+        }
+    }
+
+    /**
+     * Waits for the worker to connect, giving up early if it exits before.
+     */
+    private static Socket acceptWorker(int workerId, ServerSocket serverSocket, Process process)
+            throws IOException {
+        long startNanos = System.nanoTime();
+        serverSocket.setSoTimeout(ACCEPT_POLL_INTERVAL_IN_MILLIS);
+        while (true) {
+            try {
+                return serverSocket.accept();
+            }
+            catch (SocketTimeoutException exception) {
+                if (!process.isAlive()) {
+                    throw new IOException("worker " + workerId + " exited with status " + process.exitValue() +
+                            " before connecting");
+                }
+                if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) >= CONNECT_TIMEOUT_IN_MILLIS) {
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    private void failStartup(int workerId, Queue<String> pendingClassNames, List<ClassResult> results,
+                             IOException exception) {
+        String className = pendingClassNames.poll();
+        if (className == null) {
+            return;
+        }
+        ClassResult result = ClassResult.crashed(className, workerId, 0);
+        results.add(result);
+        listener.testFailed(workerId, className, "worker " + workerId + " failed to start: " + exception);
+        listener.classFinished(result);
+    }
+
+    /**
+     * Runs classes on a connected worker, returning {@code false} if the worker died or timed out (and has been
+     * destroyed).
+     */
+    private boolean runClasses(int workerId, Queue<String> pendingClassNames, List<ClassResult> results,
+                               Process process, Socket socket, DataInputStream input, DataOutputStream output) {
+        String className;
+        while ((className = pendingClassNames.poll()) != null) {
+            long startNanos = System.nanoTime();
+            try {
+                WorkerProtocol.write(output, WorkerProtocol.RUN, className);
+                ClassResult result = receiveResult(workerId, className, socket, input, startNanos);
+                history.record(className, result.getDurationMillis());
+                results.add(result);
+                listener.classFinished(result);
+            }
+            catch (IOException exception) {
+                process.destroyForcibly();
+                ClassResult result = ClassResult.crashed(className, workerId,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                results.add(result);
+                listener.testFailed(workerId, className, exception instanceof SocketTimeoutException ?
+                        "worker " + workerId + " timed out after " + classTimeoutInMillis + " ms" :
+                        "worker " + workerId + " died: " + exception);
+                listener.classFinished(result);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ClassResult receiveResult(int workerId, String className, Socket socket, DataInputStream input,
+                                      long startNanos) throws IOException {
+        while (true) {
+            if (classTimeoutInMillis > 0) {
+                // the read timeout is what is left of the class timeout.
+                long remainingMillis = classTimeoutInMillis -
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                if (remainingMillis <= 0) {
+                    throw new SocketTimeoutException("class timeout expired");
+                }
+                socket.setSoTimeout((int) Math.min(remainingMillis, Integer.MAX_VALUE));
+            }
+            String[] message = WorkerProtocol.read(input);
+            switch (message[0]) {
+                case WorkerProtocol.TEST_STARTED:
+                    listener.testStarted(workerId, message[1]);
+                    break;
+                case WorkerProtocol.TEST_FAILED:
+                    listener.testFailed(workerId, message[1], message[2]);
+                    break;
+                case WorkerProtocol.CLASS_FINISHED:
+                    return new ClassResult(className, workerId, Integer.parseInt(message[1]),
+                            Integer.parseInt(message[2]), Integer.parseInt(message[3]), Long.parseLong(message[4]));
+                default:
+                    throw new IOException("unexpected message from worker " + workerId + ": " + message[0]);
+            }
+        }
+    }
+
+    private Process startWorker(int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(argument -> !argument.startsWith("-agentlib:jdwp") && !argument.startsWith("-Xrunjdwp"))
+                .collect(Collectors.toList()));
+        if (System.getProperty("testfx.headless") == null) {
+            command.add("-Dtestfx.headless=true");
+            command.add("-Dtestfx.headless.profile=throughput");
+        }
+        String classPath = System.getProperty("java.class.path");
+        if (classPath != null && !classPath.isEmpty()) {
+            command.add("-cp");
+            command.add(classPath);
+        }
+        command.add(workerClassName);
+        command.add(String.valueOf(port));
+        return new ProcessBuilder(command).inheritIO().start();
+    }
+
+    /**
+     * Prints failures and finished classes to the console.
+     */
+    private static class ConsoleListener implements TestResultListener {
+
+        @Override
+        public void testFailed(int workerId, String testName, String trace) {
+            System.out.println("[worker " + workerId + "] FAILED " + testName + System.lineSeparator() + trace);
+        }
+
+        @Override
+        public void classFinished(ClassResult result) {
+            System.out.println("[worker " + result.getWorkerId() + "] " + result);
+        }
+
+    }
+
+}
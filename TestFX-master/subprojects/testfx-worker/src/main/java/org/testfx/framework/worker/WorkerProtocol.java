@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * The messages exchanged between {@link WorkerPool} and {@link Worker} over a local socket. A message is a type
+ * followed by its fields, all written with {@link DataOutputStream#writeUTF(String)}.
+ * <p>
+ * The pool sends {@link #RUN} with a test class name, or {@link #EXIT}. For each class the worker answers with any
+ * number of {@link #TEST_STARTED} and {@link #TEST_FAILED} messages and exactly one {@link #CLASS_FINISHED}.
+ */
+final class WorkerProtocol {
+
+    static final String READY = "READY";
+    static final String RUN = "RUN";
+    static final String EXIT = "EXIT";
+    static final String TEST_STARTED = "TEST_STARTED";
+    static final String TEST_FAILED = "TEST_FAILED";
+    static final String CLASS_FINISHED = "CLASS_FINISHED";
+
+    // writeUTF() accepts at most 65535 bytes, which is at least this many characters.
+    private static final int MAX_FIELD_LENGTH = 65535 / 3;
+
+    private WorkerProtocol() {}
+
+    static void write(DataOutputStream output, String type, String... fields) throws IOException {
+        synchronized (output) {
+            output.writeUTF(type);
+            output.writeInt(fields.length);
+            for (String field : fields) {
+                output.writeUTF(field.length() > MAX_FIELD_LENGTH ? field.substring(0, MAX_FIELD_LENGTH) : field);
+            }
+            output.flush();
+        }
+    }
+
+    /**
+     * Reads the next message, returning its type as the first element followed by its fields.
+     */
+    static String[] read(DataInputStream input) throws IOException {
+        String type = input.readUTF();
+        String[] message = new String[input.readInt() + 1];
+        message[0] = type;
+        for (int index = 1; index < message.length; index++) {
+            message[index] = input.readUTF();
+        }
+        return message;
+    }
+
+}
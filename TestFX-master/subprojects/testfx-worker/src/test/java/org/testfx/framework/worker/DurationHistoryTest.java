@@ -0,0 +1,84 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DurationHistoryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void estimateMillis_without_history() throws Exception {
+        // given:
+        DurationHistory history = new DurationHistory(null);
+
+        // expect:
+        assertThat(history.estimateMillis("a.Test"), is(DurationHistory.DEFAULT_ESTIMATE_MILLIS));
+    }
+
+    @Test
+    public void estimateMillis_of_unknown_class_is_mean_of_recorded_durations() throws Exception {
+        // given:
+        DurationHistory history = new DurationHistory(null);
+        history.record("a.Test", 100);
+        history.record("b.Test", 300);
+
+        // expect:
+        assertThat(history.estimateMillis("a.Test"), is(100L));
+        assertThat(history.estimateMillis("c.Test"), is(200L));
+    }
+
+    @Test
+    public void sortLongestFirst() throws Exception {
+        // given:
+        DurationHistory history = new DurationHistory(null);
+        history.record("short.Test", 10);
+        history.record("long.Test", 5000);
+
+        // when:
+        List<String> sorted = history.sortLongestFirst(Arrays.asList("short.Test", "new.Test", "long.Test"));
+
+        // then:
+        assertThat(sorted, is(Arrays.asList("long.Test", "new.Test", "short.Test")));
+    }
+
+    @Test
+    public void save_and_load() throws Exception {
+        // given:
+        Path file = temporaryFolder.getRoot().toPath().resolve("durations.properties");
+        DurationHistory history = new DurationHistory(file);
+        history.record("a.Test", 1234);
+
+        // when:
+        history.save();
+
+        // then:
+        assertThat(new DurationHistory(file).estimateMillis("a.Test"), is(1234L));
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * A worker for {@link WorkerPoolTest} that answers without starting the toolkit or running JUnit: a class whose
+ * name starts with {@code crash} kills the worker, one that starts with {@code hang} never finishes, and any
+ * other class passes with a single test.
+ */
+public final class FakeWorker {
+
+    private FakeWorker() {}
+
+    public static void main(String[] args) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]))) {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            WorkerProtocol.write(output, WorkerProtocol.READY);
+            while (true) {
+                String[] message = WorkerProtocol.read(input);
+                if (WorkerProtocol.EXIT.equals(message[0])) {
+                    break;
+                }
+                String className = message[1];
+                if (className.startsWith("crash")) {
+                    Runtime.getRuntime().halt(1);
+                }
+                if (className.startsWith("hang")) {
+                    Thread.sleep(Long.MAX_VALUE);
+                }
+                WorkerProtocol.write(output, WorkerProtocol.TEST_STARTED, className + ".test");
+                WorkerProtocol.write(output, WorkerProtocol.CLASS_FINISHED, "1", "0", "0", "5");
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * A worker that exits before connecting to the pool.
+     */
+    public static final class NeverReady {
+
+        private NeverReady() {}
+
+        public static void main(String[] args) {
+            System.exit(3);
+        }
+
+    }
+
+}
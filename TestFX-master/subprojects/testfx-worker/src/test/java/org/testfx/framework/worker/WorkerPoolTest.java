@@ -0,0 +1,120 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WorkerPoolTest {
+
+    static final long NO_CLASS_TIMEOUT = 0;
+
+    @Test(timeout = 60_000)
+    public void run_dispatches_all_classes_to_workers() throws Exception {
+        // given:
+        DurationHistory history = new DurationHistory(null);
+        WorkerPool pool = new WorkerPool(2, NO_CLASS_TIMEOUT, history, new TestResultListener() {},
+                FakeWorker.class.getName());
+
+        // when:
+        List<ClassResult> results = pool.run(Arrays.asList("a.Test", "b.Test", "c.Test"));
+
+        // then:
+        Map<String, ClassResult> resultsByClass = byClassName(results);
+        assertThat(resultsByClass.keySet(), is(new TreeSet<>(Arrays.asList("a.Test", "b.Test", "c.Test"))));
+        assertThat(results.stream().allMatch(ClassResult::isSuccessful), is(true));
+        assertThat(resultsByClass.get("a.Test").getRunCount(), is(1));
+        assertThat(history.estimateMillis("c.Test"), is(5L));
+    }
+
+    @Test(timeout = 60_000)
+    public void run_replaces_crashed_worker() throws Exception {
+        // given:
+        RecordingListener listener = new RecordingListener();
+        WorkerPool pool = new WorkerPool(1, NO_CLASS_TIMEOUT, new DurationHistory(null), listener,
+                FakeWorker.class.getName());
+
+        // when:
+        List<ClassResult> results = pool.run(Arrays.asList("crash.Test", "a.Test"));
+
+        // then:
+        Map<String, ClassResult> resultsByClass = byClassName(results);
+        assertThat(resultsByClass.get("crash.Test").isSuccessful(), is(false));
+        assertThat(resultsByClass.get("a.Test").isSuccessful(), is(true));
+        assertThat(listener.failures.get("crash.Test"), containsString("died"));
+    }
+
+    @Test(timeout = 60_000)
+    public void run_destroys_worker_that_exceeds_class_timeout() throws Exception {
+        // given:
+        RecordingListener listener = new RecordingListener();
+        WorkerPool pool = new WorkerPool(1, 500, new DurationHistory(null), listener, FakeWorker.class.getName());
+
+        // when:
+        List<ClassResult> results = pool.run(Arrays.asList("hang.Test", "a.Test"));
+
+        // then:
+        Map<String, ClassResult> resultsByClass = byClassName(results);
+        assertThat(resultsByClass.get("hang.Test").isSuccessful(), is(false));
+        assertThat(resultsByClass.get("a.Test").isSuccessful(), is(true));
+        assertThat(listener.failures.get("hang.Test"), containsString("timed out"));
+    }
+
+    @Test(timeout = 60_000)
+    public void run_fails_one_class_per_worker_that_does_not_start() throws Exception {
+        // given:
+        RecordingListener listener = new RecordingListener();
+        WorkerPool pool = new WorkerPool(1, NO_CLASS_TIMEOUT, new DurationHistory(null), listener,
+                FakeWorker.NeverReady.class.getName());
+
+        // when:
+        List<ClassResult> results = pool.run(Arrays.asList("a.Test", "b.Test"));
+
+        // then:
+        assertThat(results.size(), is(2));
+        assertThat(results.stream().noneMatch(ClassResult::isSuccessful), is(true));
+        assertThat(listener.failures.get("a.Test"), containsString("failed to start"));
+    }
+
+    private static Map<String, ClassResult> byClassName(List<ClassResult> results) {
+        return results.stream().collect(Collectors.toMap(ClassResult::getClassName, Function.identity()));
+    }
+
+    private static class RecordingListener implements TestResultListener {
+
+        private final Map<String, String> failures = Collections.synchronizedMap(new TreeMap<>());
+
+        @Override
+        public void testFailed(int workerId, String testName, String trace) {
+            failures.put(testName, trace);
+        }
+
+    }
+
+}
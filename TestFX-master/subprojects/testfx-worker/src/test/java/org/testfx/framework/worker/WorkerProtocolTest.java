@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013-2014 SmartBear Software
+ * Copyright 2014-2021 The TestFX Contributors
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved by the
+ * European Commission - subsequent versions of the EUPL (the "Licence"); You may
+ * not use this work except in compliance with the Licence.
+ *
+ * You may obtain a copy of the Licence at:
+ * http://ec.europa.eu/idabc/eupl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the Licence for the
+ * specific language governing permissions and limitations under the Licence.
+ */
+package org.testfx.framework.worker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WorkerProtocolTest {
+
+    @Test
+    public void write_and_read_messages() throws Exception {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+
+        // when:
+        WorkerProtocol.write(output, WorkerProtocol.RUN, "a.Test");
+        WorkerProtocol.write(output, WorkerProtocol.EXIT);
+
+        // then:
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(WorkerProtocol.read(input), is(new String[] {WorkerProtocol.RUN, "a.Test"}));
+        assertThat(WorkerProtocol.read(input), is(new String[] {WorkerProtocol.EXIT}));
+    }
+
+    @Test
+    public void write_truncates_long_fields() throws Exception {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StringBuilder trace = new StringBuilder();
+        for (int index = 0; index < 70_000; index++) {
+            trace.append('\u20ac');
+        }
+
+        // when:
+        WorkerProtocol.write(new DataOutputStream(bytes), WorkerProtocol.TEST_FAILED, "test", trace.toString());
+
+        // then:
+        String[] message = WorkerProtocol.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertThat(message[2].length(), is(65535 / 3));
+    }
+
+}